@@ -2,8 +2,12 @@ package com.beta.application.auth.service;
 
 import com.beta.application.auth.mapper.UserMapper;
 import com.beta.common.exception.auth.UserNotFoundException;
+import com.beta.common.exception.auth.UserSuspendedException;
+import com.beta.common.exception.auth.UserWithdrawnException;
 import com.beta.common.provider.SocialProvider;
 import com.beta.domain.auth.User;
+import com.beta.infra.auth.cache.UserStatusCache;
+import com.beta.infra.auth.entity.UserEntity;
 import com.beta.infra.auth.repository.UserJpaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -14,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserReadService {
 
     private final UserJpaRepository userJpaRepository;
+    private final UserStatusCache userStatusCache;
 
     @Transactional(readOnly = true)
     public User findUserBySocialId(String socialId, SocialProvider socialProvider) {
@@ -36,6 +41,20 @@ public class UserReadService {
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다. userId: " + userId)));
     }
 
+    /**
+     * 쓰기 요청 전 사용자 존재/상태 확인 (엔티티 조회 없이 캐시된 상태값만 사용)
+     */
+    public void validateActiveUser(Long userId) {
+        UserEntity.UserStatus status = userStatusCache.get(userId, userJpaRepository::findStatusById)
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다. userId: " + userId));
+        if (status == UserEntity.UserStatus.WITHDRAWN) {
+            throw new UserWithdrawnException("탈퇴한 사용자입니다.");
+        }
+        if (status == UserEntity.UserStatus.SUSPENDED) {
+            throw new UserSuspendedException("정지된 사용자입니다. 관리자에게 문의 하세요.");
+        }
+    }
+
     @Transactional(readOnly = true)
     public User findUserByEmail(String email) {
         return UserMapper.toDomain(userJpaRepository.findByEmail(email)
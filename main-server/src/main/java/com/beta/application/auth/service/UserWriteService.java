@@ -2,6 +2,7 @@ package com.beta.application.auth.service;
 
 import com.beta.application.auth.dto.UserDto;
 import com.beta.application.auth.mapper.UserMapper;
+import com.beta.infra.auth.cache.UserStatusCache;
 import com.beta.infra.auth.entity.UserConsentEntity;
 import com.beta.infra.auth.entity.UserEntity;
 import com.beta.infra.auth.repository.UserConsentJpaRepository;
@@ -18,6 +19,7 @@ public class UserWriteService {
     private final UserJpaRepository userJpaRepository;
     private final UserConsentJpaRepository userConsentJpaRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserStatusCache userStatusCache;
 
     public UserDto saveUser(UserDto userDto, BaseballTeamEntity baseballTeamEntity) {
         UserDto encryptedUserDto = UserDto.builder()
@@ -34,7 +36,9 @@ public class UserWriteService {
                 .build();
 
         UserEntity userEntity = UserMapper.toEntity(encryptedUserDto, baseballTeamEntity);
-        return UserMapper.toDto(userJpaRepository.save(userEntity));
+        UserEntity savedUser = userJpaRepository.save(userEntity);
+        userStatusCache.evict(savedUser.getId()); // 가입 전 조회로 남아 있을 수 있는 NOT_FOUND 캐시 제거
+        return UserMapper.toDto(savedUser);
     }
 
     public void saveAgreements(Boolean agreeMarketing, Boolean personalInfoRequired, Long id) {
@@ -3,7 +3,9 @@ package com.beta.application.community;
 import com.beta.application.auth.service.UserReadService;
 import com.beta.application.community.service.CommentReadService;
 import com.beta.application.community.service.CommentWriteService;
+import com.beta.presentation.community.response.CommentListResponse;
 import com.beta.presentation.community.response.CommentResponse;
+import com.beta.presentation.community.response.ReplyListResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -11,12 +13,14 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CommentApplicationService {
 
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final CommentWriteService commentWriteService;
     private final CommentReadService commentReadService;
     private final UserReadService userReadService;
 
     public CommentResponse createComment(Long postId, String content, Long parentId, Long userId) {
-        userReadService.findUserById(userId); // 사용자 존재 여부 확인
+        userReadService.validateActiveUser(userId); // 사용자 존재/상태 확인
         commentWriteService.saveComment(postId, userId, content, parentId);
         return CommentResponse.success();
     }
@@ -35,4 +39,20 @@ public class CommentApplicationService {
         commentWriteService.toggleLike(commentId, userId);
         return CommentResponse.success();
     }
+
+    public CommentListResponse getComments(Long postId, Long cursorId, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        return CommentListResponse.of(
+                commentReadService.getComments(postId, cursorId, pageSize + 1),
+                pageSize
+        );
+    }
+
+    public ReplyListResponse getReplies(Long postId, Long commentId, Long cursorId, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        return ReplyListResponse.of(
+                commentReadService.getReplies(postId, commentId, cursorId, pageSize + 1),
+                pageSize
+        );
+    }
 }
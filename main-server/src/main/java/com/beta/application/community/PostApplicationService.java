@@ -2,13 +2,20 @@ package com.beta.application.community;
 
 import com.beta.application.auth.service.UserReadService;
 import com.beta.application.community.dto.HashtagDto;
+import com.beta.application.community.dto.PostWithImagesDto;
 import com.beta.application.community.service.HashtagReadService;
+import com.beta.application.community.service.PostReadService;
 import com.beta.application.community.service.PostWriteService;
+import com.beta.application.community.service.ReactionReadService;
+import com.beta.common.exception.post.InvalidPostFeedRequestException;
 import com.beta.presentation.community.request.EmotionRequest;
 import com.beta.presentation.community.request.PostContentUpdateRequest;
 import com.beta.presentation.community.request.PostCreateRequest;
 import com.beta.presentation.community.response.EmotionResponse;
+import com.beta.presentation.community.response.MyReactionResponse;
 import com.beta.presentation.community.response.PostDeleteResponse;
+import com.beta.presentation.community.response.PostListResponse;
+import com.beta.presentation.community.response.PostSearchResponse;
 import com.beta.presentation.community.response.PostUploadResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -20,18 +27,24 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PostApplicationService {
 
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_AUTOCOMPLETE_SIZE = 20;
+    private static final int MAX_REACTION_LOOKUP_SIZE = 100;
+
     private final PostWriteService postWriteService;
+    private final PostReadService postReadService;
     private final UserReadService userReadService;
     private final HashtagReadService hashtagReadService;
+    private final ReactionReadService reactionReadService;
 
     public PostUploadResponse uploadPost(PostCreateRequest request, Long userId, String teamCode) {
-        userReadService.findUserById(userId); // 사용자 존재 여부 확인
+        userReadService.validateActiveUser(userId); // 사용자 존재/상태 확인
         postWriteService.savePost(userId, request.getAllChannel(), request.getContent(), teamCode, request.getHashtags(), request.getImages());
         return PostUploadResponse.success();
     }
 
     public PostUploadResponse updatePostContent(Long postId, PostContentUpdateRequest request, Long userId) {
-        userReadService.findUserById(userId);
+        userReadService.validateActiveUser(userId);
         postWriteService.updatePost(userId, postId, request.getContent(), request.getHashtags(), request.getDeleteHashtagIds(), request.getImages());
         return PostUploadResponse.success();
     }
@@ -45,8 +58,52 @@ public class PostApplicationService {
         return hashtagReadService.getAllHashtags();
     }
 
+    public PostListResponse getHashtagPosts(List<String> hashtags, String matchType, Long cursorId, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        return PostListResponse.of(
+                postReadService.getHashtagPosts(hashtags, matchType, cursorId, pageSize + 1),
+                pageSize
+        );
+    }
+
+    public PostSearchResponse searchPosts(String keyword, String channel, Double cursorScore, Long cursorId, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        return PostSearchResponse.of(
+                postReadService.searchPosts(keyword, channel, cursorScore, cursorId, pageSize + 1),
+                pageSize
+        );
+    }
+
+    public List<HashtagDto> autocompleteHashtags(String keyword, int size) {
+        return hashtagReadService.autocomplete(keyword, Math.clamp(size, 1, MAX_AUTOCOMPLETE_SIZE));
+    }
+
     public EmotionResponse addOrDeleteEmotion(Long postId, EmotionRequest request, Long userId) {
-        postWriteService.updateEmotion(postId, request.getEmotionType(), userId);
-        return EmotionResponse.success();
+        return EmotionResponse.of(postWriteService.toggleEmotion(postId, request.getEmotionType(), userId));
+    }
+
+    public MyReactionResponse getMyReactions(List<Long> postIds, List<Long> commentIds, Long userId) {
+        List<Long> targetPostIds = postIds != null ? postIds : List.of();
+        List<Long> targetCommentIds = commentIds != null ? commentIds : List.of();
+        if (targetPostIds.size() > MAX_REACTION_LOOKUP_SIZE || targetCommentIds.size() > MAX_REACTION_LOOKUP_SIZE) {
+            throw new InvalidPostFeedRequestException("한 번에 조회할 수 있는 id는 최대 " + MAX_REACTION_LOOKUP_SIZE + "개입니다.");
+        }
+        return MyReactionResponse.of(
+                reactionReadService.getMyEmotions(userId, targetPostIds),
+                reactionReadService.getMyLikedCommentIds(userId, targetCommentIds)
+        );
+    }
+
+    public PostWithImagesDto getPostDetail(Long postId) {
+        return postReadService.getPostWithImages(postId);
+    }
+
+    public PostListResponse getPosts(String channel, String sortType, Long cursorId, Integer cursorEmotionCount, int size, String teamCode) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        String targetChannel = channel != null ? channel : teamCode; // 채널 미지정 시 응원 구단 채널
+        return PostListResponse.of(
+                postReadService.getChannelPosts(targetChannel, sortType, cursorId, cursorEmotionCount, pageSize + 1),
+                pageSize
+        );
     }
 }
@@ -1,11 +1,16 @@
 package com.beta.application.community;
 
 import com.beta.application.community.dto.ImageDto;
+import com.beta.application.community.service.DirectImageUploadService;
 import com.beta.application.community.service.PostImageReadService;
 import com.beta.application.community.service.PostImageWriteService;
 import com.beta.application.community.service.PostReadService;
 import com.beta.common.exception.image.ImageNotFoundException;
+import com.beta.presentation.community.request.DirectUploadRequest;
 import com.beta.presentation.community.request.ImageDeleteRequest;
+import com.beta.presentation.community.request.ImageFinalizeRequest;
+import com.beta.presentation.community.request.ImageOrderUpdateRequest;
+import com.beta.presentation.community.response.DirectUploadResponse;
 import com.beta.presentation.community.response.ImageDeleteResponse;
 import com.beta.presentation.community.response.PostImagesResponse;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +30,7 @@ public class PostImageApplicationService {
     private final PostImageWriteService postImageWriteService;
     private final PostImageReadService postImageReadService;
     private final PostReadService postReadService;
+    private final DirectImageUploadService directImageUploadService;
 
     public List<PostImagesResponse> uploadImages(List<MultipartFile> images, Long userId) {
         return handleImageUpload(userId, null, images);
@@ -36,6 +42,18 @@ public class PostImageApplicationService {
         return handleImageUpload(userId, postId, images);
     }
 
+    public List<DirectUploadResponse> reserveDirectUploads(DirectUploadRequest request, Long userId) {
+        return directImageUploadService.reserveUploads(userId, request.getImages()).stream()
+                .map(DirectUploadResponse::from)
+                .toList();
+    }
+
+    public List<PostImagesResponse> finalizeDirectUploads(ImageFinalizeRequest request, Long userId) {
+        return directImageUploadService.finalizeUploads(userId, request.getImageIds()).stream()
+                .map(PostImagesResponse::from)
+                .toList();
+    }
+
     public ImageDeleteResponse softDeleteImages(Long postId, ImageDeleteRequest request, Long userId) {
         postReadService.validatePostOwnership(postId, userId);
         List<ImageDto> images = postImageWriteService.softDeleteImages(postId, request.getImageIds());
@@ -45,6 +63,13 @@ public class PostImageApplicationService {
         return ImageDeleteResponse.success(images);
     }
 
+    public List<PostImagesResponse> reorderImages(Long postId, ImageOrderUpdateRequest request, Long userId) {
+        postReadService.validatePostOwnership(postId, userId);
+        return postImageWriteService.reorderImages(postId, request.getImageOrders()).stream()
+                .map(PostImagesResponse::from)
+                .toList();
+    }
+
     private List<PostImagesResponse> handleImageUpload(Long userId, Long postId, List<MultipartFile> images) {
         List<ImageDto> uploadImages = new ArrayList<>();
         try {
@@ -15,6 +15,7 @@ public class CommentDto {
     private String content;
     private Long parentId;
     private Integer depth;
+    private Integer likeCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -26,8 +27,16 @@ public class CommentDto {
                 .content(entity.getContent())
                 .parentId(entity.getParentId())
                 .depth(entity.getDepth())
+                .likeCount(entity.getLikeCount())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * 아직 DB에 반영되지 않은 좋아요 수 변화량을 더한다. (write-behind)
+     */
+    public void addPendingLikeCount(int delta) {
+        this.likeCount += delta;
+    }
 }
@@ -0,0 +1,17 @@
+package com.beta.application.community.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 루트 댓글 + 답글 수 + 미리보기 답글
+ */
+@Getter
+@Builder
+public class CommentThreadDto {
+    private CommentDto comment;
+    private long replyCount;
+    private List<CommentDto> replies;
+}
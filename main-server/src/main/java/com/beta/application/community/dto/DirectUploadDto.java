@@ -0,0 +1,20 @@
+package com.beta.application.community.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 직접 업로드 예약 결과 (예약된 이미지 id, 업로드 후 공개 URL, 서명된 PUT URL과 함께 보낼 헤더)
+ */
+@Getter
+@Builder
+public class DirectUploadDto {
+    private Long postImageId;
+    private String imgUrl;
+    private String uploadUrl;
+    private Map<String, String> uploadHeaders;
+    private LocalDateTime expiresAt;
+}
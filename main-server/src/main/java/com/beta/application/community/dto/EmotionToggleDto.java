@@ -0,0 +1,25 @@
+package com.beta.application.community.dto;
+
+import com.beta.infra.community.redis.PostEmotionRedisRepository;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class EmotionToggleDto {
+    private String emotionType; // 토글 후 내 반응 (취소 시 null)
+    private long likeCount;
+    private long sadCount;
+    private long funCount;
+    private long hypeCount;
+
+    public static EmotionToggleDto from(PostEmotionRedisRepository.ToggleResult result) {
+        return EmotionToggleDto.builder()
+                .emotionType(PostEmotionRedisRepository.NONE.equals(result.appliedEmotionType()) ? null : result.appliedEmotionType())
+                .likeCount(result.likeCount())
+                .sadCount(result.sadCount())
+                .funCount(result.funCount())
+                .hypeCount(result.hypeCount())
+                .build();
+    }
+}
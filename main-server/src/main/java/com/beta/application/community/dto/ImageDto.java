@@ -15,8 +15,18 @@ public class ImageDto {
     private Integer sort;
     private Long fileSize;
     private String mimeType;
+    private String originalUrl; // imgUrl이 파생 이미지일 때 원본 URL
+    private Integer width;
+    private Integer height;
 
     public static ImageDto toDto(PostImageEntity entity) {
+        return toDto(entity, entity.getSort());
+    }
+
+    /**
+     * 정렬 순서만 바꿔 변환 (순서 변경 직후처럼 엔티티에 새 순서가 반영되지 않은 경우)
+     */
+    public static ImageDto toDto(PostImageEntity entity, Integer sort) {
         return ImageDto.builder()
                 .postImageId(entity.getId())
                 .postId(entity.getPostId())
@@ -25,7 +35,7 @@ public class ImageDto {
                 .newName(entity.getNewName())
                 .fileSize(entity.getFileSize())
                 .mimeType(entity.getMimeType())
-                .sort(entity.getSort())
+                .sort(sort)
                 .build();
     }
 }
@@ -0,0 +1,9 @@
+package com.beta.application.community.dto;
+
+/**
+ * 조회 화면별로 내려줄 이미지 크기 (파생 이미지가 아직 없으면 원본)
+ */
+public enum ImageVariant {
+    FEED,   // 목록/피드 썸네일
+    DETAIL  // 게시글 상세
+}
@@ -0,0 +1,11 @@
+package com.beta.application.community.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PostSearchResultDto {
+    private PostWithImagesDto post;
+    private Double score;
+}
@@ -1,5 +1,6 @@
 package com.beta.application.community.dto;
 
+import com.beta.infra.community.repository.dao.PostCounterDelta;
 import com.beta.infra.community.repository.dao.PostWithImages;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,10 +20,11 @@ public class PostWithImagesDto {
     private Integer sadCount;
     private Integer funCount;
     private Integer hypeCount;
+    private Integer emotionCount;
     private LocalDateTime createdAt;
     private List<ImageDto> images;
 
-    public static PostWithImagesDto from(PostWithImages postWithImages) {
+    public static PostWithImagesDto from(PostWithImages postWithImages, ImageVariant variant) {
         return PostWithImagesDto.builder()
                 .postId(postWithImages.getPostId())
                 .userId(postWithImages.getUserId())
@@ -33,14 +35,44 @@ public class PostWithImagesDto {
                 .funCount(postWithImages.getFunCount())
                 .sadCount(postWithImages.getSadCount())
                 .hypeCount(postWithImages.getHypeCount())
+                .emotionCount(postWithImages.getEmotionCount())
                 .createdAt(postWithImages.getCreatedAt())
                 .images(postWithImages.getImages().stream()
-                        .map(image -> ImageDto.builder()
-                                .postImageId(image.getImageId())
-                                .imgUrl(image.getImgUrl())
-                                .sort(image.getSort())
-                                .build())
+                        .map(image -> toImageDto(image, variant))
                         .toList())
                 .build();
     }
+
+    private static ImageDto toImageDto(PostWithImages.Images image, ImageVariant variant) {
+        boolean feed = variant == ImageVariant.FEED;
+        String variantUrl = feed ? image.getFeedUrl() : image.getDetailUrl();
+        if (variantUrl == null) {
+            return ImageDto.builder()
+                    .postImageId(image.getImageId())
+                    .imgUrl(image.getImgUrl())
+                    .originalUrl(image.getImgUrl())
+                    .sort(image.getSort())
+                    .build();
+        }
+        return ImageDto.builder()
+                .postImageId(image.getImageId())
+                .imgUrl(variantUrl)
+                .originalUrl(image.getImgUrl())
+                .width(feed ? image.getFeedWidth() : image.getDetailWidth())
+                .height(feed ? image.getFeedHeight() : image.getDetailHeight())
+                .sort(image.getSort())
+                .build();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 카운터 변화량을 더한다. (write-behind)
+     */
+    public void addPendingCounts(PostCounterDelta delta) {
+        this.commentCount += delta.commentCount();
+        this.likeCount += delta.likeCount();
+        this.sadCount += delta.sadCount();
+        this.funCount += delta.funCount();
+        this.hypeCount += delta.hypeCount();
+        this.emotionCount += delta.emotionCount();
+    }
 }
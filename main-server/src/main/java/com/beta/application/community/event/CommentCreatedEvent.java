@@ -0,0 +1,12 @@
+package com.beta.application.community.event;
+
+/**
+ * 댓글이 작성되었음을 알리는 이벤트 (parentId가 null이면 최상위 댓글)
+ */
+public record CommentCreatedEvent(Long postId, Long commentId, Long userId, Long parentId) implements OutboxEvent {
+
+    @Override
+    public Long aggregateId() {
+        return postId;
+    }
+}
@@ -0,0 +1,12 @@
+package com.beta.application.community.event;
+
+/**
+ * 사용자의 댓글 좋아요 여부가 바뀌었음을 알리는 이벤트
+ */
+public record CommentLikeChangedEvent(Long userId, Long commentId, boolean liked) implements OutboxEvent {
+
+    @Override
+    public Long aggregateId() {
+        return commentId;
+    }
+}
@@ -0,0 +1,12 @@
+package com.beta.application.community.event;
+
+/**
+ * 사용자가 게시글에 남긴 반응이 바뀌었음을 알리는 이벤트 (emotionType이 null이면 반응 취소)
+ */
+public record EmotionChangedEvent(Long userId, Long postId, String emotionType) implements OutboxEvent {
+
+    @Override
+    public Long aggregateId() {
+        return postId;
+    }
+}
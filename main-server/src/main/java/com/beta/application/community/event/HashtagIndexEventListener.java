@@ -0,0 +1,24 @@
+package com.beta.application.community.event;
+
+import com.beta.infra.community.cache.HashtagIdCache;
+import com.beta.infra.community.cache.HashtagPrefixIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 해시태그 생성/사용이 커밋된 후 자동완성 인덱스와 태그 id 캐시에 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class HashtagIndexEventListener {
+
+    private final HashtagPrefixIndex hashtagPrefixIndex;
+    private final HashtagIdCache hashtagIdCache;
+
+    @TransactionalEventListener
+    public void onHashtagsUpserted(HashtagsUpsertedEvent event) {
+        hashtagIdCache.putAll(event.hashtags());
+        hashtagPrefixIndex.upsert(event.hashtags());
+    }
+}
@@ -0,0 +1,8 @@
+package com.beta.application.community.event;
+
+import com.beta.infra.community.entity.HashtagEntity;
+
+import java.util.List;
+
+public record HashtagsUpsertedEvent(List<HashtagEntity> hashtags) {
+}
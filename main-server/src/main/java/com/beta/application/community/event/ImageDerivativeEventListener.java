@@ -0,0 +1,21 @@
+package com.beta.application.community.event;
+
+import com.beta.application.community.service.ImageDerivativeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 이미지 행이 커밋된 후 파생 이미지 생성을 작업 큐에 넣음 (요청 스레드는 기다리지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeEventListener {
+
+    private final ImageDerivativeService imageDerivativeService;
+
+    @TransactionalEventListener
+    public void onImagesUploaded(ImagesUploadedEvent event) {
+        event.images().forEach(imageDerivativeService::generateAsync);
+    }
+}
@@ -0,0 +1,11 @@
+package com.beta.application.community.event;
+
+import com.beta.application.community.dto.ImageDto;
+
+import java.util.List;
+
+/**
+ * 원본 이미지 업로드/확인이 끝났음을 알리는 이벤트 (파생 이미지 생성 대상)
+ */
+public record ImagesUploadedEvent(List<ImageDto> images) {
+}
@@ -0,0 +1,23 @@
+package com.beta.application.community.event;
+
+/**
+ * 아웃박스를 거쳐 커밋 후 비동기로 전달되는 커뮤니티 도메인 이벤트
+ * 쓰기 트랜잭션 안에서 발행하면 같은 트랜잭션으로 community_outbox에 기록되고,
+ * OutboxRelayService가 Redis Stream과 로컬 리스너(RelayedEvent)에 전달한다. (at-least-once)
+ *
+ * 리스너는 같은 이벤트를 두 번 받을 수 있으므로 멱등하게 처리해야 한다.
+ */
+public sealed interface OutboxEvent permits
+        PostCreatedEvent,
+        PostChangedEvent,
+        PostDeletedEvent,
+        PostEngagementChangedEvent,
+        EmotionChangedEvent,
+        CommentCreatedEvent,
+        CommentLikeChangedEvent {
+
+    /**
+     * 이벤트 대상 id (Stream 소비자가 분배/정렬 기준으로 사용)
+     */
+    Long aggregateId();
+}
@@ -0,0 +1,54 @@
+package com.beta.application.community.event;
+
+import com.beta.common.id.IdGenerators;
+import com.beta.infra.community.repository.dao.OutboxEventRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * OutboxEvent ↔ 아웃박스 행 변환
+ * event_type은 이벤트 클래스 단순 이름이고, 역직렬화는 OutboxEvent에 허용된 타입으로만 한다.
+ */
+@Component
+public class OutboxEventCodec {
+
+    private static final Map<String, Class<?>> EVENT_TYPES = Arrays.stream(OutboxEvent.class.getPermittedSubclasses())
+            .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private final ObjectMapper objectMapper;
+
+    public OutboxEventCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public OutboxEventRow encode(OutboxEvent event) {
+        try {
+            return new OutboxEventRow(
+                    IdGenerators.nextId(),
+                    event.getClass().getSimpleName(),
+                    event.aggregateId(),
+                    objectMapper.writeValueAsString(event)
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox event - " + event, e);
+        }
+    }
+
+    public OutboxEvent decode(OutboxEventRow row) {
+        Class<?> eventType = EVENT_TYPES.get(row.eventType());
+        if (eventType == null) {
+            throw new IllegalArgumentException("Unknown outbox event type - " + row.eventType());
+        }
+        try {
+            return (OutboxEvent) objectMapper.readValue(row.payload(), eventType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to deserialize outbox event - id: " + row.id(), e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.beta.application.community.event;
+
+import com.beta.infra.community.repository.OutboxEventRepository;
+import com.beta.infra.community.repository.dao.OutboxEventRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 발행된 OutboxEvent를 발행한 트랜잭션 안에서 community_outbox에 기록
+ * 트랜잭션 동안 모아 두었다가 커밋 직전에 multi-row INSERT 한 번으로 쓰므로, 롤백되면 이벤트도 남지 않는다.
+ *
+ * 트랜잭션 밖에서 발행된 이벤트(Redis 반응 토글)는 지킬 DB 쓰기가 없으므로 아웃박스를 거치지 않고 바로 로컬 리스너에 전달한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventCodec outboxEventCodec;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener
+    public void onOutboxEvent(OutboxEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            eventPublisher.publishEvent(new RelayedEvent<>(event));
+            return;
+        }
+        pendingRows().add(outboxEventCodec.encode(event));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OutboxEventRow> pendingRows() {
+        List<OutboxEventRow> rows = (List<OutboxEventRow>) TransactionSynchronizationManager.getResource(this);
+        if (rows != null) {
+            return rows;
+        }
+        List<OutboxEventRow> newRows = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, newRows);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                outboxEventRepository.insertAll(newRows);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(OutboxEventRecorder.this);
+            }
+        });
+        return newRows;
+    }
+}
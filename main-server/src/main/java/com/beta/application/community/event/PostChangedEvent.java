@@ -0,0 +1,12 @@
+package com.beta.application.community.event;
+
+/**
+ * 게시글 상세 조회 결과(내용, 이미지, 반응/댓글 수)가 바뀌었음을 알리는 이벤트
+ */
+public record PostChangedEvent(Long postId) implements OutboxEvent {
+
+    @Override
+    public Long aggregateId() {
+        return postId;
+    }
+}
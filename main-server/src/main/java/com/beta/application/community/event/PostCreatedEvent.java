@@ -0,0 +1,17 @@
+package com.beta.application.community.event;
+
+import com.beta.infra.community.entity.PostEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 작성 (인기 랭킹 등록용)
+ * createdAt은 게시글 작성 시각으로, 릴레이가 늦게 전달해도 랭킹 점수가 작성 시각 기준이 되게 한다.
+ */
+public record PostCreatedEvent(Long postId, PostEntity.Channel channel, LocalDateTime createdAt) implements OutboxEvent {
+
+    @Override
+    public Long aggregateId() {
+        return postId;
+    }
+}
@@ -0,0 +1,11 @@
+package com.beta.application.community.event;
+
+import com.beta.infra.community.entity.PostEntity;
+
+public record PostDeletedEvent(Long postId, PostEntity.Channel channel) implements OutboxEvent {
+
+    @Override
+    public Long aggregateId() {
+        return postId;
+    }
+}
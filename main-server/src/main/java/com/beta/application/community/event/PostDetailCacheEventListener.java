@@ -0,0 +1,28 @@
+package com.beta.application.community.event;
+
+import com.beta.infra.community.cache.PostDetailCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 변경이 아웃박스 릴레이로 전달되면 상세 캐시를 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class PostDetailCacheEventListener {
+
+    private final PostDetailCache postDetailCache;
+
+    @EventListener
+    public void onPostChanged(RelayedEvent<PostChangedEvent> relayed) {
+        PostChangedEvent event = relayed.payload();
+        postDetailCache.evict(event.postId());
+    }
+
+    @EventListener
+    public void onPostDeleted(RelayedEvent<PostDeletedEvent> relayed) {
+        PostDeletedEvent event = relayed.payload();
+        postDetailCache.evict(event.postId());
+    }
+}
@@ -0,0 +1,28 @@
+package com.beta.application.community.event;
+
+import com.beta.infra.community.redis.PostEmotionRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 삭제가 아웃박스 릴레이로 전달되면 Redis 반응 상태를 비움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostEmotionEventListener {
+
+    private final PostEmotionRedisRepository postEmotionRedisRepository;
+
+    @EventListener
+    public void onPostDeleted(RelayedEvent<PostDeletedEvent> relayed) {
+        PostDeletedEvent event = relayed.payload();
+        try {
+            postEmotionRedisRepository.evict(event.postId());
+        } catch (Exception e) {
+            log.warn("Failed to evict emotion state - postId: {}", event.postId(), e);
+        }
+    }
+}
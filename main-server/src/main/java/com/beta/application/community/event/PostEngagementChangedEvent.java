@@ -0,0 +1,33 @@
+package com.beta.application.community.event;
+
+import com.beta.infra.community.entity.PostEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 반응/댓글 수 변경 (인기 랭킹 갱신용)
+ * baseEngagement는 변경 전 DB 기준 반응 + 댓글 수
+ */
+public record PostEngagementChangedEvent(
+        Long postId,
+        PostEntity.Channel channel,
+        LocalDateTime createdAt,
+        long baseEngagement,
+        int delta
+) implements OutboxEvent {
+
+    @Override
+    public Long aggregateId() {
+        return postId;
+    }
+
+    public static PostEngagementChangedEvent of(PostEntity post, int delta) {
+        return new PostEngagementChangedEvent(
+                post.getId(),
+                post.getChannel(),
+                post.getCreatedAt(),
+                (long) post.getEmotionCount() + post.getCommentCount(),
+                delta
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.beta.application.community.event;
+
+import com.beta.infra.community.redis.PostRankingRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+
+/**
+ * 게시글 작성/반응/댓글/삭제가 아웃박스 릴레이로 전달되면 인기 랭킹(Redis)에 반영
+ * 랭킹은 근사값이므로 반영 실패 시 로그만 남기고 요청은 실패시키지 않는다.
+ * 릴레이는 at-least-once라 같은 이벤트가 다시 올 수 있어, 반응 수 증감은 아웃박스 이벤트 id로 한 번만 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostRankingEventListener {
+
+    private final PostRankingRedisRepository postRankingRedisRepository;
+
+    @EventListener
+    public void onPostCreated(RelayedEvent<PostCreatedEvent> relayed) {
+        PostCreatedEvent event = relayed.payload();
+        if (event.createdAt() == null) {
+            return;
+        }
+        try {
+            long createdEpochSecond = event.createdAt().atZone(ZoneId.systemDefault()).toEpochSecond();
+            postRankingRedisRepository.increment(event.channel(), event.postId(), createdEpochSecond, 0, 0, relayed.eventId());
+        } catch (Exception e) {
+            log.warn("Failed to add post to hot ranking - postId: {}", event.postId(), e);
+        }
+    }
+
+    @EventListener
+    public void onEngagementChanged(RelayedEvent<PostEngagementChangedEvent> relayed) {
+        PostEngagementChangedEvent event = relayed.payload();
+        if (event.createdAt() == null) {
+            return;
+        }
+        try {
+            long createdEpochSecond = event.createdAt().atZone(ZoneId.systemDefault()).toEpochSecond();
+            postRankingRedisRepository.increment(event.channel(), event.postId(), createdEpochSecond,
+                    event.baseEngagement(), event.delta(), relayed.eventId());
+        } catch (Exception e) {
+            log.warn("Failed to update hot ranking - postId: {}", event.postId(), e);
+        }
+    }
+
+    @EventListener
+    public void onPostDeleted(RelayedEvent<PostDeletedEvent> relayed) {
+        PostDeletedEvent event = relayed.payload();
+        try {
+            postRankingRedisRepository.remove(event.channel(), event.postId());
+        } catch (Exception e) {
+            log.warn("Failed to remove post from hot ranking - postId: {}", event.postId(), e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.beta.application.community.event;
+
+import com.beta.infra.community.redis.PostTimelineRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 작성/삭제가 아웃박스 릴레이로 전달되면 채널 타임라인(Redis)에 반영
+ * 반영 실패 시 타임라인을 비워 다음 조회 때 MySQL에서 다시 적재하므로 요청은 실패시키지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostTimelineEventListener {
+
+    private final PostTimelineRedisRepository postTimelineRedisRepository;
+
+    @EventListener
+    public void onPostCreated(RelayedEvent<PostCreatedEvent> relayed) {
+        PostCreatedEvent event = relayed.payload();
+        try {
+            postTimelineRedisRepository.add(event.channel(), event.postId());
+        } catch (Exception e) {
+            log.warn("Failed to append post to timeline - postId: {}", event.postId(), e);
+            postTimelineRedisRepository.evict(event.channel()); // 누락된 게시글이 생기지 않도록 다음 조회 시 재적재
+        }
+    }
+
+    @EventListener
+    public void onPostDeleted(RelayedEvent<PostDeletedEvent> relayed) {
+        PostDeletedEvent event = relayed.payload();
+        try {
+            postTimelineRedisRepository.remove(event.channel(), event.postId());
+        } catch (Exception e) {
+            log.warn("Failed to remove post from timeline - postId: {}", event.postId(), e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.beta.application.community.event;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+/**
+ * 아웃박스 릴레이가 로컬 리스너에 전달하는 이벤트
+ * 리스너는 {@code @EventListener}로 RelayedEvent<PostCreatedEvent>처럼 받을 이벤트 타입을 지정한다.
+ *
+ * eventId는 아웃박스 행 id로, 릴레이가 같은 이벤트를 다시 전달해도 같은 값이라 중복 반영을 거르는 데 쓴다.
+ * 아웃박스를 거치지 않고 바로 전달된 이벤트(트랜잭션 밖 발행)는 한 번만 전달되므로 null이다.
+ */
+public record RelayedEvent<T extends OutboxEvent>(Long eventId, T payload) implements ResolvableTypeProvider {
+
+    public RelayedEvent(T payload) {
+        this(null, payload);
+    }
+
+    @Override
+    public ResolvableType getResolvableType() {
+        return ResolvableType.forClassWithGenerics(getClass(), ResolvableType.forInstance(payload));
+    }
+}
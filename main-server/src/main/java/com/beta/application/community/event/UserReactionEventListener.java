@@ -0,0 +1,49 @@
+package com.beta.application.community.event;
+
+import com.beta.infra.community.redis.UserReactionRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 반응/댓글 좋아요 변경이 아웃박스 릴레이로 전달되면 사용자별 "내 반응" 해시에 반영 (write-through)
+ * 반영 실패 시 해시를 비워 오래된 값이 남지 않게 하고, 다음 조회 때 DB에서 다시 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserReactionEventListener {
+
+    private final UserReactionRedisRepository userReactionRedisRepository;
+
+    @EventListener
+    public void onEmotionChanged(RelayedEvent<EmotionChangedEvent> relayed) {
+        EmotionChangedEvent event = relayed.payload();
+        try {
+            userReactionRedisRepository.saveEmotion(event.userId(), event.postId(), event.emotionType());
+        } catch (Exception e) {
+            log.warn("Failed to write emotion reaction - userId: {}, postId: {}", event.userId(), event.postId(), e);
+            evictQuietly(event.userId());
+        }
+    }
+
+    @EventListener
+    public void onCommentLikeChanged(RelayedEvent<CommentLikeChangedEvent> relayed) {
+        CommentLikeChangedEvent event = relayed.payload();
+        try {
+            userReactionRedisRepository.saveCommentLike(event.userId(), event.commentId(), event.liked());
+        } catch (Exception e) {
+            log.warn("Failed to write comment like reaction - userId: {}, commentId: {}", event.userId(), event.commentId(), e);
+            evictQuietly(event.userId());
+        }
+    }
+
+    private void evictQuietly(Long userId) {
+        try {
+            userReactionRedisRepository.evict(userId);
+        } catch (Exception e) {
+            log.warn("Failed to evict user reactions - userId: {}", userId, e);
+        }
+    }
+}
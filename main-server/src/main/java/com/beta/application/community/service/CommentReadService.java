@@ -1,16 +1,91 @@
 package com.beta.application.community.service;
 
+import com.beta.application.community.dto.CommentDto;
+import com.beta.application.community.dto.CommentThreadDto;
+import com.beta.common.exception.comment.CommentNotFoundException;
+import com.beta.common.exception.post.PostNotFoundException;
 import com.beta.infra.community.entity.CommentEntity;
+import com.beta.infra.community.entity.Status;
 import com.beta.infra.community.repository.CommentJpaRepository;
+import com.beta.infra.community.repository.PostJpaRepository;
+import com.beta.infra.community.repository.dao.ReplyCountRow;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentReadService {
 
+    public static final int REPLY_PREVIEW_SIZE = 3;
+
     private final CommentJpaRepository commentJpaRepository;
+    private final PostJpaRepository postJpaRepository;
+    private final EngagementCounterService engagementCounterService;
+
+    /**
+     * 루트 댓글 목록 조회
+     * 루트 댓글 1회 + 답글 수 1회 + 미리보기 답글 1회, 페이지 크기와 무관하게 고정된 쿼리 수로 조회한다.
+     */
+    public List<CommentThreadDto> getComments(Long postId, Long cursorId, int fetchSize) {
+        if (!postJpaRepository.existsByIdAndStatus(postId, Status.ACTIVE)) {
+            throw new PostNotFoundException();
+        }
+
+        List<CommentEntity> roots = commentJpaRepository.findRootComments(
+                postId, Status.ACTIVE, cursorId, PageRequest.of(0, fetchSize));
+        if (roots.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> rootIds = roots.stream().map(CommentEntity::getId).toList();
+        Map<Long, Long> replyCounts = commentJpaRepository.countRepliesByParentIds(rootIds, Status.ACTIVE).stream()
+                .collect(Collectors.toMap(ReplyCountRow::parentId, ReplyCountRow::replyCount));
+        Map<Long, List<CommentDto>> repliesByParentId = commentJpaRepository.findFirstRepliesByParentIds(rootIds, REPLY_PREVIEW_SIZE).stream()
+                .collect(Collectors.groupingBy(
+                        CommentEntity::getParentId,
+                        Collectors.mapping(this::toDto, Collectors.toList())
+                ));
+
+        return roots.stream()
+                .map(root -> CommentThreadDto.builder()
+                        .comment(toDto(root))
+                        .replyCount(replyCounts.getOrDefault(root.getId(), 0L))
+                        .replies(repliesByParentId.getOrDefault(root.getId(), List.of()))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 특정 루트 댓글의 답글 목록 조회 (keyset)
+     */
+    public List<CommentDto> getReplies(Long postId, Long parentId, Long cursorId, int fetchSize) {
+        CommentEntity parent = commentJpaRepository.findById(parentId)
+                .orElseThrow(CommentNotFoundException::new);
+        if (!parent.getPostId().equals(postId) || parent.getDepth() != 0) {
+            throw new CommentNotFoundException();
+        }
+
+        return commentJpaRepository.findReplies(parentId, Status.ACTIVE, cursorId, PageRequest.of(0, fetchSize)).stream()
+                .map(this::toDto)
+                .toList();
+    }
 
+    /**
+     * 아직 DB에 반영되지 않은 좋아요 수 변화량을 더해 변환 (write-behind)
+     */
+    private CommentDto toDto(CommentEntity comment) {
+        CommentDto dto = CommentDto.from(comment);
+        int pendingLikeDelta = engagementCounterService.getPendingCommentLikeDelta(comment.getId());
+        if (pendingLikeDelta != 0) {
+            dto.addPendingLikeCount(pendingLikeDelta);
+        }
+        return dto;
+    }
 }
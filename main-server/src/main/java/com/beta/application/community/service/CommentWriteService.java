@@ -1,5 +1,9 @@
 package com.beta.application.community.service;
 
+import com.beta.application.community.event.CommentCreatedEvent;
+import com.beta.application.community.event.CommentLikeChangedEvent;
+import com.beta.application.community.event.PostChangedEvent;
+import com.beta.application.community.event.PostEngagementChangedEvent;
 import com.beta.common.exception.comment.CommentAccessDeniedException;
 import com.beta.common.exception.comment.CommentDepthExceededException;
 import com.beta.common.exception.comment.CommentNotFoundException;
@@ -11,6 +15,7 @@ import com.beta.infra.community.repository.CommentJpaRepository;
 import com.beta.infra.community.repository.CommentLikeJpaRepository;
 import com.beta.infra.community.repository.PostJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,10 +26,12 @@ public class CommentWriteService {
     private final CommentJpaRepository commentJpaRepository;
     private final PostJpaRepository postJpaRepository;
     private final CommentLikeJpaRepository commentLikeJpaRepository;
+    private final EngagementCounterService engagementCounterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void saveComment(Long postId, Long userId, String content, Long parentId) {
-        postJpaRepository.findById(postId).orElseThrow(PostNotFoundException::new);
+        PostEntity post = postJpaRepository.findById(postId).orElseThrow(PostNotFoundException::new);
 
         int depth = 0;
         if (parentId != null) {
@@ -45,7 +52,10 @@ public class CommentWriteService {
                 .build();
 
         commentJpaRepository.save(comment);
-        postJpaRepository.updateCommentCount(postId, 1);
+        engagementCounterService.addComment(postId, 1);
+        eventPublisher.publishEvent(new CommentCreatedEvent(postId, comment.getId(), userId, parentId));
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+        eventPublisher.publishEvent(PostEngagementChangedEvent.of(post, 1));
     }
 
     @Transactional
@@ -72,7 +82,10 @@ public class CommentWriteService {
 
         comment.softDelete();
         commentJpaRepository.save(comment);
-        postJpaRepository.updateCommentCount(comment.getPostId(), -1);
+        engagementCounterService.addComment(comment.getPostId(), -1);
+        eventPublisher.publishEvent(new PostChangedEvent(comment.getPostId()));
+        postJpaRepository.findById(comment.getPostId())
+                .ifPresent(post -> eventPublisher.publishEvent(PostEngagementChangedEvent.of(post, -1)));
     }
 
     @Transactional
@@ -88,7 +101,7 @@ public class CommentWriteService {
         if (existingLike != null) {
             // 좋아요 취소 (토글)
             commentLikeJpaRepository.delete(existingLike);
-            commentJpaRepository.updateLikeCount(commentId, -1);
+            engagementCounterService.addCommentLike(commentId, -1);
         } else {
             // 좋아요 생성
             CommentLikeEntity newLike = CommentLikeEntity.builder()
@@ -96,7 +109,8 @@ public class CommentWriteService {
                     .userId(userId)
                     .build();
             commentLikeJpaRepository.save(newLike);
-            commentJpaRepository.updateLikeCount(commentId, 1);
+            engagementCounterService.addCommentLike(commentId, 1);
         }
+        eventPublisher.publishEvent(new CommentLikeChangedEvent(userId, commentId, existingLike == null));
     }
 }
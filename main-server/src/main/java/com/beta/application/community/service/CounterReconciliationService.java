@@ -0,0 +1,227 @@
+package com.beta.application.community.service;
+
+import com.beta.infra.community.cache.PostDetailCache;
+import com.beta.infra.community.redis.ReconciliationLeaderRedisRepository;
+import com.beta.infra.community.repository.CounterBatchRepository;
+import com.beta.infra.community.repository.CounterReconciliationRepository;
+import com.beta.infra.community.repository.dao.PostCounterDelta;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 비정규화 카운터 재계산 (posts 댓글/반응 수, comment.like_count, hashtag.usage_count)
+ * 요청 중간 실패나 write-behind 변화량 유실로 어긋난 카운터를 원천 테이블(comment, emotion, comment_like, post_hashtag)에서
+ * 다시 세어 맞춘다.
+ *
+ * - 주기마다(기본 1초) 테이블별로 id 오름차순 한 구간(chunk-size)씩만 검사하고, 끝까지 돌면 처음부터 다시 돈다.
+ * - 원천 테이블과 카운터 사이에는 write-behind/Redis 영속화 지연이 있으므로, 같은 차이가 confirm-delay 이상 지나
+ *   다음 순회에서도 그대로 보일 때만 차이를 보정한다. 보정은 덮어쓰기 대신 차이만큼 더해 그 사이 반영된 변화량을 지우지 않는다.
+ * - Redis 리더 키를 가진 인스턴스 하나만 수행한다.
+ * - 보정한 행 수/차이 합계를 counter 태그별 메트릭으로 남긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "community.reconciliation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CounterReconciliationService {
+
+    private final CounterReconciliationRepository counterReconciliationRepository;
+    private final CounterBatchRepository counterBatchRepository;
+    private final ReconciliationLeaderRedisRepository reconciliationLeaderRedisRepository;
+    private final PostDetailCache postDetailCache;
+    private final MeterRegistry meterRegistry;
+
+    private static final Duration LEADER_TTL = Duration.ofSeconds(30);
+    private static final String METRIC_SCANNED = "community.counter.reconciliation.scanned";
+    private static final String METRIC_CORRECTED = "community.counter.reconciliation.corrected";
+    private static final String METRIC_DRIFT = "community.counter.reconciliation.drift";
+
+    @Value("${community.reconciliation.chunk-size:500}")
+    private int chunkSize = 500;
+
+    @Value("${community.reconciliation.confirm-delay-ms:60000}")
+    private long confirmDelayMillis = 60_000L;
+
+    private final String leaderToken = UUID.randomUUID().toString();
+    private final Cache<String, Suspect> suspects = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofHours(6))
+            .maximumSize(100_000)
+            .build();
+    private long postCursor = 0L;
+    private long commentCursor = 0L;
+    private long hashtagCursor = 0L;
+
+    private record Suspect(Object drift, long detectedAt) {
+    }
+
+    @Scheduled(fixedDelayString = "${community.reconciliation.interval-ms:1000}",
+            initialDelayString = "${community.reconciliation.initial-delay-ms:60000}")
+    public synchronized void reconcileNextChunk() {
+        try {
+            if (!reconciliationLeaderRedisRepository.tryAcquireOrRenew(leaderToken, LEADER_TTL)) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to acquire counter reconciliation leader", e);
+            return;
+        }
+
+        runQuietly("posts", this::reconcilePostChunk);
+        runQuietly("comments", this::reconcileCommentChunk);
+        runQuietly("hashtags", this::reconcileHashtagChunk);
+    }
+
+    private void reconcilePostChunk() {
+        Map<Long, PostCounterDelta> stored = counterReconciliationRepository.findStoredPostCounters(postCursor, chunkSize);
+        postCursor = nextCursor(stored);
+        if (stored.isEmpty()) {
+            return;
+        }
+        meterRegistry.counter(METRIC_SCANNED, "target", "posts").increment(stored.size());
+
+        long now = System.currentTimeMillis();
+        Map<Long, PostCounterDelta> actual = counterReconciliationRepository.countActualPostCounters(firstId(stored), postCursor);
+        Map<Long, PostCounterDelta> corrections = new HashMap<>();
+        stored.forEach((postId, counters) -> {
+            PostCounterDelta drift = actual.getOrDefault(postId, PostCounterDelta.ZERO).minus(counters);
+            if (confirm("post:" + postId, drift, now)) {
+                corrections.put(postId, drift);
+            }
+        });
+        if (corrections.isEmpty()) {
+            return;
+        }
+
+        counterBatchRepository.updatePostCounters(corrections);
+        corrections.keySet().forEach(postDetailCache::evict);
+        recordCorrections("posts.comment_count", corrections, PostCounterDelta::commentCount);
+        recordCorrections("posts.like_count", corrections, PostCounterDelta::likeCount);
+        recordCorrections("posts.sad_count", corrections, PostCounterDelta::sadCount);
+        recordCorrections("posts.fun_count", corrections, PostCounterDelta::funCount);
+        recordCorrections("posts.hype_count", corrections, PostCounterDelta::hypeCount);
+        log.info("Corrected post counter drift - {}", corrections);
+    }
+
+    private void reconcileCommentChunk() {
+        Map<Long, Integer> stored = counterReconciliationRepository.findStoredCommentLikeCounts(commentCursor, chunkSize);
+        commentCursor = nextCursor(stored);
+        reconcileCounts("comments", "comment.like_count", stored,
+                counterReconciliationRepository::countActualCommentLikes,
+                counterBatchRepository::updateCommentLikeCounts);
+    }
+
+    private void reconcileHashtagChunk() {
+        Map<Long, Integer> stored = counterReconciliationRepository.findStoredHashtagUsageCounts(hashtagCursor, chunkSize);
+        hashtagCursor = nextCursor(stored);
+        reconcileCounts("hashtags", "hashtag.usage_count", stored,
+                counterReconciliationRepository::countActualHashtagUsages,
+                counterBatchRepository::updateHashtagUsageCounts);
+    }
+
+    private void reconcileCounts(String target, String counter, Map<Long, Integer> stored,
+                                 BiFunction<Long, Long, Map<Long, Integer>> countActual, Consumer<Map<Long, Integer>> applier) {
+        if (stored.isEmpty()) {
+            return;
+        }
+        meterRegistry.counter(METRIC_SCANNED, "target", target).increment(stored.size());
+
+        long now = System.currentTimeMillis();
+        Map<Long, Integer> actual = countActual.apply(firstId(stored), lastId(stored));
+        Map<Long, Integer> corrections = new HashMap<>();
+        stored.forEach((id, count) -> {
+            int drift = actual.getOrDefault(id, 0) - count;
+            if (confirm(counter + ":" + id, drift, now)) {
+                corrections.put(id, drift);
+            }
+        });
+        if (corrections.isEmpty()) {
+            return;
+        }
+
+        applier.accept(corrections);
+        recordCorrections(counter, corrections, Function.identity());
+        log.info("Corrected {} drift - {}", counter, corrections);
+    }
+
+    /**
+     * 같은 차이가 confirm-delay 이상 지나 다시 보이면 보정 대상
+     */
+    private boolean confirm(String key, Object drift, long now) {
+        if (isZero(drift)) {
+            suspects.invalidate(key);
+            return false;
+        }
+        Suspect previous = suspects.getIfPresent(key);
+        if (previous == null || !previous.drift().equals(drift)) {
+            suspects.put(key, new Suspect(drift, now));
+            return false;
+        }
+        if (now - previous.detectedAt() < confirmDelayMillis) {
+            return false;
+        }
+        suspects.invalidate(key);
+        return true;
+    }
+
+    private <T> void recordCorrections(String counter, Map<Long, T> corrections, Function<T, Integer> driftOf) {
+        int rows = 0;
+        long amount = 0;
+        for (T correction : corrections.values()) {
+            int drift = driftOf.apply(correction);
+            if (drift != 0) {
+                rows++;
+                amount += Math.abs(drift);
+            }
+        }
+        if (rows > 0) {
+            meterRegistry.counter(METRIC_CORRECTED, "counter", counter).increment(rows);
+            meterRegistry.counter(METRIC_DRIFT, "counter", counter).increment(amount);
+        }
+    }
+
+    private void runQuietly(String target, Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.warn("Failed to reconcile counters - target: {}", target, e);
+        }
+    }
+
+    /**
+     * 구간의 마지막 id, 끝까지 돌았으면 0 (처음부터 다시)
+     */
+    private static long nextCursor(Map<Long, ?> stored) {
+        return stored.isEmpty() ? 0L : lastId(stored);
+    }
+
+    private static long firstId(Map<Long, ?> stored) {
+        return stored.keySet().iterator().next();
+    }
+
+    private static long lastId(Map<Long, ?> stored) {
+        long last = 0L;
+        for (Long id : stored.keySet()) {
+            last = id;
+        }
+        return last;
+    }
+
+    private static boolean isZero(Object drift) {
+        return drift instanceof PostCounterDelta delta ? delta.isZero() : Integer.valueOf(0).equals(drift);
+    }
+}
@@ -0,0 +1,194 @@
+package com.beta.application.community.service;
+
+import com.beta.application.community.dto.DirectUploadDto;
+import com.beta.application.community.dto.ImageDto;
+import com.beta.application.community.event.ImagesUploadedEvent;
+import com.beta.common.exception.image.ImageNotFoundException;
+import com.beta.common.exception.image.ImageNotUploadedException;
+import com.beta.common.exception.image.ImageUploadFailedException;
+import com.beta.domain.community.service.ImageValidationService;
+import com.beta.infra.community.entity.PostImageEntity;
+import com.beta.infra.community.entity.PostImageErrorEntity;
+import com.beta.infra.community.entity.Status;
+import com.beta.infra.community.gcs.ImageObjectStorage;
+import com.beta.infra.community.gcs.ImageObjectStorage.SignedUpload;
+import com.beta.infra.community.repository.ImageErrorJpaRepository;
+import com.beta.infra.community.repository.PostImageJpaRepository;
+import com.beta.presentation.community.request.DirectUploadRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 서명된 URL로 클라이언트가 버킷에 직접 올리는 이미지 업로드 (서버는 파일 본문을 받지 않음)
+ * 1. reserveUploads: 이미지 행을 AWAITING_UPLOAD로 만들고 객체별 서명된 PUT URL 발급
+ * 2. 클라이언트가 버킷에 PUT
+ * 3. finalizeUploads: 객체 크기와 앞부분 매직 바이트(범위 읽기)를 확인해 PENDING으로 전환
+ *    이후 게시글 작성/수정에서 multipart로 올린 이미지와 같은 방식으로 게시글에 연결된다.
+ * 확인되지 않은 채 RESERVATION_EXPIRY가 지난 예약은 주기적으로 행과 객체를 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DirectImageUploadService {
+
+    private static final Duration UPLOAD_URL_TTL = Duration.ofMinutes(10);
+    private static final Duration RESERVATION_EXPIRY = Duration.ofHours(1); // URL 만료 후 늦은 확인 요청까지 기다리는 시간 포함
+    private static final int SWEEP_BATCH_SIZE = 200;
+
+    private final ImageValidationService imageValidationService;
+    private final ImageObjectStorage imageObjectStorage;
+    private final PostImageJpaRepository postImageJpaRepository;
+    private final ImageErrorJpaRepository imageErrorJpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public List<DirectUploadDto> reserveUploads(Long userId, List<DirectUploadRequest.UploadImage> images) {
+        imageValidationService.validateImageCount(images.size());
+        images.forEach(image -> imageValidationService.validateDeclaredImage(image.getFileSize(), image.getContentType()));
+
+        List<PostImageEntity> reserved = new ArrayList<>();
+        for (DirectUploadRequest.UploadImage image : images) {
+            String objectName = imageObjectStorage.newObjectName(image.getOriginName(), userId);
+            reserved.add(PostImageEntity.builder()
+                    .userId(userId)
+                    .imgUrl(imageObjectStorage.publicUrl(objectName))
+                    .originName(image.getOriginName())
+                    .newName(objectName)
+                    .fileSize(image.getFileSize())
+                    .mimeType(image.getContentType())
+                    .status(Status.AWAITING_UPLOAD)
+                    .build());
+        }
+        postImageJpaRepository.saveAll(reserved);
+
+        LocalDateTime expiresAt = LocalDateTime.now().plus(UPLOAD_URL_TTL);
+        List<DirectUploadDto> uploads = new ArrayList<>();
+        for (PostImageEntity image : reserved) {
+            SignedUpload upload = imageObjectStorage.createUploadUrl(
+                    image.getNewName(), image.getMimeType(), image.getFileSize(), UPLOAD_URL_TTL);
+            uploads.add(DirectUploadDto.builder()
+                    .postImageId(image.getId())
+                    .imgUrl(image.getImgUrl())
+                    .uploadUrl(upload.url())
+                    .uploadHeaders(upload.headers())
+                    .expiresAt(expiresAt)
+                    .build());
+        }
+        return uploads;
+    }
+
+    /**
+     * 예약한 이미지가 모두 올라왔고 크기/형식이 맞으면 PENDING으로 전환 (요청한 순서대로 반환)
+     * 하나라도 없으면 ImageNotUploadedException, 형식이 다르면 객체를 지우고 InvalidImageTypeException (전체 롤백)
+     */
+    @Transactional
+    public List<ImageDto> finalizeUploads(Long userId, List<Long> imageIds) {
+        List<Long> distinctIds = imageIds.stream().distinct().toList();
+        Map<Long, PostImageEntity> imageById = postImageJpaRepository
+                .findAllByIdInAndUserIdAndStatus(distinctIds, userId, Status.AWAITING_UPLOAD).stream()
+                .collect(Collectors.toMap(PostImageEntity::getId, Function.identity()));
+        if (imageById.size() != distinctIds.size()) {
+            throw new ImageNotFoundException();
+        }
+
+        List<ImageDto> finalized = new ArrayList<>();
+        for (Long imageId : distinctIds) {
+            PostImageEntity image = imageById.get(imageId);
+            verifyUpload(image);
+            finalized.add(ImageDto.toDto(image));
+        }
+        eventPublisher.publishEvent(new ImagesUploadedEvent(finalized));
+        return finalized;
+    }
+
+    private void verifyUpload(PostImageEntity image) {
+        long fileSize = imageObjectStorage.findSize(image.getNewName())
+                .orElseThrow(ImageNotUploadedException::new);
+        byte[] header;
+        try {
+            header = imageObjectStorage.readHeader(image.getNewName(), ImageValidationService.MAGIC_BYTES_LENGTH);
+        } catch (IOException e) {
+            throw new ImageUploadFailedException("업로드된 이미지를 읽지 못했습니다", e);
+        }
+
+        try {
+            imageValidationService.validateUploadedImage(fileSize, header, image.getMimeType());
+        } catch (RuntimeException e) {
+            deleteQuietly(image.getNewName());
+            throw e;
+        }
+        image.completeUpload(fileSize);
+    }
+
+    private void deleteQuietly(String objectName) {
+        try {
+            imageObjectStorage.delete(objectName);
+        } catch (Exception e) {
+            log.warn("Failed to delete rejected upload: {}", objectName, e);
+        }
+        deleteDerivativesQuietly(objectName);
+    }
+
+    /**
+     * 원본과 함께 파생 이미지 객체도 삭제 (생성되지 않았으면 아무 일도 없음)
+     */
+    private void deleteDerivativesQuietly(String objectName) {
+        for (String suffix : List.of(ImageObjectStorage.FEED_SUFFIX, ImageObjectStorage.DETAIL_SUFFIX)) {
+            String derivativeName = ImageObjectStorage.derivativeName(objectName, suffix);
+            try {
+                imageObjectStorage.delete(derivativeName);
+            } catch (Exception e) {
+                log.warn("Failed to delete image derivative: {}", derivativeName, e);
+            }
+        }
+    }
+
+    /**
+     * 만료된 예약(AWAITING_UPLOAD) 정리
+     * 행을 상태 조건부로 먼저 지워 그 사이 확인된 이미지는 건드리지 않고, 지운 행의 객체만 삭제한다.
+     * 여러 인스턴스가 동시에 돌아도 같은 행은 한 곳에서만 지워진다.
+     */
+    @Scheduled(fixedDelayString = "${community.image.reservation-sweep-interval-ms:60000}")
+    public void sweepExpiredReservations() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(RESERVATION_EXPIRY);
+            List<PostImageEntity> expired = postImageJpaRepository.findAllByStatusAndCreatedAtBeforeOrderByIdAsc(
+                    Status.AWAITING_UPLOAD, cutoff, PageRequest.of(0, SWEEP_BATCH_SIZE));
+            for (PostImageEntity image : expired) {
+                if (postImageJpaRepository.deleteByIdAndStatus(image.getId(), Status.AWAITING_UPLOAD) == 1) {
+                    deleteExpiredObject(image);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to sweep expired upload reservations", e);
+        }
+    }
+
+    private void deleteExpiredObject(PostImageEntity image) {
+        try {
+            imageObjectStorage.delete(image.getNewName()); // 업로드되지 않았으면 false
+        } catch (Exception e) {
+            log.warn("Failed to delete expired upload: {}", image.getNewName(), e);
+            imageErrorJpaRepository.save(PostImageErrorEntity.builder()
+                    .imageUrl(image.getImgUrl())
+                    .fileName(image.getNewName())
+                    .userId(image.getUserId())
+                    .build());
+        }
+        deleteDerivativesQuietly(image.getNewName());
+    }
+}
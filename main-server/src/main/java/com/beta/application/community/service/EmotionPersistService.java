@@ -0,0 +1,104 @@
+package com.beta.application.community.service;
+
+import com.beta.infra.community.entity.EmotionEntity;
+import com.beta.infra.community.redis.PostEmotionRedisRepository;
+import com.beta.infra.community.redis.PostEmotionRedisRepository.EmotionChange;
+import com.beta.infra.community.repository.EmotionBatchRepository;
+import com.beta.infra.community.repository.dao.EmotionState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis에서 처리한 반응 토글을 emotion 테이블과 posts 카운트에 일괄 반영
+ * 큐 순서를 지키기 위해 잠금을 얻은 한 인스턴스만 반영하며, 같은 (게시글, 사용자)는 마지막 상태만 쓴다.
+ * 배치는 큐에서 처리 중 목록으로 옮겨 반영하고, DB 반영 후 잠금 토큰을 확인하며 ack한다.
+ * 중간에 실패하거나 반영이 잠금 TTL보다 길어지면 다음 잠금 보유자가 같은 배치를 다시 반영한다. (최종 상태 기준이라 중복 반영에 안전)
+ * 반응 수는 ack에 성공한 인스턴스만 write-behind 카운터(EngagementCounterService)로 넘겨 한 번만 더해진다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmotionPersistService {
+
+    private static final int BATCH_SIZE = 500;
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+
+    private final PostEmotionRedisRepository postEmotionRedisRepository;
+    private final EmotionBatchRepository emotionBatchRepository;
+    private final EngagementCounterService engagementCounterService;
+
+    @Scheduled(fixedDelayString = "${community.emotion.persist-interval-ms:200}")
+    public void persist() {
+        String lockToken;
+        try {
+            lockToken = postEmotionRedisRepository.tryLockPersist(LOCK_TTL);
+        } catch (Exception e) {
+            log.warn("Failed to acquire emotion persist lock", e);
+            return;
+        }
+        if (lockToken == null) {
+            return; // 다른 인스턴스가 반영 중
+        }
+
+        try {
+            Optional<List<EmotionChange>> claimed = postEmotionRedisRepository.claimChanges(lockToken, BATCH_SIZE);
+            if (claimed.isEmpty()) {
+                log.warn("Emotion persist lock expired before claiming changes");
+                return;
+            }
+            List<EmotionChange> changes = claimed.get();
+            if (changes.isEmpty()) {
+                return;
+            }
+
+            Map<String, EmotionState> latestStates = new LinkedHashMap<>();
+            for (EmotionChange change : changes) {
+                latestStates.put(change.postId() + ":" + change.userId(), new EmotionState(
+                        change.postId(), change.userId(), toEmotionType(change.appliedEmotionType())));
+            }
+            emotionBatchRepository.applyEmotionStates(latestStates.values());
+            if (!postEmotionRedisRepository.ackChanges(lockToken)) {
+                // 잠금이 만료되어 다른 인스턴스가 배치를 넘겨받음 (반응 수는 그쪽에서 넘긴다)
+                log.warn("Emotion persist lock expired before ack - size: {}", changes.size());
+                return;
+            }
+
+            changes.forEach(this::addCounterDelta);
+        } catch (Exception e) {
+            log.warn("Failed to persist emotion changes", e);
+        } finally {
+            unlockQuietly(lockToken);
+        }
+    }
+
+    private void addCounterDelta(EmotionChange change) {
+        EmotionEntity.EmotionType previous = toEmotionType(change.previousEmotionType());
+        EmotionEntity.EmotionType applied = toEmotionType(change.appliedEmotionType());
+        if (previous != null) {
+            engagementCounterService.addEmotion(change.postId(), previous, -1);
+        }
+        if (applied != null) {
+            engagementCounterService.addEmotion(change.postId(), applied, 1);
+        }
+    }
+
+    private EmotionEntity.EmotionType toEmotionType(String value) {
+        return PostEmotionRedisRepository.NONE.equals(value) ? null : EmotionEntity.EmotionType.valueOf(value);
+    }
+
+    private void unlockQuietly(String lockToken) {
+        try {
+            postEmotionRedisRepository.unlockPersist(lockToken);
+        } catch (Exception e) {
+            log.warn("Failed to release emotion persist lock", e);
+        }
+    }
+}
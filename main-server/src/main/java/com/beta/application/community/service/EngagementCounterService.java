@@ -0,0 +1,268 @@
+package com.beta.application.community.service;
+
+import com.beta.infra.community.cache.PostDetailCache;
+import com.beta.infra.community.entity.EmotionEntity;
+import com.beta.infra.community.repository.CounterBatchRepository;
+import com.beta.infra.community.repository.dao.PostCounterDelta;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 반응/댓글 수, 댓글 좋아요 수 write-behind 카운터
+ * 같은 행에 대한 UPDATE ... SET x = x + 1 이 요청마다 몰리면 행 잠금 대기로 요청이 직렬화되므로,
+ * 변화량을 인스턴스 메모리에 합산해 두었다가 주기적으로(기본 300ms) 행당 UPDATE 1번씩 JDBC batch로 반영한다.
+ *
+ * - 변화량은 트랜잭션 커밋 후에만 누적한다. (롤백된 요청의 카운트가 반영되지 않도록)
+ * - 조회 시 pending(미반영) + inFlight(반영 중) 변화량과 아직 합산되지 않은 슬롯 합계를 더한다.
+ *   이 인스턴스의 변경은 바로, 다른 인스턴스의 변경은 flush 후 보이며 합산(compaction) 전후로 값이 줄지 않는다.
+ *   슬롯 합계는 슬롯에 기록 중인 것으로 알려진 게시글만 조회하므로 대부분의 조회는 DB를 추가로 읽지 않는다.
+ * - 반영 실패 시 변화량을 되돌려 다음 주기에 다시 시도하고, 종료 시(graceful shutdown) 남은 변화량을 모두 반영한다.
+ * - 한 주기 동안 갱신 횟수가 shard-threshold 이상인 게시글은 일정 시간 분산 카운터(post_counter_shard)에 기록해
+ *   여러 인스턴스의 flush가 같은 posts 행에서 대기하지 않게 하고, 슬롯 값은 주기적으로 posts 행에 합산한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EngagementCounterService {
+
+    private final CounterBatchRepository counterBatchRepository;
+    private final PostDetailCache postDetailCache;
+
+    private static final Duration HOT_POST_TTL = Duration.ofMinutes(1);
+    private static final int MAX_COMPACTION_POSTS = 500;
+
+    @Value("${community.counter.shard-threshold:20}")
+    private int shardThreshold = 20; // 한 flush 주기 동안의 갱신 횟수
+
+    @Value("${community.counter.shard-slots:16}")
+    private int shardSlots = 16;
+
+    private final Cache<Long, Boolean> hotPostIds = Caffeine.newBuilder()
+            .expireAfterWrite(HOT_POST_TTL)
+            .maximumSize(10_000)
+            .build();
+    // 어느 인스턴스든 슬롯에 기록한 게시글 (합산 주기마다 슬롯 테이블에서 갱신, 조회 시 슬롯 합계를 더할 대상)
+    private final Cache<Long, Boolean> shardedPostIds = Caffeine.newBuilder()
+            .expireAfterWrite(HOT_POST_TTL)
+            .maximumSize(10_000)
+            .build();
+    private final ConcurrentHashMap<Long, Integer> pendingPostUpdateCounts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, PostCounterDelta> pendingPostDeltas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Integer> pendingCommentLikeDeltas = new ConcurrentHashMap<>();
+    private volatile Map<Long, PostCounterDelta> inFlightPostDeltas = Map.of();
+    private volatile Map<Long, Integer> inFlightCommentLikeDeltas = Map.of();
+
+    public void addEmotion(Long postId, EmotionEntity.EmotionType emotionType, int delta) {
+        afterCommit(() -> addPostDelta(postId, PostCounterDelta.ofEmotion(emotionType, delta)));
+    }
+
+    public void addComment(Long postId, int delta) {
+        afterCommit(() -> addPostDelta(postId, PostCounterDelta.ofComment(delta)));
+    }
+
+    public void addCommentLike(Long commentId, int delta) {
+        afterCommit(() -> pendingCommentLikeDeltas.merge(commentId, delta, Integer::sum));
+    }
+
+    /**
+     * 아직 posts 행에 반영되지 않은 게시글 카운터 변화량 (변화가 없는 게시글은 제외)
+     * 이 인스턴스의 미반영분 + 모든 인스턴스가 슬롯에 기록했지만 아직 합산되지 않은 값
+     * 슬롯 합계는 최근 슬롯에 기록된 게시글만 조회하며, 조회에 실패하면 슬롯 값 없이 반환한다. (다음 합산 후 posts 행에 반영됨)
+     */
+    public Map<Long, PostCounterDelta> getPendingPostDeltas(Collection<Long> postIds) {
+        Map<Long, PostCounterDelta> inFlight = inFlightPostDeltas;
+        Map<Long, PostCounterDelta> shardDeltas = sumShardsQuietly(postIds.stream()
+                .filter(this::isSharded)
+                .toList());
+        Map<Long, PostCounterDelta> result = new HashMap<>();
+        for (Long postId : postIds) {
+            PostCounterDelta delta = pendingPostDeltas.getOrDefault(postId, PostCounterDelta.ZERO)
+                    .plus(inFlight.getOrDefault(postId, PostCounterDelta.ZERO))
+                    .plus(shardDeltas.getOrDefault(postId, PostCounterDelta.ZERO));
+            if (!delta.isZero()) {
+                result.put(postId, delta);
+            }
+        }
+        return result;
+    }
+
+    public int getPendingCommentLikeDelta(Long commentId) {
+        return pendingCommentLikeDeltas.getOrDefault(commentId, 0)
+                + inFlightCommentLikeDeltas.getOrDefault(commentId, 0);
+    }
+
+    @Scheduled(fixedDelayString = "${community.counter.flush-interval-ms:300}")
+    public synchronized void flush() {
+        flushPostDeltas();
+        flushCommentLikeDeltas();
+    }
+
+    /**
+     * 분산 카운터 슬롯을 posts 행에 합산 (다른 인스턴스가 기록한 슬롯 포함)
+     * 합산 전에 슬롯이 남은 게시글을 기록해 두어, 다른 인스턴스가 분산시킨 게시글도 조회 시 슬롯 합계를 더한다.
+     */
+    @Scheduled(fixedDelayString = "${community.counter.shard-compaction-interval-ms:1000}")
+    public void compactShards() {
+        try {
+            counterBatchRepository.findShardedPostIds(MAX_COMPACTION_POSTS)
+                    .forEach(postId -> shardedPostIds.put(postId, Boolean.TRUE));
+        } catch (Exception e) {
+            log.warn("Failed to read sharded post ids", e);
+        }
+        try {
+            counterBatchRepository.compactPostCounterShards(MAX_COMPACTION_POSTS)
+                    .forEach(this::evictDetailQuietly);
+        } catch (Exception e) {
+            log.warn("Failed to compact post counter shards", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!pendingPostDeltas.isEmpty() || !pendingCommentLikeDeltas.isEmpty()) {
+            log.error("Counter deltas left unflushed on shutdown - posts: {}, comments: {}",
+                    pendingPostDeltas, pendingCommentLikeDeltas);
+        }
+    }
+
+    private void addPostDelta(Long postId, PostCounterDelta delta) {
+        pendingPostDeltas.merge(postId, delta, PostCounterDelta::plus);
+        pendingPostUpdateCounts.merge(postId, 1, Integer::sum);
+    }
+
+    private void flushPostDeltas() {
+        Map<Long, PostCounterDelta> rowDeltas = new HashMap<>();
+        Map<Long, PostCounterDelta> shardDeltas = new HashMap<>();
+        for (Long postId : pendingPostDeltas.keySet()) {
+            PostCounterDelta delta = pendingPostDeltas.remove(postId);
+            Integer updateCount = pendingPostUpdateCounts.remove(postId);
+            if (updateCount != null && updateCount >= shardThreshold) {
+                hotPostIds.put(postId, Boolean.TRUE);
+            }
+            if (delta == null || delta.isZero()) {
+                continue;
+            }
+            if (hotPostIds.getIfPresent(postId) != null) {
+                shardDeltas.put(postId, delta);
+            } else {
+                rowDeltas.put(postId, delta);
+            }
+        }
+        if (rowDeltas.isEmpty() && shardDeltas.isEmpty()) {
+            return;
+        }
+
+        Map<Long, PostCounterDelta> drained = new HashMap<>(rowDeltas);
+        drained.putAll(shardDeltas);
+        inFlightPostDeltas = drained;
+        try {
+            if (flushPostRows(rowDeltas)) {
+                rowDeltas.keySet().forEach(this::evictDetailQuietly); // 커밋 시점에 무효화된 뒤 반영 전 값으로 다시 캐시됐을 수 있음
+            }
+            flushPostShards(shardDeltas); // 슬롯 값은 합산(compaction) 후 무효화
+        } finally {
+            inFlightPostDeltas = Map.of();
+        }
+    }
+
+    private boolean flushPostRows(Map<Long, PostCounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return false;
+        }
+        try {
+            counterBatchRepository.updatePostCounters(deltas);
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to flush post counters - size: {}", deltas.size(), e);
+            deltas.forEach((postId, delta) -> pendingPostDeltas.merge(postId, delta, PostCounterDelta::plus));
+            return false;
+        }
+    }
+
+    private void flushPostShards(Map<Long, PostCounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            counterBatchRepository.incrementPostCounterShards(deltas, shardSlots);
+        } catch (Exception e) {
+            log.warn("Failed to flush post counter shards - size: {}", deltas.size(), e);
+            deltas.forEach((postId, delta) -> pendingPostDeltas.merge(postId, delta, PostCounterDelta::plus));
+        }
+    }
+
+    private void flushCommentLikeDeltas() {
+        Map<Long, Integer> drained = new HashMap<>();
+        for (Long commentId : pendingCommentLikeDeltas.keySet()) {
+            Integer delta = pendingCommentLikeDeltas.remove(commentId);
+            if (delta != null && delta != 0) {
+                drained.put(commentId, delta);
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        inFlightCommentLikeDeltas = drained;
+        try {
+            counterBatchRepository.updateCommentLikeCounts(drained);
+        } catch (Exception e) {
+            log.warn("Failed to flush comment like counters - size: {}", drained.size(), e);
+            drained.forEach((commentId, delta) -> pendingCommentLikeDeltas.merge(commentId, delta, Integer::sum));
+        } finally {
+            inFlightCommentLikeDeltas = Map.of();
+        }
+    }
+
+    private boolean isSharded(Long postId) {
+        return hotPostIds.getIfPresent(postId) != null || shardedPostIds.getIfPresent(postId) != null;
+    }
+
+    private Map<Long, PostCounterDelta> sumShardsQuietly(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return counterBatchRepository.sumPostCounterShards(postIds);
+        } catch (Exception e) {
+            log.warn("Failed to read post counter shards - size: {}", postIds.size(), e);
+            return Map.of();
+        }
+    }
+
+    private void evictDetailQuietly(Long postId) {
+        try {
+            postDetailCache.evict(postId);
+        } catch (Exception e) {
+            log.warn("Failed to evict post detail cache - postId: {}", postId, e);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
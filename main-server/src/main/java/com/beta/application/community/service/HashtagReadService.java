@@ -1,6 +1,7 @@
 package com.beta.application.community.service;
 
 import com.beta.application.community.dto.HashtagDto;
+import com.beta.infra.community.cache.HashtagPrefixIndex;
 import com.beta.infra.community.repository.HashtagJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +17,7 @@ import java.util.List;
 public class HashtagReadService {
 
     private final HashtagJpaRepository hashtagJpaRepository;
+    private final HashtagPrefixIndex hashtagPrefixIndex;
 
     @Cacheable(value = "hashtags", key = "'all'")
     @Transactional(readOnly = true)
@@ -24,4 +26,24 @@ public class HashtagReadService {
                 .map(HashtagDto::from)
                 .toList();
     }
+
+    /**
+     * 해시태그 자동완성 (접두어 일치, 사용 횟수 내림차순)
+     * 한글은 자모 단위로 비교하므로 입력 중인 글자("얔")로도 "야구"가 검색된다.
+     */
+    public List<HashtagDto> autocomplete(String keyword, int size) {
+        String prefix = keyword == null ? "" : keyword.trim();
+        if (prefix.startsWith("#")) {
+            prefix = prefix.substring(1);
+        }
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        return hashtagPrefixIndex.search(prefix, size).stream()
+                .map(entry -> HashtagDto.builder()
+                        .hashtagId(entry.hashtagId())
+                        .name(entry.tagName())
+                        .build())
+                .toList();
+    }
 }
@@ -0,0 +1,144 @@
+package com.beta.application.community.service;
+
+import com.beta.application.community.dto.ImageDto;
+import com.beta.domain.community.service.ImageDerivativeGenerator;
+import com.beta.domain.community.service.ImageDerivativeGenerator.Derivatives;
+import com.beta.domain.community.service.ImageDerivativeGenerator.Rendition;
+import com.beta.infra.community.gcs.ImageObjectStorage;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 피드용/상세용 파생 이미지 생성 (백그라운드 작업자 풀)
+ * 원본을 저장소에서 스트림으로 읽어 만들고, 원본 옆에 {이름}_feed / {이름}_detail 로 저장한 뒤 URL/크기를 기록한다.
+ *
+ * - 디코딩/리사이즈는 CPU 작업이라 코어 수의 절반만 쓰는 고정 크기 풀에서 처리한다. (요청 처리 스레드와 경쟁 최소화)
+ * - 대기열(QUEUE_CAPACITY)이 가득 찼거나 생성에 실패하면 retry-delay × 시도 횟수만큼 기다렸다가 MAX_ATTEMPTS번까지 다시 시도한다.
+ *   끝내 실패한 이미지는 조회 시 원본을 그대로 쓴다.
+ * - 결과별(success/failed/rejected/abandoned) 횟수를 메트릭으로 남긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageDerivativeService {
+
+    private static final int QUEUE_CAPACITY = 1000;
+    private static final int WORKERS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String METRIC_RESULT = "community.image.derivative";
+
+    private final ImageDerivativeGenerator imageDerivativeGenerator;
+    private final ImageObjectStorage imageObjectStorage;
+    private final PostImageWriteService postImageWriteService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${community.image.derivative-retry-delay-ms:30000}")
+    private long retryDelayMillis = 30_000L;
+
+    private final ThreadPoolExecutor derivativeExecutor = newDerivativeExecutor();
+    private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "image-derivative-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public void generateAsync(ImageDto image) {
+        submit(image, 1);
+    }
+
+    /**
+     * 파생 이미지를 만들어 저장하고 URL/크기를 기록 (실패하면 예외)
+     */
+    public void generate(ImageDto image) throws IOException {
+        Derivatives derivatives;
+        try (InputStream source = imageObjectStorage.openStream(image.getNewName())) {
+            derivatives = imageDerivativeGenerator.generate(source, image.getMimeType());
+        }
+        String feedUrl = store(image, ImageObjectStorage.FEED_SUFFIX, derivatives.feed());
+        String detailUrl = store(image, ImageObjectStorage.DETAIL_SUFFIX, derivatives.detail());
+        postImageWriteService.saveDerivatives(image.getPostImageId(),
+                feedUrl, derivatives.feed().width(), derivatives.feed().height(),
+                detailUrl, derivatives.detail().width(), derivatives.detail().height());
+    }
+
+    private void submit(ImageDto image, int attempt) {
+        if (derivativeExecutor.isShutdown()) {
+            return;
+        }
+        try {
+            derivativeExecutor.execute(() -> run(image, attempt));
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter(METRIC_RESULT, "result", "rejected").increment();
+            log.warn("Image derivative queue is full - imageId: {}, attempt: {}", image.getPostImageId(), attempt);
+            retryLater(image, attempt);
+        }
+    }
+
+    private void run(ImageDto image, int attempt) {
+        try {
+            generate(image);
+            meterRegistry.counter(METRIC_RESULT, "result", "success").increment();
+        } catch (Exception e) {
+            meterRegistry.counter(METRIC_RESULT, "result", "failed").increment();
+            log.warn("Failed to generate image derivatives - imageId: {}, attempt: {}", image.getPostImageId(), attempt, e);
+            retryLater(image, attempt);
+        }
+    }
+
+    private void retryLater(ImageDto image, int attempt) {
+        if (attempt >= MAX_ATTEMPTS) {
+            meterRegistry.counter(METRIC_RESULT, "result", "abandoned").increment();
+            log.error("Gave up generating image derivatives, serving the original - imageId: {}", image.getPostImageId());
+            return;
+        }
+        try {
+            retryScheduler.schedule(() -> submit(image, attempt + 1), retryDelayMillis * attempt, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warn("Image derivative retry skipped during shutdown - imageId: {}", image.getPostImageId());
+        }
+    }
+
+    /**
+     * 파생 이미지를 저장하고 URL 반환 (원본을 그대로 쓰면 원본 URL)
+     */
+    private String store(ImageDto image, String suffix, Rendition rendition) throws IOException {
+        if (rendition.usesOriginal()) {
+            return image.getImgUrl();
+        }
+        String objectName = ImageObjectStorage.derivativeName(image.getNewName(), suffix);
+        return imageObjectStorage.write(objectName, image.getMimeType(), rendition.bytes());
+    }
+
+    private static ThreadPoolExecutor newDerivativeExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                WORKERS, WORKERS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-derivative-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+
+    @PreDestroy
+    void shutdownDerivativeExecutor() {
+        retryScheduler.shutdownNow();
+        derivativeExecutor.shutdown();
+    }
+}
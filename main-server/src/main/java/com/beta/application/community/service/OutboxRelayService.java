@@ -0,0 +1,104 @@
+package com.beta.application.community.service;
+
+import com.beta.application.community.event.OutboxEvent;
+import com.beta.application.community.event.OutboxEventCodec;
+import com.beta.application.community.event.RelayedEvent;
+import com.beta.infra.community.redis.CommunityEventStreamRedisRepository;
+import com.beta.infra.community.repository.OutboxEventRepository;
+import com.beta.infra.community.repository.dao.OutboxEventRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 아웃박스 릴레이 (community_outbox → Redis Stream + 로컬 리스너)
+ * 주기마다 오래된 이벤트부터 batch-size개씩 읽어 Stream에 파이프라인으로 적재하고,
+ * 로컬 리스너에 RelayedEvent로 전달한 뒤 행을 삭제한다.
+ *
+ * - 삭제 전에 실패하면 다음 주기에 같은 이벤트를 다시 전달한다. (at-least-once)
+ * - Stream 적재에 실패하면 배치를 삭제하지 않고 다음 주기에 재시도한다.
+ * - 로컬 리스너 실패는 로그만 남긴다. (각 리스너가 실패 시 캐시를 비우는 식으로 스스로 복구)
+ * - Redis 잠금을 가진 인스턴스 하나만 수행해 id(발생 시각) 순서대로 전달한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxRelayService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final CommunityEventStreamRedisRepository communityEventStreamRedisRepository;
+    private final OutboxEventCodec outboxEventCodec;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+
+    @Value("${community.outbox.batch-size:200}")
+    private int batchSize = 200;
+
+    @Value("${community.outbox.max-batches-per-run:10}")
+    private int maxBatchesPerRun = 10;
+
+    @Scheduled(fixedDelayString = "${community.outbox.relay-interval-ms:100}")
+    public void relay() {
+        String token;
+        try {
+            token = communityEventStreamRedisRepository.tryLockRelay(LOCK_TTL);
+        } catch (Exception e) {
+            log.warn("Failed to acquire outbox relay lock", e);
+            return;
+        }
+        if (token == null) {
+            return;
+        }
+
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                if (relayBatch() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to relay outbox events", e);
+        } finally {
+            unlockQuietly(token);
+        }
+    }
+
+    /**
+     * @return 전달한 이벤트 수
+     */
+    private int relayBatch() {
+        List<OutboxEventRow> rows = outboxEventRepository.findOldest(batchSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        communityEventStreamRedisRepository.appendAll(rows);
+        rows.forEach(this::deliverLocally);
+        outboxEventRepository.deleteAllByIds(rows.stream().map(OutboxEventRow::id).toList());
+        return rows.size();
+    }
+
+    private void deliverLocally(OutboxEventRow row) {
+        try {
+            OutboxEvent event = outboxEventCodec.decode(row);
+            eventPublisher.publishEvent(new RelayedEvent<>(row.id(), event));
+        } catch (Exception e) {
+            log.warn("Failed to deliver outbox event - id: {}, type: {}", row.id(), row.eventType(), e);
+        }
+    }
+
+    private void unlockQuietly(String token) {
+        try {
+            communityEventStreamRedisRepository.unlockRelay(token);
+        } catch (Exception e) {
+            log.warn("Failed to release outbox relay lock", e);
+        }
+    }
+}
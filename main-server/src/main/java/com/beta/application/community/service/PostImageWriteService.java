@@ -1,26 +1,42 @@
 package com.beta.application.community.service;
 
 import com.beta.application.community.dto.ImageDto;
+import com.beta.application.community.event.ImagesUploadedEvent;
+import com.beta.application.community.event.PostChangedEvent;
+import com.beta.common.exception.image.ImageOrderMismatchException;
 import com.beta.common.exception.image.ImageUploadFailedException;
 import com.beta.domain.community.service.ImageValidationService;
 import com.beta.infra.community.entity.PostImageEntity;
 import com.beta.infra.community.entity.PostImageErrorEntity;
 import com.beta.infra.community.entity.Status;
 import com.beta.infra.community.gcs.GcsStorageClient;
+import com.beta.infra.community.gcs.ImageObjectStorage;
 import com.beta.infra.community.repository.ImageErrorJpaRepository;
+import com.beta.infra.community.repository.PostImageBatchRepository;
 import com.beta.infra.community.repository.PostImageJpaRepository;
 import com.beta.infra.community.repository.PostJpaRepository;
 import com.beta.presentation.community.request.PostCreateRequest;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -31,43 +47,99 @@ public class PostImageWriteService {
     private final ImageValidationService imageValidationService;
     private final GcsStorageClient gcsStorageClient;
     private final PostImageJpaRepository postImageJpaRepository;
+    private final PostImageBatchRepository postImageBatchRepository;
     private final ImageErrorJpaRepository imageErrorJpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    private static final int MAX_CONCURRENT_UPLOADS = 64;
+
+    private final ExecutorService uploadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore uploadPermits = new Semaphore(MAX_CONCURRENT_UPLOADS);
+
+    /**
+     * 이미지를 가상 스레드에서 병렬로 업로드 (동시 업로드 수는 인스턴스 전체에서 MAX_CONCURRENT_UPLOADS로 제한)
+     * 하나라도 실패하면 모든 업로드가 끝나기를 기다린 뒤 성공한 이미지를 모두 삭제하고 예외를 던진다.
+     */
     @Transactional
     public List<ImageDto> uploadImages(List<MultipartFile> images, Long userId) {
-        List<ImageDto> imageDtoList = new ArrayList<>();
         try {
             imageValidationService.validateImages(images);
+        } catch (Exception e) {
+            throw new ImageUploadFailedException("이미지 업로드 중 오류가 발생했습니다", e);
+        }
 
-            for (MultipartFile image : images) {
-                ImageDto imageDto = gcsStorageClient.upload(image, userId);
-                imageDtoList.add(imageDto);
-            }
+        List<CompletableFuture<ImageDto>> uploads = images.stream()
+                .map(image -> CompletableFuture.supplyAsync(() -> uploadBounded(image, userId), uploadExecutor))
+                .toList();
+        CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
 
-            return imageDtoList;
-        } catch (Exception e) {
-            for(ImageDto dto : imageDtoList) {
-                try {
-                    boolean deleted = gcsStorageClient.delete(dto.getNewName());
-                    if (!deleted) saveImageError(dto.getImgUrl(), dto.getNewName(),userId);
-                } catch (Exception ex) {
-                    saveImageError(dto.getImgUrl(), dto.getNewName(), userId);
-                    log.error("Failed to delete image during rollback: {}", dto.getImgUrl(), ex);
-                }
+        List<ImageDto> imageDtoList = new ArrayList<>();
+        Throwable failure = null;
+        for (CompletableFuture<ImageDto> upload : uploads) {
+            try {
+                imageDtoList.add(upload.join());
+            } catch (CompletionException e) {
+                failure = failure != null ? failure : e.getCause();
             }
-            throw new ImageUploadFailedException("이미지 업로드 중 오류가 발생했습니다", e);
+        }
+        if (failure == null) {
+            return imageDtoList;
+        }
+
+        for (ImageDto dto : imageDtoList) {
+            deleteObjects(dto, userId);
+        }
+        throw new ImageUploadFailedException("이미지 업로드 중 오류가 발생했습니다", failure);
+    }
+
+    private ImageDto uploadBounded(MultipartFile image, Long userId) {
+        try {
+            uploadPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        try {
+            return gcsStorageClient.upload(image, userId);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        } finally {
+            uploadPermits.release();
         }
     }
 
+    @PreDestroy
+    void shutdownUploadExecutor() {
+        uploadExecutor.close();
+    }
+
     @Transactional
     public void deleteImages(List<ImageDto> images, Long userId) {
         for (ImageDto image : images) {
+            deleteObjects(image, userId);
+        }
+    }
+
+    /**
+     * 원본과 파생 이미지(있으면) 객체 삭제, 원본 삭제에 실패하면 post_image_error에 기록
+     */
+    private void deleteObjects(ImageDto image, Long userId) {
+        try {
+            boolean deleted = gcsStorageClient.delete(image.getNewName());
+            if (!deleted) saveImageError(image.getImgUrl(), image.getNewName(), userId);
+        } catch (Exception e) {
+            saveImageError(image.getImgUrl(), image.getNewName(), userId);
+            log.error("Failed to delete image: {}", image.getImgUrl(), e);
+        }
+        for (String suffix : List.of(ImageObjectStorage.FEED_SUFFIX, ImageObjectStorage.DETAIL_SUFFIX)) {
+            String derivativeName = ImageObjectStorage.derivativeName(image.getNewName(), suffix);
             try {
-                boolean deleted = gcsStorageClient.delete(image.getNewName());
-                if(!deleted) saveImageError(image.getImgUrl(),image.getNewName(), userId);
+                gcsStorageClient.delete(derivativeName); // 생성되지 않았으면 false
             } catch (Exception e) {
-                saveImageError(image.getImgUrl(), image.getNewName(), userId);
-                log.error("Failed to delete image: {}", image.getImgUrl(), e);
+                saveImageError(ImageObjectStorage.derivativeName(image.getImgUrl(), suffix), derivativeName, userId);
+                log.error("Failed to delete image derivative: {}", derivativeName, e);
             }
         }
     }
@@ -88,18 +160,68 @@ public class PostImageWriteService {
                     .build())
                 .toList();
 
-        return postImageJpaRepository.saveAll(postImageList).stream()
+        List<ImageDto> saved = postImageJpaRepository.saveAll(postImageList).stream()
                 .map(ImageDto::toDto)
                 .toList();
+        eventPublisher.publishEvent(new ImagesUploadedEvent(saved));
+        if (postId != null) {
+            eventPublisher.publishEvent(new PostChangedEvent(postId));
+        }
+        return saved;
+    }
+
+    /**
+     * 백그라운드에서 만든 파생 이미지 URL/크기 기록 (그 사이 삭제된 이미지는 무시)
+     * 생성하는 동안 바뀌었을 수 있는 post_id/status/sort를 덮어쓰지 않도록 해당 컬럼만 UPDATE한다.
+     */
+    @Transactional
+    public void saveDerivatives(Long imageId, String feedUrl, int feedWidth, int feedHeight,
+                                String detailUrl, int detailWidth, int detailHeight) {
+        int updated = postImageBatchRepository.updateDerivatives(
+                imageId, feedUrl, feedWidth, feedHeight, detailUrl, detailWidth, detailHeight);
+        if (updated == 0) {
+            return;
+        }
+        postImageJpaRepository.findById(imageId)
+                .map(PostImageEntity::getPostId)
+                .ifPresent(postId -> eventPublisher.publishEvent(new PostChangedEvent(postId)));
     }
 
     @Transactional
     public List<ImageDto> softDeleteImages(Long postId, List<Long> imageIds) {
         List<PostImageEntity> images = postImageJpaRepository.findAllByIdInAndPostIdAndStatus(imageIds, postId, Status.ACTIVE);
         images.forEach(PostImageEntity::markForDeletion);
-        return postImageJpaRepository.saveAll(images).stream()
+        List<ImageDto> deleted = postImageJpaRepository.saveAll(images).stream()
                 .map(ImageDto::toDto)
                 .toList();
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+        return deleted;
+    }
+
+    /**
+     * 게시글의 ACTIVE 이미지 전체를 요청한 순서(1부터)로 정렬 (UPDATE 1번)
+     * 요청한 이미지 id 목록이 게시글의 ACTIVE 이미지와 정확히 일치하지 않으면 ImageOrderMismatchException
+     */
+    @Transactional
+    public List<ImageDto> reorderImages(Long postId, List<Long> imageIds) {
+        Map<Long, PostImageEntity> imageById = postImageJpaRepository.findAllByPostIdAndStatusIn(postId, List.of(Status.ACTIVE)).stream()
+                .collect(Collectors.toMap(PostImageEntity::getId, Function.identity()));
+        if (imageIds.size() != imageById.size() || !imageById.keySet().equals(new HashSet<>(imageIds))) {
+            throw new ImageOrderMismatchException();
+        }
+
+        Map<Long, Integer> sortByImageId = new HashMap<>();
+        for (int i = 0; i < imageIds.size(); i++) {
+            sortByImageId.put(imageIds.get(i), i + 1);
+        }
+        if (postImageBatchRepository.reorderImages(postId, sortByImageId) != imageIds.size()) {
+            throw new ImageOrderMismatchException(); // 조회 이후 다른 요청이 이미지를 삭제함
+        }
+
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+        return imageIds.stream()
+                .map(imageId -> ImageDto.toDto(imageById.get(imageId), sortByImageId.get(imageId)))
+                .toList();
     }
 
     private void saveImageError(String imageUrl, String fileName, Long userId) {
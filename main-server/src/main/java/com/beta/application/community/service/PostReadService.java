@@ -1,20 +1,60 @@
 package com.beta.application.community.service;
 
+import com.beta.application.community.dto.ImageVariant;
+import com.beta.application.community.dto.PostSearchResultDto;
 import com.beta.application.community.dto.PostWithImagesDto;
+import com.beta.common.datasource.DataSourceRoutingContext;
+import com.beta.common.exception.post.InvalidPostFeedRequestException;
 import com.beta.common.exception.post.PostAccessDeniedException;
 import com.beta.common.exception.post.PostNotFoundException;
+import com.beta.infra.community.cache.PostDetailCache;
+import com.beta.infra.community.entity.HashtagEntity;
 import com.beta.infra.community.entity.PostEntity;
+import com.beta.infra.community.entity.Status;
+import com.beta.infra.community.redis.PostRankingRedisRepository;
+import com.beta.infra.community.redis.PostTimelineRedisRepository;
+import com.beta.infra.community.repository.HashtagJpaRepository;
+import com.beta.infra.community.repository.HashtagMatchType;
+import com.beta.infra.community.repository.PostHashtagRepository;
 import com.beta.infra.community.repository.PostJpaRepository;
+import com.beta.infra.community.repository.PostSortType;
+import com.beta.infra.community.repository.dao.PostCounterDelta;
+import com.beta.infra.community.repository.dao.PostRow;
+import com.beta.infra.community.repository.dao.PostSearchRow;
+import com.beta.infra.community.repository.dao.PostWithImages;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostReadService {
 
+    private static final int MAX_HASHTAG_FILTER_SIZE = 5;
+    private static final int MAX_SEARCH_TERM_COUNT = 5;
+    private static final int MIN_SEARCH_TERM_LENGTH = 2; // ngram_token_size
+
     private final PostJpaRepository postJpaRepository;
+    private final PostTimelineRedisRepository postTimelineRedisRepository;
+    private final PostDetailCache postDetailCache;
+    private final PostRankingRedisRepository postRankingRedisRepository;
+    private final HashtagJpaRepository hashtagJpaRepository;
+    private final PostHashtagRepository postHashtagRepository;
+    private final EngagementCounterService engagementCounterService;
 
     public void validatePostOwnership(Long postId, Long userId) {
         PostEntity post = postJpaRepository.findById(postId)
@@ -25,7 +65,228 @@ public class PostReadService {
         }
     }
 
+    /**
+     * 게시글 상세 조회 (상세 캐시)
+     * 캐시 미스는 원본에서 읽는다. 변경 직후 무효화된 캐시를 복제 지연된 값으로 다시 채워 TTL 동안 보여주지 않도록 한다.
+     */
+    @Transactional(readOnly = true)
     public PostWithImagesDto getPostWithImages(Long postId) {
-        return PostWithImagesDto.from(postJpaRepository.findPostWithImages(postId).orElseThrow(PostNotFoundException::new));
+        PostWithImagesDto post = PostWithImagesDto.from(postDetailCache.get(postId, id -> DataSourceRoutingContext.callOnPrimary(
+                        () -> postJpaRepository.findPostWithImages(id)))
+                .orElseThrow(PostNotFoundException::new), ImageVariant.DETAIL);
+        engagementCounterService.getPendingPostDeltas(List.of(postId)).values().forEach(post::addPendingCounts);
+        return post;
+    }
+
+    /**
+     * 채널 피드 조회
+     * hasNext 판단을 위해 호출 측에서 요청한 개수(fetchSize)를 그대로 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<PostWithImagesDto> getChannelPosts(String channel, String sortType, Long cursorId, Integer cursorEmotionCount, int fetchSize) {
+        PostEntity.Channel postChannel = parseChannel(channel);
+        PostSortType postSortType = parseSortType(sortType);
+        if (postSortType == PostSortType.EMOTION && cursorId != null && cursorEmotionCount == null) {
+            throw new InvalidPostFeedRequestException("반응순 조회 시 cursorEmotionCount가 필요합니다.");
+        }
+
+        List<PostWithImages> posts = switch (postSortType) {
+            case LATEST -> findLatestPosts(postChannel, cursorId, fetchSize);
+            case HOT -> findHotPosts(postChannel, cursorId, fetchSize);
+            case EMOTION -> postJpaRepository.findChannelPosts(postChannel, postSortType, cursorId, cursorEmotionCount, fetchSize);
+        };
+        return toDtos(posts);
+    }
+
+    /**
+     * 해시태그 피드 조회 (최대 5개 태그의 AND/OR, post id 기준 keyset)
+     */
+    @Transactional(readOnly = true)
+    public List<PostWithImagesDto> getHashtagPosts(List<String> hashtags, String matchType, Long cursorId, int fetchSize) {
+        List<String> tagNames = hashtags == null ? List.of() : hashtags.stream()
+                .map(tag -> tag.trim().startsWith("#") ? tag.trim().substring(1) : tag.trim())
+                .filter(tag -> !tag.isEmpty())
+                .distinct()
+                .toList();
+        if (tagNames.isEmpty() || tagNames.size() > MAX_HASHTAG_FILTER_SIZE) {
+            throw new InvalidPostFeedRequestException("해시태그는 1개 이상 " + MAX_HASHTAG_FILTER_SIZE + "개 이하로 지정해야 합니다.");
+        }
+        HashtagMatchType hashtagMatchType = parseMatchType(matchType);
+
+        List<HashtagEntity> found = hashtagJpaRepository.findByTagNameIn(tagNames);
+        if (found.isEmpty() || (hashtagMatchType == HashtagMatchType.AND && found.size() < tagNames.size())) {
+            return List.of(); // AND 조건에서 존재하지 않는 태그가 있으면 결과가 없다
+        }
+        List<Long> hashtagIds = found.stream()
+                .sorted(Comparator.comparing(HashtagEntity::getUsageCount)) // AND는 가장 드문 태그로 후보를 좁힌다
+                .map(HashtagEntity::getId)
+                .toList();
+
+        List<Long> postIds = postHashtagRepository.findPostIdsByHashtags(hashtagIds, hashtagMatchType, cursorId, fetchSize);
+        return toDtos(postJpaRepository.findPostsWithImages(postIds));
+    }
+
+    /**
+     * 게시글 본문 검색 (FULLTEXT ngram 관련도순, (score, id) keyset)
+     * 공백으로 나뉜 검색어는 모두 포함(AND)되어야 하며, 각 검색어는 구문 단위로 일치시킨다.
+     */
+    @Transactional(readOnly = true)
+    public List<PostSearchResultDto> searchPosts(String keyword, String channel, Double cursorScore, Long cursorId, int fetchSize) {
+        String booleanQuery = toBooleanQuery(keyword);
+        PostEntity.Channel postChannel = channel != null ? parseChannel(channel) : null;
+        if ((cursorId == null) != (cursorScore == null)) {
+            throw new InvalidPostFeedRequestException("cursorId와 cursorScore는 함께 전달해야 합니다.");
+        }
+
+        List<PostSearchRow> hits = postJpaRepository.searchPostIds(booleanQuery, postChannel, cursorScore, cursorId, fetchSize);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostWithImagesDto> postsById = toDtos(postJpaRepository.findPostsWithImages(hits.stream().map(PostSearchRow::postId).toList()))
+                .stream()
+                .collect(Collectors.toMap(PostWithImagesDto::getPostId, Function.identity()));
+        return hits.stream()
+                .filter(hit -> postsById.containsKey(hit.postId()))
+                .map(hit -> PostSearchResultDto.builder()
+                        .post(postsById.get(hit.postId()))
+                        .score(hit.score())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 조회 결과를 DTO로 변환하면서 아직 DB에 반영되지 않은 카운터 변화량을 더한다.
+     */
+    private List<PostWithImagesDto> toDtos(List<PostWithImages> posts) {
+        List<PostWithImagesDto> dtos = posts.stream()
+                .map(post -> PostWithImagesDto.from(post, ImageVariant.FEED))
+                .toList();
+        if (dtos.isEmpty()) {
+            return dtos;
+        }
+        Map<Long, PostCounterDelta> pendingDeltas = engagementCounterService.getPendingPostDeltas(
+                dtos.stream().map(PostWithImagesDto::getPostId).toList());
+        dtos.forEach(dto -> {
+            PostCounterDelta delta = pendingDeltas.get(dto.getPostId());
+            if (delta != null) {
+                dto.addPendingCounts(delta);
+            }
+        });
+        return dtos;
+    }
+
+    /**
+     * 검색어를 BOOLEAN MODE 쿼리로 변환 ("두산 끝내기" → +"두산" +"끝내기")
+     * 연산자로 해석되는 문자는 제거하고, ngram 토큰보다 짧은 검색어는 제외한다.
+     */
+    private String toBooleanQuery(String keyword) {
+        List<String> terms = keyword == null ? List.of() : Arrays.stream(keyword.split("\\s+"))
+                .map(term -> term.replaceAll("[+\\-><()~*\"@]", ""))
+                .filter(term -> term.length() >= MIN_SEARCH_TERM_LENGTH)
+                .distinct()
+                .limit(MAX_SEARCH_TERM_COUNT)
+                .toList();
+        if (terms.isEmpty()) {
+            throw new InvalidPostFeedRequestException("검색어는 " + MIN_SEARCH_TERM_LENGTH + "글자 이상이어야 합니다.");
+        }
+        return terms.stream()
+                .map(term -> "+\"" + term + "\"")
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * 최신순 피드는 Redis 타임라인에서 postId를 먼저 조회하고,
+     * 타임라인 범위를 벗어났거나 타임라인에 남은 삭제 게시글이 빠져 모자란 만큼 MySQL keyset 조회로 이어서 채운다.
+     * (호출 측은 fetchSize를 다 채웠는지로 hasNext를 판단하므로 페이지가 덜 차면 안 된다)
+     */
+    private List<PostWithImages> findLatestPosts(PostEntity.Channel channel, Long cursorId, int fetchSize) {
+        List<Long> timelineIds = postTimelineRedisRepository.findPostIds(channel, cursorId, fetchSize)
+                .orElseGet(() -> cursorId == null ? loadTimeline(channel, fetchSize) : List.of());
+
+        List<PostWithImages> posts = new ArrayList<>(postJpaRepository.findPostsWithImages(timelineIds));
+        if (posts.size() < fetchSize) {
+            Long nextCursorId = timelineIds.isEmpty() ? cursorId : timelineIds.getLast();
+            posts.addAll(postJpaRepository.findChannelPosts(channel, PostSortType.LATEST, nextCursorId, null, fetchSize - posts.size()));
+        }
+        return posts;
+    }
+
+    private List<Long> loadTimeline(PostEntity.Channel channel, int fetchSize) {
+        List<Long> latestIds = postJpaRepository.findLatestPostIds(
+                channel, Status.ACTIVE, PageRequest.of(0, PostTimelineRedisRepository.MAX_SIZE));
+        try {
+            postTimelineRedisRepository.addAll(channel, latestIds);
+        } catch (Exception e) {
+            log.warn("Failed to load timeline - channel: {}", channel, e);
+        }
+        return latestIds.subList(0, Math.min(fetchSize, latestIds.size()));
+    }
+
+    /**
+     * 인기순 피드는 Redis 랭킹(상위 MAX_SIZE개)에서 postId를 조회해 한 번에 채운다.
+     * 랭킹이 비어 있으면 최근 게시글로 점수를 계산해 다시 적재한다.
+     * 랭킹에 남은 삭제 게시글이 빠져 모자라면 다음 순위부터 이어서 채운다. (랭킹은 최대 MAX_SIZE개라 반복이 끝난다)
+     */
+    private List<PostWithImages> findHotPosts(PostEntity.Channel channel, Long cursorId, int fetchSize) {
+        Optional<List<Long>> ranked = postRankingRedisRepository.findPostIds(channel, cursorId, fetchSize);
+        if (ranked.isEmpty()) {
+            return postJpaRepository.findPostsWithImages(cursorId == null ? loadHotRanking(channel, fetchSize) : List.of());
+        }
+
+        List<Long> rankedIds = ranked.get();
+        List<PostWithImages> posts = new ArrayList<>(postJpaRepository.findPostsWithImages(rankedIds));
+        int requested = fetchSize;
+        while (posts.size() < fetchSize && rankedIds.size() == requested) {
+            requested = fetchSize - posts.size();
+            rankedIds = postRankingRedisRepository.findPostIds(channel, rankedIds.getLast(), requested).orElse(List.of());
+            posts.addAll(postJpaRepository.findPostsWithImages(rankedIds));
+        }
+        return posts;
+    }
+
+    private List<Long> loadHotRanking(PostEntity.Channel channel, int fetchSize) {
+        List<PostRow> recentPosts = postJpaRepository.findLatestPostRows(
+                channel, Status.ACTIVE, PageRequest.of(0, PostRankingRedisRepository.MAX_SIZE));
+        Map<Long, Long> engagementByPostId = new HashMap<>();
+        Map<Long, Long> createdEpochSecondByPostId = new HashMap<>();
+        for (PostRow row : recentPosts) {
+            engagementByPostId.put(row.postId(), (long) row.emotionCount() + row.commentCount());
+            createdEpochSecondByPostId.put(row.postId(), row.createdAt().atZone(ZoneId.systemDefault()).toEpochSecond());
+        }
+        try {
+            postRankingRedisRepository.addAll(channel, engagementByPostId, createdEpochSecondByPostId);
+        } catch (Exception e) {
+            log.warn("Failed to load hot ranking - channel: {}", channel, e);
+        }
+        return recentPosts.stream()
+                .map(PostRow::postId)
+                .sorted(Comparator.comparingDouble((Long postId) -> PostRankingRedisRepository.score(
+                        engagementByPostId.get(postId), createdEpochSecondByPostId.get(postId))).reversed())
+                .limit(fetchSize)
+                .toList();
+    }
+
+    private PostEntity.Channel parseChannel(String channel) {
+        try {
+            return PostEntity.Channel.valueOf(channel.trim().toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new InvalidPostFeedRequestException("존재하지 않는 채널입니다: " + channel);
+        }
+    }
+
+    private HashtagMatchType parseMatchType(String matchType) {
+        try {
+            return HashtagMatchType.valueOf(matchType.trim().toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new InvalidPostFeedRequestException("지원하지 않는 해시태그 조건입니다: " + matchType);
+        }
+    }
+
+    private PostSortType parseSortType(String sortType) {
+        try {
+            return PostSortType.valueOf(sortType.trim().toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new InvalidPostFeedRequestException("지원하지 않는 정렬 기준입니다: " + sortType);
+        }
     }
 }
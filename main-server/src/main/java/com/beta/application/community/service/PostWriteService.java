@@ -1,18 +1,35 @@
 package com.beta.application.community.service;
 
+import com.beta.application.community.dto.EmotionToggleDto;
+import com.beta.application.community.event.EmotionChangedEvent;
+import com.beta.application.community.event.HashtagsUpsertedEvent;
+import com.beta.application.community.event.PostChangedEvent;
+import com.beta.application.community.event.PostCreatedEvent;
+import com.beta.application.community.event.PostDeletedEvent;
+import com.beta.application.community.event.PostEngagementChangedEvent;
+import com.beta.common.exception.post.EmotionUnavailableException;
 import com.beta.common.exception.post.HashtagCountExceededException;
 import com.beta.common.exception.post.PostAccessDeniedException;
 import com.beta.common.exception.post.PostNotFoundException;
+import com.beta.infra.community.cache.HashtagIdCache;
 import com.beta.infra.community.entity.*;
+import com.beta.infra.community.redis.PostEmotionRedisRepository;
 import com.beta.infra.community.repository.*;
 import com.beta.presentation.community.request.Image;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostWriteService {
@@ -20,8 +37,13 @@ public class PostWriteService {
     private final PostJpaRepository postJpaRepository;
     private final PostHashtagRepository postHashtagJpaRepository;
     private final PostImageJpaRepository postImageJpaRepository;
+    private final PostImageBatchRepository postImageBatchRepository;
     private final HashtagJpaRepository hashtagJpaRepository;
+    private final HashtagBatchRepository hashtagBatchRepository;
+    private final HashtagIdCache hashtagIdCache;
     private final EmotionJpaRepository emotionJpaRepository;
+    private final PostEmotionRedisRepository postEmotionRedisRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void savePost(Long userId, Boolean allChannel, String content, String teamCode, List<String> hashtags, List<Image> images) {
@@ -45,6 +67,7 @@ public class PostWriteService {
         if(images != null && !images.isEmpty()) {
             publishPostImages(postId, images);
         }
+        eventPublisher.publishEvent(new PostCreatedEvent(postId, savePost.getChannel(), savePost.getCreatedAt()));
     }
 
     @Transactional
@@ -73,6 +96,7 @@ public class PostWriteService {
 
         post.updateContent(content);
         postJpaRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 
     @Transactional
@@ -84,6 +108,7 @@ public class PostWriteService {
         post.softDelete();
         postJpaRepository.save(post);
         imageDelete(postId);
+        eventPublisher.publishEvent(new PostDeletedEvent(postId, post.getChannel()));
     }
 
     private void imageDelete(Long postId) {
@@ -106,70 +131,92 @@ public class PostWriteService {
         if(images == null || images.isEmpty()) {
             return;
         }
-        for(Image image : images) {
-            postImageJpaRepository.updateImagePostIdAndSortAndActive(postId, image.getImageId(), image.getSort(), Status.ACTIVE);
-        }
-        postImageJpaRepository.updateImageStatus(postId, Status.MARKED_FOR_DELETION, Status.DELETED);
+        Map<Long, Integer> sortByImageId = images.stream()
+                .collect(Collectors.toMap(Image::getImageId, Image::getSort, (first, second) -> second));
+        postImageBatchRepository.publishImages(postId, sortByImageId);
     }
 
+    /**
+     * 해시태그 upsert + 게시글 연결 (태그 수와 상관없이 upsert 1번, 연결 INSERT 1번)
+     * id를 아는 태그는 조회를 건너뛰고, 처음 보는 태그만 한 번에 조회해 커밋 후 캐시/자동완성 인덱스에 반영한다.
+     * 이미 캐시된 태그의 usage_count 변화는 자동완성 인덱스의 주기적 재적재로 반영된다.
+     */
     private void saveHashtags(Long postId, List<String> hashtags) {
         List<String> sortedHashtags = hashtags.stream()
+                .distinct()
                 .sorted()
                 .toList();
 
-        sortedHashtags.forEach(hashtagJpaRepository::upsertHashTags);
-
-        Map<String, Long> hashtagIdMap = hashtagJpaRepository.findByTagNameIn(hashtags)
-                .stream()
-                .collect(Collectors.toMap(HashtagEntity::getTagName, HashtagEntity::getId));
+        hashtagBatchRepository.upsertHashtags(sortedHashtags);
 
-        List<PostHashtagEntity> postHashtags = hashtags.stream()
-                .map(name -> PostHashtagEntity.builder()
-                        .postId(postId)
-                        .hashtagId(hashtagIdMap.get(name))
-                        .build())
+        Map<String, Long> hashtagIdMap = new HashMap<>(hashtagIdCache.getAll(sortedHashtags));
+        List<String> unknownHashtags = sortedHashtags.stream()
+                .filter(name -> !hashtagIdMap.containsKey(name))
                 .toList();
+        if (!unknownHashtags.isEmpty()) {
+            List<HashtagEntity> hashtagEntities = hashtagJpaRepository.findByTagNameIn(unknownHashtags);
+            hashtagEntities.forEach(hashtag -> hashtagIdMap.put(hashtag.getTagName(), hashtag.getId()));
+            eventPublisher.publishEvent(new HashtagsUpsertedEvent(hashtagEntities));
+        }
 
-        postHashtagJpaRepository.saveAll(postHashtags);
+        List<Long> hashtagIds = sortedHashtags.stream()
+                .map(hashtagIdMap::get)
+                .toList();
+        hashtagBatchRepository.insertPostHashtags(postId, hashtagIds);
     }
 
-    @Transactional
-    public void updateEmotion(Long postId, String emotionType, Long userId) {
-        if (!postJpaRepository.existsById(postId)) {
-            throw new PostNotFoundException();
-        }
-
+    /**
+     * 반응 토글 (Redis Lua 1회, emotion 테이블과 posts 카운트는 EmotionPersistService가 비동기로 일괄 반영)
+     * 게시글 반응 상태가 Redis에 없으면 DB에서 한 번 적재한 뒤 다시 시도한다.
+     * Redis 장애 시에는 DB에 직접 쓰지 않고 실패시킨다. 반응 해시와 아직 반영되지 않은 영속화 큐가 Redis에 남아 있어
+     * DB만 바꾸면 복구 후 해시가 옛 상태를 내주고, 큐가 반영되면서 같은 토글이 두 번 적용될 수 있기 때문이다.
+     */
+    public EmotionToggleDto toggleEmotion(Long postId, String emotionType, Long userId) {
         EmotionEntity.EmotionType newEmotionType = EmotionEntity.EmotionType.valueOf(emotionType.toUpperCase());
 
-        EmotionEntity existingEmotion = emotionJpaRepository.findByPostIdAndUserId(postId, userId).orElse(null);
-
-        if (existingEmotion != null) {
-            if (existingEmotion.getEmotionType() == newEmotionType) {
-                emotionJpaRepository.delete(existingEmotion);
-                updateEmotionCount(postId, newEmotionType, -1);
-            } else {
-                updateEmotionCount(postId, existingEmotion.getEmotionType(), -1);
-                existingEmotion.changeEmotionType(newEmotionType);
-                emotionJpaRepository.save(existingEmotion);
-                updateEmotionCount(postId, newEmotionType, 1);
+        Optional<PostEmotionRedisRepository.ToggleResult> result;
+        try {
+            result = postEmotionRedisRepository.toggle(postId, userId, newEmotionType);
+            if (result.isEmpty()) {
+                loadEmotionState(postId);
+                result = postEmotionRedisRepository.toggle(postId, userId, newEmotionType);
             }
-        } else {
-            EmotionEntity newEmotion = EmotionEntity.builder()
-                    .postId(postId)
-                    .userId(userId)
-                    .emotionType(newEmotionType)
-                    .build();
-            emotionJpaRepository.save(newEmotion);
-            updateEmotionCount(postId, newEmotionType, 1);
+        } catch (DataAccessException e) {
+            log.warn("Failed to toggle emotion in redis - postId: {}, userId: {}", postId, userId, e);
+            throw new EmotionUnavailableException(e);
         }
+
+        PostEmotionRedisRepository.ToggleResult toggled = result.orElseThrow(() -> new EmotionUnavailableException(
+                new IllegalStateException("Emotion state was evicted right after loading - postId: " + postId)));
+        publishEmotionToggled(postId, userId, toggled);
+        return EmotionToggleDto.from(toggled);
+    }
+
+    /**
+     * 삭제된 게시글은 반응 상태를 적재하지 않는다. (이미 적재된 상태는 PostDeletedEvent에서 지운다)
+     */
+    private void loadEmotionState(Long postId) {
+        PostEntity post = postJpaRepository.findById(postId)
+                .filter(found -> found.getStatus() == Status.ACTIVE)
+                .orElseThrow(PostNotFoundException::new);
+        Map<Long, EmotionEntity.EmotionType> emotionByUserId = emotionJpaRepository.findAllByPostId(postId).stream()
+                .collect(Collectors.toMap(EmotionEntity::getUserId, EmotionEntity::getEmotionType, (first, second) -> second));
+        postEmotionRedisRepository.load(post, emotionByUserId);
     }
 
-    private void updateEmotionCount(Long postId, EmotionEntity.EmotionType emotionType, int increment) {
-        switch (emotionType) {
-            case LIKE -> postJpaRepository.updateLikeCount(postId, increment);
-            case SAD -> postJpaRepository.updateSadCount(postId, increment);
-            case FUN -> postJpaRepository.updateFunCount(postId, increment);
-            case HYPE -> postJpaRepository.updateHypeCount(postId, increment);
+    private void publishEmotionToggled(Long postId, Long userId, PostEmotionRedisRepository.ToggleResult toggled) {
+        boolean canceled = PostEmotionRedisRepository.NONE.equals(toggled.appliedEmotionType());
+        eventPublisher.publishEvent(new EmotionChangedEvent(userId, postId, canceled ? null : toggled.appliedEmotionType()));
+
+        int delta = canceled ? -1 : PostEmotionRedisRepository.NONE.equals(toggled.previousEmotionType()) ? 1 : 0;
+        if (delta != 0) {
+            eventPublisher.publishEvent(new PostEngagementChangedEvent(
+                    postId,
+                    toggled.channel(),
+                    LocalDateTime.ofInstant(Instant.ofEpochSecond(toggled.createdEpochSecond()), ZoneId.systemDefault()),
+                    toggled.emotionCount() - delta + toggled.commentCount(),
+                    delta
+            ));
         }
     }
 }
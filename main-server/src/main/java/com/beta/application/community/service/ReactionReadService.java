@@ -0,0 +1,87 @@
+package com.beta.application.community.service;
+
+import com.beta.infra.community.redis.UserReactionRedisRepository;
+import com.beta.infra.community.repository.CommentLikeJpaRepository;
+import com.beta.infra.community.repository.EmotionJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 피드/댓글 페이지 단위 "내 반응" 조회
+ * 사용자별 Redis 해시에서 HMGET 한 번으로 읽고, 캐시에 없는 id만 모아 DB에서 한 번에 조회한 뒤 채워 넣는다.
+ * 대부분 Redis에서 끝나므로 클래스 단위 트랜잭션을 걸지 않는다. (DB 조회 시에만 리포지토리 트랜잭션 사용)
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactionReadService {
+
+    private final UserReactionRedisRepository userReactionRedisRepository;
+    private final EmotionJpaRepository emotionJpaRepository;
+    private final CommentLikeJpaRepository commentLikeJpaRepository;
+
+    /**
+     * 게시글별 내 반응 조회 (반응을 남긴 게시글만 postId -> EmotionType 이름으로 반환)
+     */
+    public Map<Long, String> getMyEmotions(Long userId, List<Long> postIds) {
+        List<Long> ids = postIds.stream().distinct().toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, String> cached = userReactionRedisRepository.findEmotions(userId, ids);
+        List<Long> missedIds = ids.stream().filter(id -> !cached.containsKey(id)).toList();
+
+        Map<Long, String> loaded = new HashMap<>();
+        if (!missedIds.isEmpty()) {
+            missedIds.forEach(id -> loaded.put(id, null));
+            emotionJpaRepository.findAllByUserIdAndPostIdIn(userId, missedIds)
+                    .forEach(emotion -> loaded.put(emotion.getPostId(), emotion.getEmotionType().name()));
+            userReactionRedisRepository.fillEmotions(userId, loaded);
+        }
+
+        Map<Long, String> result = new LinkedHashMap<>();
+        for (Long id : ids) {
+            String emotionType = cached.containsKey(id) ? cached.get(id) : loaded.get(id);
+            if (emotionType != null && !UserReactionRedisRepository.NONE.equals(emotionType)) {
+                result.put(id, emotionType);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 주어진 댓글 중 내가 좋아요한 댓글 id 조회 (요청 순서 유지)
+     */
+    public Set<Long> getMyLikedCommentIds(Long userId, List<Long> commentIds) {
+        List<Long> ids = commentIds.stream().distinct().toList();
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+
+        Map<Long, Boolean> cached = userReactionRedisRepository.findCommentLikes(userId, ids);
+        List<Long> missedIds = ids.stream().filter(id -> !cached.containsKey(id)).toList();
+
+        Map<Long, Boolean> loaded = new HashMap<>();
+        if (!missedIds.isEmpty()) {
+            missedIds.forEach(id -> loaded.put(id, false));
+            commentLikeJpaRepository.findLikedCommentIds(userId, missedIds)
+                    .forEach(id -> loaded.put(id, true));
+            userReactionRedisRepository.fillCommentLikes(userId, loaded);
+        }
+
+        Set<Long> result = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (Boolean.TRUE.equals(cached.getOrDefault(id, loaded.get(id)))) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+package com.beta.common.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Snowflake id는 2^53을 넘어 JavaScript Number로 읽으면 끝자리가 바뀌므로 응답 JSON에서 문자열로 내려준다.
+ * 이름이 id / xxxId 인 Long 필드와 xxxIds 인 Long 목록만 바꾸고, 반응 수 같은 다른 숫자는 그대로 둔다.
+ * 요청 본문의 id는 숫자와 문자열을 모두 받는다. (Jackson 기본 변환)
+ */
+@Configuration
+public class JacksonConfig {
+
+    private static final JsonSerializer<Object> ID_LIST_SERIALIZER = new StdSerializer<>(Object.class) {
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray();
+            for (Object id : (Collection<?>) value) {
+                if (id == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeString(id.toString());
+                }
+            }
+            gen.writeEndArray();
+        }
+    };
+
+    @Bean
+    public Module idAsStringModule() {
+        SimpleModule module = new SimpleModule("IdAsStringModule");
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                                                             List<BeanPropertyWriter> beanProperties) {
+                for (BeanPropertyWriter writer : beanProperties) {
+                    if (isId(writer)) {
+                        writer.assignSerializer(ToStringSerializer.instance);
+                    } else if (isIdList(writer)) {
+                        writer.assignSerializer(ID_LIST_SERIALIZER);
+                    }
+                }
+                return beanProperties;
+            }
+        });
+        return module;
+    }
+
+    private static boolean isId(BeanPropertyWriter writer) {
+        Class<?> type = writer.getType().getRawClass();
+        String name = writer.getName();
+        return (type == Long.class || type == long.class) && (name.equals("id") || name.endsWith("Id"));
+    }
+
+    private static boolean isIdList(BeanPropertyWriter writer) {
+        JavaType type = writer.getType();
+        return type.isCollectionLikeType()
+                && type.getContentType().getRawClass() == Long.class
+                && writer.getName().endsWith("Ids");
+    }
+}
@@ -0,0 +1,42 @@
+package com.beta.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 요청의 읽기를 원본으로 고정할지 여부 (요청 스레드 범위)
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {
+    }
+
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+    }
+
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    /**
+     * 읽기 전용 트랜잭션 안에서도 action의 조회를 원본으로 보낸다.
+     * 커넥션은 첫 쿼리 시점에 가져오므로(LazyConnectionDataSourceProxy), 트랜잭션에서 아직 쿼리하지 않았을 때만 효과가 있다.
+     */
+    public static <T> T callOnPrimary(Supplier<T> action) {
+        boolean alreadyPinned = isPinnedToPrimary();
+        pinToPrimary();
+        try {
+            return action.get();
+        } finally {
+            if (!alreadyPinned) {
+                clear();
+            }
+        }
+    }
+}
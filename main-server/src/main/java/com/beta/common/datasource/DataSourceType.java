@@ -0,0 +1,6 @@
+package com.beta.common.datasource;
+
+public enum DataSourceType {
+    PRIMARY,    // 쓰기 (원본)
+    REPLICA     // 읽기 전용 (복제본)
+}
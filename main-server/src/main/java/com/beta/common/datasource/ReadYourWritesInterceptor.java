@@ -0,0 +1,104 @@
+package com.beta.common.datasource;
+
+import com.beta.common.security.CustomUserDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 자신이 쓴 데이터는 바로 읽을 수 있도록(read-your-writes) 쓰기 요청 직후 일정 시간 동안
+ * 해당 사용자의 읽기를 원본으로 고정한다.
+ *
+ * 고정 여부는 인스턴스 로컬 캐시에 userId 단위로 pinTtl 동안 보관하고,
+ * 쓰기 시 Redis Pub/Sub(PIN_CHANNEL)으로 다른 인스턴스에도 알려 어느 인스턴스로 요청이 가도 동일하게 적용된다.
+ * 읽기 요청은 로컬 캐시만 확인하므로 Redis 왕복이 없고, 쿠키 등 클라이언트 상태에 의존하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private static final String PIN_CHANNEL = "datasource:pin";
+    private static final long MAX_PINNED_USERS = 100_000;
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Cache<Long, Boolean> pinnedUsers;
+
+    public ReadYourWritesInterceptor(StringRedisTemplate stringRedisTemplate,
+                                     RedisMessageListenerContainer redisMessageListenerContainer,
+                                     @Value("${spring.datasource.replica.read-your-writes-ttl:5s}") Duration pinTtl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.pinnedUsers = Caffeine.newBuilder()
+                .maximumSize(MAX_PINNED_USERS)
+                .expireAfterWrite(pinTtl)
+                .build();
+    }
+
+    /**
+     * 다른 인스턴스에서 쓰기를 한 사용자도 로컬에 고정한다.
+     */
+    @PostConstruct
+    public void subscribePins() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> pinnedUsers.put(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)), Boolean.TRUE),
+                new ChannelTopic(PIN_CHANNEL)
+        );
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Long userId = extractUserId();
+        if (userId == null) {
+            return true;
+        }
+
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            // 응답을 받은 클라이언트가 곧바로 다른 인스턴스로 조회해도 고정이 보이도록 쓰기 처리 전에 알린다.
+            DataSourceRoutingContext.pinToPrimary();
+            pinnedUsers.put(userId, Boolean.TRUE);
+            try {
+                stringRedisTemplate.convertAndSend(PIN_CHANNEL, String.valueOf(userId));
+            } catch (Exception e) {
+                log.warn("Failed to publish primary pin - userId: {}", userId, e);
+            }
+            return true;
+        }
+
+        if (pinnedUsers.getIfPresent(userId) != null) {
+            DataSourceRoutingContext.pinToPrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        DataSourceRoutingContext.clear();
+    }
+
+    private Long extractUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.userId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.beta.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 복제본으로, 그 외는 원본으로 라우팅
+ * 최근에 쓰기를 한 사용자의 요청(DataSourceRoutingContext)은 readOnly여도 원본을 사용한다.
+ * 트랜잭션 속성이 확정된 뒤 커넥션을 가져오도록 LazyConnectionDataSourceProxy로 감싸서 사용해야 한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !DataSourceRoutingContext.isPinnedToPrimary()
+                ? DataSourceType.REPLICA
+                : DataSourceType.PRIMARY;
+    }
+}
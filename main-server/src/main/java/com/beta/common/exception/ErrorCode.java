@@ -44,6 +44,8 @@ public enum ErrorCode {
     POST_NOT_FOUND("POST001", "게시글을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
     POST_ACCESS_DENIED("POST002", "게시글에 대한 권한이 없습니다", HttpStatus.FORBIDDEN),
     HASHTAG_COUNT_EXCEEDED("POST003", "해시태그는 최대 5개까지 가능합니다", HttpStatus.BAD_REQUEST),
+    INVALID_POST_FEED_REQUEST("POST004", "게시글 목록 조회 조건이 올바르지 않습니다", HttpStatus.BAD_REQUEST),
+    EMOTION_UNAVAILABLE("POST005", "반응을 처리할 수 없습니다. 잠시 후 다시 시도해주세요", HttpStatus.SERVICE_UNAVAILABLE),
 
     // 이미지 관련 에러
     INVALID_IMAGE_TYPE("IMAGE001", "지원하지 않는 파일 형식입니다 (jpg, jpeg, png만 가능)", HttpStatus.BAD_REQUEST),
@@ -53,6 +55,7 @@ public enum ErrorCode {
     IMAGE_REQUIRED("IMAGE005", "이미지 파일이 존재하지 않습니다.", HttpStatus.BAD_REQUEST),
     IMAGE_ORDER_MISMATCH("IMAGE006", "정렬할 이미지 개수와 DB 이미지 개수가 일치하지 않습니다", HttpStatus.BAD_REQUEST),
     IMAGE_NOT_FOUND("IMAGE007", "삭제할 이미지를 찾을 수 없습니다", HttpStatus.NOT_FOUND),
+    IMAGE_NOT_UPLOADED("IMAGE008", "업로드가 완료되지 않은 이미지입니다", HttpStatus.BAD_REQUEST),
 
     // 댓글 관련 에러
     COMMENT_NOT_FOUND("COMMENT001", "댓글을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
@@ -7,6 +7,8 @@ import com.beta.common.exception.comment.CommentNotFoundException;
 import com.beta.common.exception.idempotency.IdempotencyKeyException;
 import com.beta.common.exception.image.*;
 import com.beta.common.exception.post.HashtagCountExceededException;
+import com.beta.common.exception.post.EmotionUnavailableException;
+import com.beta.common.exception.post.InvalidPostFeedRequestException;
 import com.beta.common.exception.post.PostAccessDeniedException;
 import com.beta.common.exception.post.PostNotFoundException;
 import com.beta.common.exception.team.TeamNotFoundException;
@@ -181,6 +183,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ErrorCode.HASHTAG_COUNT_EXCEEDED.getStatus()).body(errorResponse);
     }
 
+    /**
+     * 게시글 목록 조회 조건 오류
+     */
+    @ExceptionHandler(InvalidPostFeedRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPostFeedRequestException(InvalidPostFeedRequestException e) {
+        log.warn("Invalid post feed request: {}", e.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(ErrorCode.INVALID_POST_FEED_REQUEST);
+        return ResponseEntity.status(ErrorCode.INVALID_POST_FEED_REQUEST.getStatus()).body(errorResponse);
+    }
+
+    /**
+     * 반응 처리 불가 (Redis 장애)
+     */
+    @ExceptionHandler(EmotionUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleEmotionUnavailableException(EmotionUnavailableException e) {
+        log.error("Emotion unavailable: {}", e.getMessage(), e);
+
+        ErrorResponse errorResponse = ErrorResponse.of(ErrorCode.EMOTION_UNAVAILABLE);
+        return ResponseEntity.status(ErrorCode.EMOTION_UNAVAILABLE.getStatus()).body(errorResponse);
+    }
+
     /**
      * 댓글을 찾을 수 없음
      */
@@ -302,6 +326,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ErrorCode.IMAGE_NOT_FOUND.getStatus()).body(errorResponse);
     }
 
+    /**
+     * 직접 업로드 이미지가 버킷에 없음
+     */
+    @ExceptionHandler(ImageNotUploadedException.class)
+    public ResponseEntity<ErrorResponse> handleImageNotUploadedException(ImageNotUploadedException e) {
+        log.warn("Image not uploaded: {}", e.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(ErrorCode.IMAGE_NOT_UPLOADED);
+        return ResponseEntity.status(ErrorCode.IMAGE_NOT_UPLOADED.getStatus()).body(errorResponse);
+    }
+
     /**
      * 탈퇴한 사용자
      */
@@ -0,0 +1,7 @@
+package com.beta.common.exception.image;
+
+public class ImageNotUploadedException extends RuntimeException {
+    public ImageNotUploadedException() {
+        super("업로드가 완료되지 않은 이미지입니다");
+    }
+}
@@ -0,0 +1,7 @@
+package com.beta.common.exception.post;
+
+public class EmotionUnavailableException extends RuntimeException {
+    public EmotionUnavailableException(Throwable cause) {
+        super("반응을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", cause);
+    }
+}
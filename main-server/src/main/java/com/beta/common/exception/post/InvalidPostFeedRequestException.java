@@ -0,0 +1,7 @@
+package com.beta.common.exception.post;
+
+public class InvalidPostFeedRequestException extends RuntimeException {
+    public InvalidPostFeedRequestException(String message) {
+        super(message);
+    }
+}
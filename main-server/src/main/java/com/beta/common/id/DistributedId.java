@@ -0,0 +1,17 @@
+package com.beta.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * INSERT 전에 애플리케이션에서 id를 채번 (IDENTITY와 달리 Hibernate insert batch가 동작함)
+ */
+@IdGeneratorType(DistributedIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface DistributedId {
+}
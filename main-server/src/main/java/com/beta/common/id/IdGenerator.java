@@ -0,0 +1,9 @@
+package com.beta.common.id;
+
+/**
+ * 엔티티/JDBC INSERT에서 사용할 64비트 id 생성기
+ */
+public interface IdGenerator {
+
+    long nextId();
+}
@@ -0,0 +1,26 @@
+package com.beta.common.id;
+
+/**
+ * 현재 프로세스의 id 생성기
+ * Hibernate가 직접 생성하는 id 생성기(DistributedIdentifierGenerator)는 스프링 빈을 주입받을 수 없으므로,
+ * 노드 id를 할당받은 뒤(SnowflakeNodeIdAllocator) 여기에 등록해 공유한다.
+ */
+public final class IdGenerators {
+
+    private static volatile IdGenerator current;
+
+    private IdGenerators() {
+    }
+
+    public static void register(IdGenerator idGenerator) {
+        current = idGenerator;
+    }
+
+    public static long nextId() {
+        IdGenerator idGenerator = current;
+        if (idGenerator == null) {
+            throw new IllegalStateException("IdGenerator is not registered yet");
+        }
+        return idGenerator.nextId();
+    }
+}
@@ -0,0 +1,155 @@
+package com.beta.common.id;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 노드 id 할당
+ * id.snowflake.node-id가 설정되어 있으면 그 값을 쓰고, 없으면 Redis에서 비어 있는 노드 id를 임대(lease)한다.
+ * 임대는 주기적으로 연장하며, 연장에 실패하면(만료 후 다른 인스턴스가 가져감) 새 노드 id를 임대해 교체한다.
+ * 임대가 만료된 뒤에는(Redis 장애 등으로 연장하지 못함) 다른 인스턴스가 같은 노드 id를 가져갔을 수 있으므로,
+ * 다시 임대하거나 연장할 때까지 id를 만들지 않고 IllegalStateException을 던진다. (중복 기본 키 방지)
+ */
+@Slf4j
+@Component
+public class SnowflakeNodeIdAllocator {
+
+    private static final String LEASE_KEY_PREFIX = "id:snowflake:node:";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(60);
+    private static final Duration LEASE_SAFETY_MARGIN = Duration.ofSeconds(5); // Redis 만료보다 먼저 멈추도록 여유
+    private static final int NODE_COUNT = (int) SnowflakeIdGenerator.MAX_NODE_ID + 1;
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long configuredNodeId;
+    private final LongSupplier clock;
+    private final String leaseToken = UUID.randomUUID().toString();
+    private volatile Long leasedNodeId;
+    private volatile SnowflakeIdGenerator leasedGenerator;
+    private volatile long leaseExpiresAt; // epoch ms, 이 시각 이후로는 임대한 노드 id로 id를 만들지 않음
+
+    @Autowired
+    public SnowflakeNodeIdAllocator(StringRedisTemplate stringRedisTemplate,
+                                    @Value("${id.snowflake.node-id:-1}") long configuredNodeId) {
+        this(stringRedisTemplate, configuredNodeId, System::currentTimeMillis);
+    }
+
+    public SnowflakeNodeIdAllocator(StringRedisTemplate stringRedisTemplate, long configuredNodeId, LongSupplier clock) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.configuredNodeId = configuredNodeId;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void init() {
+        IdGenerators.register(allocate());
+    }
+
+    /**
+     * 설정된 노드 id 또는 임대한 노드 id로 만드는 생성기 (임대한 경우 임대가 유효할 때만 id를 만듦)
+     */
+    public IdGenerator allocate() {
+        if (configuredNodeId >= 0) {
+            log.info("Snowflake node id assigned - nodeId: {}, leased: false", configuredNodeId);
+            return new SnowflakeIdGenerator(configuredNodeId);
+        }
+        acquireLease();
+        log.info("Snowflake node id assigned - nodeId: {}, leased: true", leasedNodeId);
+        return this::nextLeasedId;
+    }
+
+    private long nextLeasedId() {
+        if (clock.getAsLong() >= leaseExpiresAt) {
+            throw new IllegalStateException("Snowflake node id lease expired - nodeId: " + leasedNodeId);
+        }
+        return leasedGenerator.nextId();
+    }
+
+    @Scheduled(fixedDelayString = "${id.snowflake.lease-renew-interval-ms:20000}")
+    public void renewLease() {
+        Long nodeId = leasedNodeId;
+        if (nodeId == null) {
+            return;
+        }
+        try {
+            long requestedAt = clock.getAsLong();
+            Long renewed = stringRedisTemplate.execute(
+                    RENEW_SCRIPT, List.of(buildKey(nodeId)), leaseToken, String.valueOf(LEASE_TTL.toMillis()));
+            if (renewed == null || renewed == 0) {
+                log.error("Snowflake node id lease lost, acquiring a new one - nodeId: {}", nodeId);
+                leaseExpiresAt = 0L; // 새로 임대할 때까지 잃어버린 노드 id로 만들지 않음
+                acquireLease();
+                return;
+            }
+            extendLease(requestedAt);
+        } catch (Exception e) {
+            log.warn("Failed to renew snowflake node id lease - nodeId: {}, expiresAt: {}", nodeId, leaseExpiresAt, e);
+        }
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        Long nodeId = leasedNodeId;
+        if (nodeId == null) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(buildKey(nodeId)), leaseToken);
+        } catch (Exception e) {
+            log.warn("Failed to release snowflake node id lease - nodeId: {}", nodeId, e);
+        }
+    }
+
+    /**
+     * 비어 있는 노드 id를 임대해 생성기를 교체 (만료 시각은 요청 전에 잰 시각 기준으로 잡아 Redis보다 늦지 않게 함)
+     */
+    private void acquireLease() {
+        int start = ThreadLocalRandom.current().nextInt(NODE_COUNT);
+        for (int i = 0; i < NODE_COUNT; i++) {
+            long nodeId = (start + i) % NODE_COUNT;
+            long requestedAt = clock.getAsLong();
+            if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(buildKey(nodeId), leaseToken, LEASE_TTL))) {
+                leasedGenerator = new SnowflakeIdGenerator(nodeId);
+                leasedNodeId = nodeId;
+                extendLease(requestedAt);
+                return;
+            }
+        }
+        throw new IllegalStateException("No snowflake node id available");
+    }
+
+    private void extendLease(long requestedAt) {
+        leaseExpiresAt = requestedAt + LEASE_TTL.toMillis() - LEASE_SAFETY_MARGIN.toMillis();
+    }
+
+    private String buildKey(long nodeId) {
+        return LEASE_KEY_PREFIX + nodeId;
+    }
+}
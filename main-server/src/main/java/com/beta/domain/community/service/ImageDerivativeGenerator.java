@@ -0,0 +1,131 @@
+package com.beta.domain.community.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 원본 이미지(JPEG/PNG)에서 피드용/상세용 파생 이미지를 만든다. (JDK ImageIO)
+ *
+ * - 원본 전체를 디코딩하지 않고 상세 크기보다 작아지지 않는 만큼 서브샘플링해서 읽는다.
+ *   (4000px 사진이면 1/2로 읽어 디코딩 메모리/시간이 약 1/4)
+ * - 원본이 목표 크기 이하인 파생 이미지는 만들지 않고 원본을 그대로 쓴다. (확대하지 않음)
+ * - JPEG는 JPEG(품질 JPEG_QUALITY)로, PNG는 투명도를 유지하도록 PNG로 인코딩한다.
+ */
+@Slf4j
+@Service
+public class ImageDerivativeGenerator {
+
+    public static final int FEED_MAX_EDGE = 640;
+    public static final int DETAIL_MAX_EDGE = 1440;
+    private static final int MAX_SOURCE_EDGE = 20_000; // 디코딩 폭탄 방지
+    private static final float JPEG_QUALITY = 0.85f;
+
+    /**
+     * @param bytes 인코딩된 파생 이미지, 원본을 그대로 쓰면 null
+     */
+    public record Rendition(byte[] bytes, int width, int height) {
+        public boolean usesOriginal() {
+            return bytes == null;
+        }
+    }
+
+    public record Derivatives(Rendition feed, Rendition detail) {
+    }
+
+    public Derivatives generate(InputStream source, String mimeType) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            if (input == null) {
+                throw new IOException("Unreadable image stream");
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("No image reader for " + mimeType);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                int longEdge = Math.max(width, height);
+                if (longEdge > MAX_SOURCE_EDGE) {
+                    throw new IOException("Image too large to derive - " + width + "x" + height);
+                }
+                if (longEdge <= FEED_MAX_EDGE) {
+                    Rendition original = new Rendition(null, width, height);
+                    return new Derivatives(original, original);
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, longEdge / DETAIL_MAX_EDGE);
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+
+                boolean png = "image/png".equals(mimeType);
+                return new Derivatives(
+                        render(decoded, width, height, FEED_MAX_EDGE, png),
+                        render(decoded, width, height, DETAIL_MAX_EDGE, png)
+                );
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private Rendition render(BufferedImage decoded, int width, int height, int maxEdge, boolean png) throws IOException {
+        int longEdge = Math.max(width, height);
+        if (longEdge <= maxEdge) {
+            return new Rendition(null, width, height);
+        }
+        int targetWidth = Math.max(1, Math.round((float) width * maxEdge / longEdge));
+        int targetHeight = Math.max(1, Math.round((float) height * maxEdge / longEdge));
+
+        BufferedImage resized = new BufferedImage(targetWidth, targetHeight,
+                png ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(decoded, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return new Rendition(png ? encodePng(resized) : encodeJpeg(resized), targetWidth, targetHeight);
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    private byte[] encodePng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Set;
 
@@ -21,6 +22,7 @@ public class ImageValidationService {
     );
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
     private static final int MAX_IMAGE_COUNT = 5;
+    public static final int MAGIC_BYTES_LENGTH = 8;
 
     public void validateImages(List<MultipartFile> images) {
         validateImageCount(images);
@@ -28,31 +30,64 @@ public class ImageValidationService {
     }
 
     private void validateImageCount(List<MultipartFile> images) {
-        if (images == null || images.isEmpty()) {
+        validateImageCount(images == null ? 0 : images.size());
+    }
+
+    public void validateImageCount(int count) {
+        if (count == 0) {
             throw new ImageRequiredException();
         }
 
-        if (images.size() > MAX_IMAGE_COUNT) {
+        if (count > MAX_IMAGE_COUNT) {
             throw new ImageCountExceededException();
         }
     }
 
+    /**
+     * 직접 업로드 예약 시 클라이언트가 알려준 크기/형식 검증
+     */
+    public void validateDeclaredImage(long fileSize, String mimeType) {
+        validateFileSize(fileSize);
+        if (!ALLOWED_MIME_TYPES.contains(mimeType)) {
+            log.warn("Invalid declared MIME type: {}", mimeType);
+            throw new InvalidImageTypeException();
+        }
+    }
+
+    /**
+     * 직접 업로드된 객체의 실제 크기와 앞부분 매직 바이트가 예약한 형식과 맞는지 검증
+     */
+    public void validateUploadedImage(long fileSize, byte[] header, String declaredMimeType) {
+        validateFileSize(fileSize);
+        String detectedMimeType = detectMimeType(header);
+        if (!detectedMimeType.equals(declaredMimeType)) {
+            log.warn("Uploaded image type mismatch: declared {}, detected {}", declaredMimeType, detectedMimeType);
+            throw new InvalidImageTypeException();
+        }
+    }
+
     private void validateImage(MultipartFile image) {
         validateFileSize(image);
         validateMimeType(image);
     }
 
     private void validateFileSize(MultipartFile image) {
-        if (image.getSize() > MAX_FILE_SIZE) {
-            log.warn("Image size exceeded: {} bytes (max: {} bytes)", image.getSize(), MAX_FILE_SIZE);
+        validateFileSize(image.getSize());
+    }
+
+    private void validateFileSize(long fileSize) {
+        if (fileSize > MAX_FILE_SIZE) {
+            log.warn("Image size exceeded: {} bytes (max: {} bytes)", fileSize, MAX_FILE_SIZE);
             throw new ImageSizeExceededException();
         }
     }
 
+    /**
+     * 파일 앞부분(MAGIC_BYTES_LENGTH)만 스트림으로 읽어 형식을 판별 (파일 전체를 힙에 올리지 않음)
+     */
     private void validateMimeType(MultipartFile image) {
-        try {
-            byte[] bytes = image.getBytes();
-            String detectedMimeType = detectMimeTypeFromBytes(bytes);
+        try (InputStream inputStream = image.getInputStream()) {
+            String detectedMimeType = detectMimeType(inputStream.readNBytes(MAGIC_BYTES_LENGTH));
 
             if (!ALLOWED_MIME_TYPES.contains(detectedMimeType)) {
                 log.warn("Invalid MIME type detected: {}", detectedMimeType);
@@ -64,21 +99,26 @@ public class ImageValidationService {
         }
     }
 
-    private String detectMimeTypeFromBytes(byte[] bytes) {
-        if (bytes.length < 4) {
+    /**
+     * 매직 바이트로 이미지 형식 판별 (JPEG/PNG 외에는 InvalidImageTypeException)
+     *
+     * @param header 파일 앞부분 (MAGIC_BYTES_LENGTH 바이트면 충분)
+     */
+    public String detectMimeType(byte[] header) {
+        if (header.length < 4) {
             throw new InvalidImageTypeException();
         }
 
-        if (bytes[0] == (byte) 0xFF &&
-                bytes[1] == (byte) 0xD8 &&
-                bytes[2] == (byte) 0xFF) {
+        if (header[0] == (byte) 0xFF &&
+                header[1] == (byte) 0xD8 &&
+                header[2] == (byte) 0xFF) {
             return "image/jpeg";
         }
 
-        if (bytes[0] == (byte) 0x89 &&
-                bytes[1] == (byte) 0x50 &&
-                bytes[2] == (byte) 0x4E &&
-                bytes[3] == (byte) 0x47) {
+        if (header[0] == (byte) 0x89 &&
+                header[1] == (byte) 0x50 &&
+                header[2] == (byte) 0x4E &&
+                header[3] == (byte) 0x47) {
             return "image/png";
         }
 
@@ -0,0 +1,62 @@
+package com.beta.infra.auth.cache;
+
+import com.beta.infra.auth.entity.UserEntity;
+import com.beta.infra.common.cache.TwoTierCache;
+import jakarta.annotation.PostConstruct;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 사용자 상태(ACTIVE/SUSPENDED/WITHDRAWN) 2단계 캐시 (TwoTierCache, L2 값은 상태 이름)
+ * 쓰기 요청마다 사용자 존재/상태를 확인하는 용도다.
+ * 애플리케이션에는 상태를 바꾸는 경로가 없어, DB에서 직접 바꾼 상태는 L2 TTL + L1 TTL(최대 11분) 안에 반영된다.
+ */
+@Component
+public class UserStatusCache {
+
+    private final TwoTierCache<UserEntity.UserStatus> cache;
+
+    public UserStatusCache(StringRedisTemplate stringRedisTemplate,
+                           RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.cache = TwoTierCache.<UserEntity.UserStatus>builder()
+                .name("user status")
+                .keyPrefix("user:status:")
+                .evictChannel("user:status:evict")
+                .redisTtl(Duration.ofMinutes(10))
+                .notFoundTtl(Duration.ofSeconds(30))
+                .localTtl(Duration.ofMinutes(1))
+                .localMaxSize(100_000)
+                .codec(new TwoTierCache.Codec<>() {
+                    @Override
+                    public String encode(UserEntity.UserStatus value) {
+                        return value.name();
+                    }
+
+                    @Override
+                    public UserEntity.UserStatus decode(String value) {
+                        return UserEntity.UserStatus.valueOf(value);
+                    }
+                })
+                .stringRedisTemplate(stringRedisTemplate)
+                .redisMessageListenerContainer(redisMessageListenerContainer)
+                .build();
+    }
+
+    @PostConstruct
+    void subscribeEviction() {
+        cache.subscribeEviction();
+    }
+
+    public Optional<UserEntity.UserStatus> get(Long userId, Function<Long, Optional<UserEntity.UserStatus>> loader) {
+        return cache.get(userId, loader);
+    }
+
+    public void evict(Long userId) {
+        cache.evict(userId);
+    }
+}
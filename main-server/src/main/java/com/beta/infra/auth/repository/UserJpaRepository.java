@@ -3,6 +3,8 @@ package com.beta.infra.auth.repository;
 import com.beta.common.provider.SocialProvider;
 import com.beta.infra.auth.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -14,4 +16,7 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
     boolean existsByNickName(String nickName);
 
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.status FROM UserEntity u WHERE u.id = :userId")
+    Optional<UserEntity.UserStatus> findStatusById(@Param("userId") Long userId);
 }
@@ -0,0 +1,127 @@
+package com.beta.infra.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * id로 찾는 값의 2단계 캐시 (PostDetailCache, UserStatusCache가 설정만 달리해 사용)
+ * L1: 인스턴스 로컬 Caffeine (W-TinyLFU, 크기 제한)
+ * L2: Redis {keyPrefix}{id} (인스턴스 간 공유)
+ * 원본에 없는 값은 notFoundTtl 동안 negative 캐싱하고,
+ * 무효화 시 Redis Pub/Sub(evictChannel)으로 다른 인스턴스의 L1도 함께 비운다.
+ * Redis 읽기/쓰기 실패는 로그만 남기고 원본 조회로 대체한다.
+ */
+@Slf4j
+public class TwoTierCache<V> {
+
+    private static final String NOT_FOUND = "NOT_FOUND";
+
+    /**
+     * L2(Redis)에 저장할 문자열 변환
+     */
+    public interface Codec<V> {
+        String encode(V value) throws Exception;
+
+        V decode(String value) throws Exception;
+    }
+
+    private final String name;
+    private final String keyPrefix;
+    private final String evictChannel;
+    private final Duration redisTtl;
+    private final Duration notFoundTtl;
+    private final Codec<V> codec;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Cache<Long, Optional<V>> localCache;
+
+    @Builder
+    private TwoTierCache(String name,
+                         String keyPrefix,
+                         String evictChannel,
+                         Duration redisTtl,
+                         Duration notFoundTtl,
+                         Duration localTtl,
+                         long localMaxSize,
+                         Codec<V> codec,
+                         StringRedisTemplate stringRedisTemplate,
+                         RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.name = name;
+        this.keyPrefix = keyPrefix;
+        this.evictChannel = evictChannel;
+        this.redisTtl = redisTtl;
+        this.notFoundTtl = notFoundTtl;
+        this.codec = codec;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 알림을 받아 L1을 비운다. (사용하는 빈의 @PostConstruct에서 호출)
+     */
+    public void subscribeEviction() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> localCache.invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(evictChannel)
+        );
+    }
+
+    /**
+     * L1 → L2 → loader 순으로 조회한다.
+     * 같은 키에 대한 동시 로딩은 Caffeine이 한 번으로 합쳐준다.
+     */
+    public Optional<V> get(Long id, Function<Long, Optional<V>> loader) {
+        return localCache.get(id, key -> loadFromRedisOrSource(key, loader));
+    }
+
+    public void evict(Long id) {
+        localCache.invalidate(id);
+        try {
+            stringRedisTemplate.delete(keyPrefix + id);
+            stringRedisTemplate.convertAndSend(evictChannel, String.valueOf(id));
+        } catch (Exception e) {
+            log.warn("Failed to evict {} cache - id: {}", name, id, e);
+        }
+    }
+
+    private Optional<V> loadFromRedisOrSource(Long id, Function<Long, Optional<V>> loader) {
+        String key = keyPrefix + id;
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(key);
+            if (NOT_FOUND.equals(cached)) {
+                return Optional.empty();
+            }
+            if (cached != null) {
+                return Optional.of(codec.decode(cached));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read {} cache - id: {}", name, id, e);
+        }
+
+        Optional<V> loaded = loader.apply(id);
+        try {
+            if (loaded.isPresent()) {
+                stringRedisTemplate.opsForValue().set(key, codec.encode(loaded.get()), redisTtl);
+            } else {
+                stringRedisTemplate.opsForValue().set(key, NOT_FOUND, notFoundTtl);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to write {} cache - id: {}", name, id, e);
+        }
+        return loaded;
+    }
+}
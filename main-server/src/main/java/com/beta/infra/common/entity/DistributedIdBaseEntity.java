@@ -0,0 +1,18 @@
+package com.beta.infra.common.entity;
+
+import com.beta.common.id.DistributedId;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+
+/**
+ * 쓰기가 많은 엔티티용 (id를 INSERT 전에 채번해 insert batch가 가능하고, id 순서가 생성 시각 순서와 같음)
+ */
+@Getter
+@MappedSuperclass
+public abstract class DistributedIdBaseEntity extends BaseTimeEntity {
+
+    @Id
+    @DistributedId
+    private Long id;
+}
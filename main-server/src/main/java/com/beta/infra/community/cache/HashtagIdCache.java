@@ -0,0 +1,39 @@
+package com.beta.infra.community.cache;
+
+import com.beta.infra.community.entity.HashtagEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 태그명 → 해시태그 id 로컬 캐시 (크기 제한)
+ * 해시태그 행은 삭제되지 않고 id도 바뀌지 않으므로 만료 없이 크기로만 제한한다.
+ * 커밋된 태그만 넣어야 한다. (롤백된 INSERT의 id가 남지 않도록)
+ */
+@Component
+public class HashtagIdCache {
+
+    private static final long MAX_SIZE = 100_000;
+
+    private final Cache<String, Long> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .build();
+
+    /**
+     * 캐시에 있는 태그만 반환
+     */
+    public Map<String, Long> getAll(Collection<String> tagNames) {
+        return cache.getAllPresent(tagNames);
+    }
+
+    public void putAll(Collection<HashtagEntity> hashtags) {
+        hashtags.forEach(hashtag -> cache.put(hashtag.getTagName(), hashtag.getId()));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,130 @@
+package com.beta.infra.community.cache;
+
+import com.beta.infra.community.entity.HashtagEntity;
+import com.beta.infra.community.repository.HashtagJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 해시태그 자동완성용 인메모리 접두어 인덱스
+ * 자모 분해한 태그명 기준으로 정렬된 배열을 두고, 접두어 범위를 이분 탐색으로 찾은 뒤
+ * 범위 안에서 usage_count 상위 k개를 고른다.
+ * 배열은 불변 스냅샷으로 교체(copy-on-write)하므로 조회는 락 없이 동작한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HashtagPrefixIndex {
+
+    private static final char KEY_UPPER_BOUND = Character.MAX_VALUE;
+
+    private final HashtagJpaRepository hashtagJpaRepository;
+
+    private volatile Entry[] entries = new Entry[0];
+
+    public record Entry(String key, Long hashtagId, String tagName, long usageCount) {
+    }
+
+    /**
+     * 전체 재적재 (기동 직후 + 주기적으로, 다른 인스턴스에서 생성된 태그와 사용량 변화를 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${hashtag.autocomplete.reload-interval-ms:600000}",
+            initialDelayString = "${hashtag.autocomplete.reload-interval-ms:600000}")
+    public void reload() {
+        try {
+            List<HashtagEntity> hashtags = hashtagJpaRepository.findAll();
+            Entry[] loaded = hashtags.stream()
+                    .map(HashtagPrefixIndex::toEntry)
+                    .sorted(Comparator.comparing(Entry::key))
+                    .toArray(Entry[]::new);
+            entries = loaded;
+            log.info("Hashtag prefix index loaded - size: {}", loaded.length);
+        } catch (Exception e) {
+            log.warn("Failed to load hashtag prefix index", e);
+        }
+    }
+
+    /**
+     * 생성/사용량이 변경된 태그만 반영
+     */
+    public synchronized void upsert(Collection<HashtagEntity> hashtags) {
+        if (hashtags.isEmpty()) {
+            return;
+        }
+        Map<Long, Entry> changed = new HashMap<>();
+        hashtags.forEach(hashtag -> changed.put(hashtag.getId(), toEntry(hashtag)));
+
+        List<Entry> merged = new ArrayList<>(entries.length + changed.size());
+        for (Entry entry : entries) {
+            if (!changed.containsKey(entry.hashtagId())) {
+                merged.add(entry);
+            }
+        }
+        merged.addAll(changed.values());
+        merged.sort(Comparator.comparing(Entry::key));
+        entries = merged.toArray(Entry[]::new);
+    }
+
+    /**
+     * 접두어가 일치하는 태그를 usage_count 내림차순으로 최대 size개 조회
+     */
+    public List<Entry> search(String prefix, int size) {
+        String key = HangulJamo.decompose(prefix);
+        Entry[] snapshot = entries;
+        int from = lowerBound(snapshot, key);
+        int to = lowerBound(snapshot, key + KEY_UPPER_BOUND);
+        if (from >= to) {
+            return List.of();
+        }
+
+        Comparator<Entry> byUsage = Comparator.comparingLong(Entry::usageCount)
+                .thenComparing(Entry::tagName, Comparator.reverseOrder());
+        PriorityQueue<Entry> top = new PriorityQueue<>(size + 1, byUsage);
+        for (int i = from; i < to; i++) {
+            top.offer(snapshot[i]);
+            if (top.size() > size) {
+                top.poll();
+            }
+        }
+        Entry[] result = top.toArray(Entry[]::new);
+        Arrays.sort(result, byUsage.reversed());
+        return List.of(result);
+    }
+
+    private static int lowerBound(Entry[] snapshot, String key) {
+        int low = 0;
+        int high = snapshot.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (snapshot[mid].key().compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static Entry toEntry(HashtagEntity hashtag) {
+        return new Entry(
+                HangulJamo.decompose(hashtag.getTagName()),
+                hashtag.getId(),
+                hashtag.getTagName(),
+                hashtag.getUsageCount() != null ? hashtag.getUsageCount() : 0L
+        );
+    }
+}
@@ -0,0 +1,73 @@
+package com.beta.infra.community.cache;
+
+import com.beta.infra.common.cache.TwoTierCache;
+import com.beta.infra.community.repository.dao.PostWithImages;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.annotation.PostConstruct;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 2단계 캐시 (TwoTierCache, L2 값은 JSON)
+ * 존재하지 않거나 삭제된 게시글은 짧은 TTL로 negative 캐싱하고,
+ * 게시글이 바뀌면 PostDetailCacheEventListener가 무효화한다.
+ */
+@Component
+public class PostDetailCache {
+
+    private final TwoTierCache<PostWithImages> cache;
+
+    public PostDetailCache(StringRedisTemplate stringRedisTemplate,
+                           RedisMessageListenerContainer redisMessageListenerContainer) {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        this.cache = TwoTierCache.<PostWithImages>builder()
+                .name("post detail")
+                .keyPrefix("post:detail:")
+                .evictChannel("post:detail:evict")
+                .redisTtl(Duration.ofMinutes(1))
+                .notFoundTtl(Duration.ofSeconds(10))
+                .localTtl(Duration.ofSeconds(30))
+                .localMaxSize(10_000)
+                .codec(new TwoTierCache.Codec<>() {
+                    @Override
+                    public String encode(PostWithImages value) throws Exception {
+                        return objectMapper.writeValueAsString(value);
+                    }
+
+                    @Override
+                    public PostWithImages decode(String value) throws Exception {
+                        return objectMapper.readValue(value, PostWithImages.class);
+                    }
+                })
+                .stringRedisTemplate(stringRedisTemplate)
+                .redisMessageListenerContainer(redisMessageListenerContainer)
+                .build();
+    }
+
+    @PostConstruct
+    void subscribeEviction() {
+        cache.subscribeEviction();
+    }
+
+    public Optional<PostWithImages> get(Long postId, Function<Long, Optional<PostWithImages>> loader) {
+        return cache.get(postId, loader);
+    }
+
+    public void evict(Long postId) {
+        cache.evict(postId);
+    }
+}
@@ -1,6 +1,6 @@
 package com.beta.infra.community.entity;
 
-import com.beta.infra.common.entity.BaseEntity;
+import com.beta.infra.common.entity.DistributedIdBaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -11,9 +11,12 @@ import java.time.LocalDateTime;
 
 @Getter
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        @Index(name = "idx_comment_post_depth_id", columnList = "post_id, depth, id"),
+        @Index(name = "idx_comment_parent_id", columnList = "parent_id, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class CommentEntity extends BaseEntity {
+public class CommentEntity extends DistributedIdBaseEntity {
 
     @Column(name = "user_id", nullable = false)
     private Long userId;
@@ -1,6 +1,6 @@
 package com.beta.infra.community.entity;
 
-import com.beta.infra.common.entity.BaseEntity;
+import com.beta.infra.common.entity.DistributedIdBaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -9,9 +9,12 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "comment_like")
+@Table(name = "comment_like", indexes = {
+        @Index(name = "idx_comment_like_user_comment", columnList = "user_id, comment_id"),
+        @Index(name = "idx_comment_like_comment_user", columnList = "comment_id, user_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class CommentLikeEntity extends BaseEntity {
+public class CommentLikeEntity extends DistributedIdBaseEntity {
 
     @Column(name = "user_id", nullable = false)
     private Long userId;
@@ -1,6 +1,6 @@
 package com.beta.infra.community.entity;
 
-import com.beta.infra.common.entity.BaseEntity;
+import com.beta.infra.common.entity.DistributedIdBaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -9,9 +9,11 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "emotion")
+@Table(name = "emotion",
+        uniqueConstraints = @UniqueConstraint(name = "uk_emotion_post_user", columnNames = {"post_id", "user_id"}),
+        indexes = @Index(name = "idx_emotion_user_post", columnList = "user_id, post_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class EmotionEntity extends BaseEntity {
+public class EmotionEntity extends DistributedIdBaseEntity {
 
     @Column(name = "user_id", nullable = false)
     private Long userId;
@@ -0,0 +1,28 @@
+package com.beta.infra.community.entity;
+
+import com.beta.infra.common.entity.DistributedIdBaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커뮤니티 도메인 이벤트 아웃박스 (쓰기와 같은 트랜잭션에 기록, 릴레이가 전달 후 삭제)
+ * 행은 OutboxEventRepository가 JDBC로 쓰고 읽으며, 엔티티는 스키마 정의용이다.
+ * id가 시간순(Snowflake)이므로 id 오름차순이 발행 순서다.
+ */
+@Getter
+@Entity
+@Table(name = "community_outbox")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEventEntity extends DistributedIdBaseEntity {
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+}
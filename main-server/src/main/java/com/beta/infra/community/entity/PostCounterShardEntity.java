@@ -0,0 +1,55 @@
+package com.beta.infra.community.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인기 게시글의 반응/댓글 수 분산 카운터
+ * 한 게시글에 슬롯(slot) 여러 개를 두고 쓰기마다 임의의 슬롯에 더해 posts 한 행에 잠금이 몰리지 않게 한다.
+ * 실제 값 = posts 행의 카운트 + 슬롯 합계이며, 주기적으로 posts 행에 합산(compaction)한 뒤 삭제한다.
+ * (CounterBatchRepository에서 JDBC로만 읽고 쓴다)
+ */
+@Getter
+@Entity
+@Table(name = "post_counter_shard", uniqueConstraints = @UniqueConstraint(
+        name = "uk_post_counter_shard_post_slot", columnNames = {"post_id", "slot"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostCounterShardEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "slot", nullable = false)
+    private Integer slot;
+
+    @Column(name = "comment_count", nullable = false)
+    private Integer commentCount = 0;
+
+    @Column(name = "like_count", nullable = false)
+    private Integer likeCount = 0;
+
+    @Column(name = "sad_count", nullable = false)
+    private Integer sadCount = 0;
+
+    @Column(name = "fun_count", nullable = false)
+    private Integer funCount = 0;
+
+    @Column(name = "hype_count", nullable = false)
+    private Integer hypeCount = 0;
+
+    @Column(name = "emotion_count", nullable = false)
+    private Integer emotionCount = 0;
+
+    @Builder
+    public PostCounterShardEntity(Long postId, Integer slot) {
+        this.postId = postId;
+        this.slot = slot;
+    }
+}
@@ -1,6 +1,6 @@
 package com.beta.infra.community.entity;
 
-import com.beta.infra.common.entity.BaseEntity;
+import com.beta.infra.common.entity.DistributedIdBaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -11,9 +11,12 @@ import java.time.LocalDateTime;
 
 @Getter
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_channel_status_id", columnList = "channel, status, id"),
+        @Index(name = "idx_posts_channel_status_emotion", columnList = "channel, status, emotion_count, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class PostEntity extends BaseEntity {
+public class PostEntity extends DistributedIdBaseEntity {
 
     @Column(name = "user_id", nullable = false)
     private Long userId;
@@ -44,6 +47,9 @@ public class PostEntity extends BaseEntity {
     @Column(name = "hype_count", nullable = false)
     private Integer hypeCount = 0;
 
+    @Column(name = "emotion_count", nullable = false)
+    private Integer emotionCount = 0; // 반응 합계 (피드 정렬용)
+
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
@@ -1,6 +1,6 @@
 package com.beta.infra.community.entity;
 
-import com.beta.infra.common.entity.BaseEntity;
+import com.beta.infra.common.entity.DistributedIdBaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -9,9 +9,12 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "post_hashtag")
+@Table(name = "post_hashtag", indexes = {
+        @Index(name = "idx_post_hashtag_hashtag_post", columnList = "hashtag_id, post_id"),
+        @Index(name = "idx_post_hashtag_post_id", columnList = "post_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class PostHashtagEntity extends BaseEntity {
+public class PostHashtagEntity extends DistributedIdBaseEntity {
 
     @Column(name = "post_id", nullable = false)
     private Long postId;
@@ -1,6 +1,6 @@
 package com.beta.infra.community.entity;
 
-import com.beta.infra.common.entity.BaseEntity;
+import com.beta.infra.common.entity.DistributedIdBaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -9,9 +9,9 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "post_image")
+@Table(name = "post_image", indexes = @Index(name = "idx_post_image_post_id_status", columnList = "post_id, status"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class PostImageEntity extends BaseEntity {
+public class PostImageEntity extends DistributedIdBaseEntity {
 
     @Column(name = "post_id")
     private Long postId;
@@ -40,6 +40,26 @@ public class PostImageEntity extends BaseEntity {
     @Column(name = "status", nullable = false, length = 20)
     private Status status = Status.PENDING;
 
+    // 파생 이미지 (백그라운드에서 생성, 생성 전에는 null이고 원본을 사용)
+    // PostImageBatchRepository.updateDerivatives로만 기록하므로 엔티티 UPDATE에서는 제외한다.
+    @Column(name = "feed_url", updatable = false)
+    private String feedUrl;
+
+    @Column(name = "feed_width", updatable = false)
+    private Integer feedWidth;
+
+    @Column(name = "feed_height", updatable = false)
+    private Integer feedHeight;
+
+    @Column(name = "detail_url", updatable = false)
+    private String detailUrl;
+
+    @Column(name = "detail_width", updatable = false)
+    private Integer detailWidth;
+
+    @Column(name = "detail_height", updatable = false)
+    private Integer detailHeight;
+
     @Builder
     public PostImageEntity(Long postId, Long userId, String imgUrl, String originName, String newName,
                            Integer sort, Long fileSize, String mimeType, Status status) {
@@ -56,6 +76,14 @@ public class PostImageEntity extends BaseEntity {
         }
     }
 
+    /**
+     * 직접 업로드 확인 완료 (다른 업로드 이미지처럼 게시글 연결 전 PENDING 상태가 됨)
+     */
+    public void completeUpload(long uploadedFileSize) {
+        this.fileSize = uploadedFileSize;
+        this.status = Status.PENDING;
+    }
+
     public void markForDeletion() {
         this.status = Status.MARKED_FOR_DELETION;
     }
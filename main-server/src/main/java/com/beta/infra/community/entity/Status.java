@@ -6,5 +6,6 @@ public enum Status {
     MARKED_FOR_DELETION,
     DELETED,     // 삭제됨
     HIDDEN,      // 관리자에 의해 숨김
-    REPORTED     // 신고되어 검토 중
+    REPORTED,    // 신고되어 검토 중
+    AWAITING_UPLOAD // 직접 업로드 예약됨 (업로드 확인 전), post_image.status가 ORDINAL이므로 맨 뒤에 추가
 }
@@ -1,8 +1,13 @@
 package com.beta.infra.community.gcs;
 
 import com.beta.application.community.dto.ImageDto;
+import com.beta.common.id.IdGenerators;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.HttpMethod;
 import com.google.cloud.storage.Storage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,16 +16,34 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Profile("!test")
 @RequiredArgsConstructor
-public class GcsStorageClient {
+public class GcsStorageClient implements ImageObjectStorage {
 
     private final Storage storage;
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int CHUNK_SIZE = 256 * 1024; // WriteChannel 내부 버퍼 (기본 15MB, 최소 단위 256KB)
+    private static final int MAX_POOLED_BUFFERS = 64;
+
+    private final BlockingQueue<ByteBuffer> buffers = new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
+
     @Value("${spring.cloud.gcp.storage.bucket}")
     private String bucketName;
 
@@ -32,10 +55,12 @@ public class GcsStorageClient {
                 .setContentType(file.getContentType())
                 .build();
 
-        storage.create(blobInfo, file.getBytes());
+        try (InputStream inputStream = file.getInputStream()) {
+            write(blobInfo, Channels.newChannel(inputStream));
+        }
 
         return ImageDto.builder()
-                .imgUrl(String.format("https://storage.googleapis.com/%s/%s", bucketName, fileName))
+                .imgUrl(publicUrl(fileName))
                 .newName(fileName)
                 .originName(file.getOriginalFilename())
                 .fileSize(file.getSize())
@@ -43,19 +68,128 @@ public class GcsStorageClient {
                 .build();
     }
 
+    /**
+     * 스트림을 작은 direct buffer로 나눠 WriteChannel에 흘려보낸다. (byte[] 전체 복사 없음)
+     * 버퍼는 풀에서 빌려 쓰고 돌려주며, 풀이 비면 새로 만든다. (가상 스레드라 ThreadLocal로는 재사용되지 않음)
+     *
+     * WriteChannel은 close() 시점에 그때까지 보낸 만큼으로 객체를 확정하므로, 중간에 실패하면 닫지 않고 업로드 세션을 버린다.
+     * close() 도중 실패해 잘린 객체가 확정됐을 수도 있으니 객체를 지운 뒤 예외를 다시 던진다.
+     */
+    private void write(BlobInfo blobInfo, ReadableByteChannel source) throws IOException {
+        ByteBuffer buffer = Optional.ofNullable(buffers.poll()).orElseGet(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+        buffer.clear();
+        WriteChannel writer = storage.writer(blobInfo);
+        try {
+            writer.setChunkSize(CHUNK_SIZE);
+            while (source.read(buffer) >= 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    writer.write(buffer);
+                }
+                buffer.clear();
+            }
+            writer.close();
+        } catch (IOException | RuntimeException e) {
+            deletePartialObject(blobInfo.getBlobId(), e);
+            throw e;
+        } finally {
+            buffers.offer(buffer);
+        }
+    }
+
+    private void deletePartialObject(BlobId blobId, Exception cause) {
+        try {
+            storage.delete(blobId);
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    @Override
+    public InputStream openStream(String objectName) {
+        return Channels.newInputStream(storage.reader(BlobId.of(bucketName, objectName)));
+    }
+
+    @Override
+    public String write(String objectName, String contentType, byte[] bytes) {
+        BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(bucketName, objectName))
+                .setContentType(contentType)
+                .build();
+        storage.create(blobInfo, bytes);
+        return publicUrl(objectName);
+    }
+
+    @Override
     public boolean delete(String fileName) throws IOException {
         BlobId blobId = BlobId.of(bucketName, fileName);
         return storage.delete(blobId);
     }
 
+    @Override
+    public String newObjectName(String originalFileName, Long userId) {
+        return generateFileName(originalFileName, userId);
+    }
+
+    @Override
+    public String publicUrl(String objectName) {
+        return String.format("https://storage.googleapis.com/%s/%s", bucketName, objectName);
+    }
+
+    /**
+     * V4 서명 PUT URL
+     * Content-Type과 확장 헤더를 서명에 포함해 선언한 형식/크기로만 올릴 수 있다.
+     * - x-goog-if-generation-match: 0  객체가 없을 때만 생성 (확인된 객체를 남은 유효 시간 동안 덮어쓰지 못하게 함)
+     * - x-goog-content-length-range    본문 크기 상한
+     */
+    @Override
+    public SignedUpload createUploadUrl(String objectName, String contentType, long maxSize, Duration ttl) {
+        BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(bucketName, objectName))
+                .setContentType(contentType)
+                .build();
+        Map<String, String> extHeaders = Map.of(
+                "x-goog-if-generation-match", "0",
+                "x-goog-content-length-range", "0," + maxSize
+        );
+        String url = storage.signUrl(blobInfo, ttl.toSeconds(), TimeUnit.SECONDS,
+                Storage.SignUrlOption.httpMethod(HttpMethod.PUT),
+                Storage.SignUrlOption.withContentType(),
+                Storage.SignUrlOption.withExtHeaders(extHeaders),
+                Storage.SignUrlOption.withV4Signature()
+        ).toString();
+
+        Map<String, String> headers = new HashMap<>(extHeaders);
+        headers.put("Content-Type", contentType);
+        return new SignedUpload(url, headers);
+    }
+
+    @Override
+    public Optional<Long> findSize(String objectName) {
+        return Optional.ofNullable(storage.get(BlobId.of(bucketName, objectName)))
+                .map(Blob::getSize);
+    }
+
+    @Override
+    public byte[] readHeader(String objectName, int length) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(length);
+        try (ReadChannel reader = storage.reader(BlobId.of(bucketName, objectName))) {
+            reader.limit(length);
+            int read = 0;
+            while (header.hasRemaining() && read >= 0) {
+                read = reader.read(header);
+            }
+        }
+        return Arrays.copyOf(header.array(), header.position());
+    }
+
     private String generateFileName(String originalFileName, Long userId) {
         String extension = "";
         if (originalFileName != null && originalFileName.contains(".")) {
             extension = originalFileName.substring(originalFileName.lastIndexOf("."));
         }
 
+        // 이미지는 병렬로 업로드되므로 밀리초 + userId 대신 전역 유일한 Snowflake id로 이름을 만든다
         String today = LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE);
-        String customFileName = "BETA-image-" + System.currentTimeMillis() + "-" + userId;
+        String customFileName = "BETA-image-" + IdGenerators.nextId() + "-" + userId;
 
         return today + "/" + customFileName + extension;
     }
@@ -0,0 +1,69 @@
+package com.beta.infra.community.gcs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 이미지 객체 저장소 (직접 업로드용 서명 URL/업로드 확인, 파생 이미지 생성용 원본 읽기/쓰기)
+ * 운영은 GcsStorageClient가 구현한다. (test 프로필은 테스트 소스의 메모리 구현)
+ */
+public interface ImageObjectStorage {
+
+    String FEED_SUFFIX = "_feed";
+    String DETAIL_SUFFIX = "_detail";
+
+    /**
+     * 파생 이미지 객체 이름/URL (확장자 앞에 suffix, 2025-01-01/BETA-image-1-2.jpg → 2025-01-01/BETA-image-1-2_feed.jpg)
+     */
+    static String derivativeName(String objectName, String suffix) {
+        int dot = objectName.lastIndexOf('.');
+        if (dot <= objectName.lastIndexOf('/')) {
+            return objectName + suffix;
+        }
+        return objectName.substring(0, dot) + suffix + objectName.substring(dot);
+    }
+
+    /**
+     * 서명된 업로드 URL과 업로드 시 그대로 보내야 하는 헤더 (서명에 포함되어 있어 다르면 거부됨)
+     */
+    record SignedUpload(String url, Map<String, String> headers) {
+    }
+
+    /**
+     * 새 객체 이름 (날짜/Snowflake id 기반, 업로드끼리 겹치지 않음)
+     */
+    String newObjectName(String originalFileName, Long userId);
+
+    String publicUrl(String objectName);
+
+    /**
+     * objectName에 contentType, maxSize 바이트 이하로 한 번만 PUT할 수 있는 서명된 URL (ttl 동안 유효)
+     * 객체가 이미 있으면 거부되므로 업로드 확인 뒤에 같은 URL로 덮어쓸 수 없다.
+     */
+    SignedUpload createUploadUrl(String objectName, String contentType, long maxSize, Duration ttl);
+
+    /**
+     * 업로드된 객체 크기, 아직 올라오지 않았으면 Optional.empty()
+     */
+    Optional<Long> findSize(String objectName);
+
+    /**
+     * 객체 앞부분 length 바이트만 읽음 (범위 읽기)
+     */
+    byte[] readHeader(String objectName, int length) throws IOException;
+
+    /**
+     * 객체 전체를 스트림으로 읽음 (호출한 쪽에서 닫아야 함)
+     */
+    InputStream openStream(String objectName) throws IOException;
+
+    /**
+     * 객체를 저장하고 공개 URL을 반환
+     */
+    String write(String objectName, String contentType, byte[] bytes) throws IOException;
+
+    boolean delete(String objectName) throws IOException;
+}
@@ -0,0 +1,79 @@
+package com.beta.infra.community.redis;
+
+import com.beta.infra.community.repository.dao.OutboxEventRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 커뮤니티 도메인 이벤트 스트림 (아웃박스 릴레이가 적재, 다른 서비스가 consumer group으로 소비)
+ * community:events       STREAM (eventId, type, aggregateId, payload), 최근 MAX_LENGTH개 정도만 유지
+ * community:outbox:lock  STRING (릴레이 잠금 토큰, TTL)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommunityEventStreamRedisRepository {
+
+    private static final String STREAM_KEY = "community:events";
+    private static final String RELAY_LOCK_KEY = "community:outbox:lock";
+    private static final long MAX_LENGTH = 100_000;
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 아웃박스 행을 순서대로 XADD (파이프라인 한 번)
+     * 같은 행이 재전달되면 스트림에도 다시 들어가므로 소비자는 eventId로 중복을 거른다.
+     */
+    public void appendAll(List<OutboxEventRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        RedisStreamCommands.XAddOptions options = RedisStreamCommands.XAddOptions.maxlen(MAX_LENGTH).approximateTrimming(true);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            rows.forEach(row -> stringConnection.xAdd(
+                    StreamRecords.string(Map.of(
+                            "eventId", String.valueOf(row.id()),
+                            "type", row.eventType(),
+                            "aggregateId", String.valueOf(row.aggregateId()),
+                            "payload", row.payload()
+                    )).withStreamKey(STREAM_KEY),
+                    options));
+            return null;
+        });
+    }
+
+    /**
+     * 릴레이는 한 인스턴스에서만 수행 (발행 순서 보장)
+     *
+     * @return 잠금 토큰, 다른 인스턴스가 릴레이 중이면 null
+     */
+    public String tryLockRelay(Duration lockTtl) {
+        String token = UUID.randomUUID().toString();
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(RELAY_LOCK_KEY, token, lockTtl))
+                ? token
+                : null;
+    }
+
+    public void unlockRelay(String token) {
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(RELAY_LOCK_KEY), token);
+    }
+}
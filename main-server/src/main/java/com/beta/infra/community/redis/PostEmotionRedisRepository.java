@@ -0,0 +1,286 @@
+package com.beta.infra.community.redis;
+
+import com.beta.infra.community.entity.EmotionEntity;
+import com.beta.infra.community.entity.PostEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 게시글 반응 상태 (토글을 Redis에서 원자적으로 처리)
+ * emotion:post:{postId}   HASH
+ *   u:{userId}  사용자의 반응 (LIKE/SAD/FUN/HYPE)
+ *   c:{TYPE}    반응별 개수
+ *   m:channel, m:createdAt(epoch 초), m:comments  랭킹 갱신용 게시글 정보 (적재 시점 값)
+ *   loaded      DB에서 전체 상태를 적재했는지 여부
+ * emotion:persist:queue  LIST ("postId:userId:이전 반응:적용된 반응", 반응 없음은 NONE)
+ * emotion:persist:processing  LIST (큐에서 꺼내 반영 중인 배치, 반영 완료(ack) 시 삭제)
+ *
+ * 토글은 Lua 한 번(상태 전이 + 개수 갱신 + 영속화 큐 적재)으로 처리해 연타에도 상태와 개수가 어긋나지 않는다.
+ * emotion 테이블과 posts 카운트는 큐를 일괄 반영하는 쪽(EmotionPersistService)에서 비동기로 맞춘다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostEmotionRedisRepository {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String KEY_PREFIX = "emotion:post:";
+    private static final String QUEUE_KEY = "emotion:persist:queue";
+    private static final String PROCESSING_KEY = "emotion:persist:processing";
+    private static final String PERSIST_LOCK_KEY = "emotion:persist:lock";
+    public static final String NONE = "NONE";
+    private static final Duration TTL = Duration.ofDays(2);
+    private static final int LOAD_CHUNK_SIZE = 500; // field/value 쌍 개수
+
+    /**
+     * KEYS[1] 게시글 반응 해시, KEYS[2] 영속화 큐
+     * ARGV[1] userId, ARGV[2] 누른 반응, ARGV[3] TTL(초), ARGV[4] postId
+     * 적재되지 않은 게시글이면 nil, 아니면 {이전 반응, 적용된 반응, LIKE, SAD, FUN, HYPE, channel, createdAt, comments}
+     */
+    private static final RedisScript<List> TOGGLE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], 'loaded') == 0 then
+                return nil
+            end
+            local userField = 'u:' .. ARGV[1]
+            local previous = redis.call('HGET', KEYS[1], userField)
+            local applied = ARGV[2]
+            if previous == applied then
+                redis.call('HDEL', KEYS[1], userField)
+                redis.call('HINCRBY', KEYS[1], 'c:' .. previous, -1)
+                applied = 'NONE'
+            else
+                if previous then
+                    redis.call('HINCRBY', KEYS[1], 'c:' .. previous, -1)
+                end
+                redis.call('HSET', KEYS[1], userField, applied)
+                redis.call('HINCRBY', KEYS[1], 'c:' .. applied, 1)
+            end
+            previous = previous or 'NONE'
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('RPUSH', KEYS[2], ARGV[4] .. ':' .. ARGV[1] .. ':' .. previous .. ':' .. applied)
+            local result = redis.call('HMGET', KEYS[1], 'c:LIKE', 'c:SAD', 'c:FUN', 'c:HYPE', 'm:channel', 'm:createdAt', 'm:comments')
+            table.insert(result, 1, applied)
+            table.insert(result, 1, previous)
+            return result
+            """, List.class);
+
+    /**
+     * KEYS[1] 게시글 반응 해시
+     * ARGV[1] TTL(초), ARGV[2] 마지막 청크면 1, ARGV[3..] field, value 쌍
+     * 이미 적재가 끝난 해시는 건드리지 않는다. (늦게 끝난 적재가 최신 토글 결과를 덮어쓰지 않도록)
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], 'loaded') == 1 then
+                return 0
+            end
+            for i = 3, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            if ARGV[2] == '1' then
+                redis.call('HSET', KEYS[1], 'loaded', '1')
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS[1] 반영 잠금, KEYS[2] 영속화 큐, KEYS[3] 처리 중 목록
+     * ARGV[1] 잠금 토큰, ARGV[2] 최대 개수
+     * 잠금을 잃었으면 nil, 확인(ack)되지 않은 처리 중 배치가 있으면 그 배치를, 없으면 큐 앞에서 꺼내 옮긴 배치를 반환한다.
+     */
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return nil
+            end
+            local pending = redis.call('LRANGE', KEYS[3], 0, -1)
+            if #pending > 0 then
+                return pending
+            end
+            local batch = redis.call('LRANGE', KEYS[2], 0, tonumber(ARGV[2]) - 1)
+            if #batch > 0 then
+                redis.call('LTRIM', KEYS[2], #batch, -1)
+                redis.call('RPUSH', KEYS[3], unpack(batch))
+            end
+            return batch
+            """, List.class);
+
+    /**
+     * KEYS[1] 반영 잠금, KEYS[2] 처리 중 목록, ARGV[1] 잠금 토큰
+     * 잠금을 가진 경우에만 처리 중 배치를 지우고 1을 반환한다.
+     */
+    private static final RedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[2])
+            return 1
+            """, Long.class);
+
+    public record ToggleResult(
+            String previousEmotionType,
+            String appliedEmotionType,
+            long likeCount,
+            long sadCount,
+            long funCount,
+            long hypeCount,
+            PostEntity.Channel channel,
+            long createdEpochSecond,
+            long commentCount
+    ) {
+        public long emotionCount() {
+            return likeCount + sadCount + funCount + hypeCount;
+        }
+    }
+
+    public record EmotionChange(Long postId, Long userId, String previousEmotionType, String appliedEmotionType) {
+    }
+
+    private String buildKey(Long postId) {
+        return KEY_PREFIX + postId;
+    }
+
+    /**
+     * 반응 토글 (같은 반응이면 취소, 다른 반응이면 변경, 없으면 추가)
+     * 게시글 상태가 아직 적재되지 않았으면 Optional.empty()를 반환한다.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<ToggleResult> toggle(Long postId, Long userId, EmotionEntity.EmotionType emotionType) {
+        List<Object> result = stringRedisTemplate.execute(
+                TOGGLE_SCRIPT,
+                List.of(buildKey(postId), QUEUE_KEY),
+                String.valueOf(userId),
+                emotionType.name(),
+                String.valueOf(TTL.toSeconds()),
+                String.valueOf(postId)
+        );
+        if (result == null || result.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ToggleResult(
+                (String) result.get(0),
+                (String) result.get(1),
+                parseLong(result.get(2)),
+                parseLong(result.get(3)),
+                parseLong(result.get(4)),
+                parseLong(result.get(5)),
+                PostEntity.Channel.valueOf((String) result.get(6)),
+                parseLong(result.get(7)),
+                parseLong(result.get(8))
+        ));
+    }
+
+    /**
+     * DB에서 읽은 게시글 반응 상태를 적재 (청크 단위, 마지막 청크에서 loaded 표시)
+     * 반응별 개수는 posts 카운트(지연 반영됨) 대신 적재하는 반응 목록에서 세어 사용자 상태와 항상 맞춘다.
+     */
+    public void load(PostEntity post, Map<Long, EmotionEntity.EmotionType> emotionByUserId) {
+        List<String> fields = new ArrayList<>();
+        Map<EmotionEntity.EmotionType, Long> counts = new EnumMap<>(EmotionEntity.EmotionType.class);
+        emotionByUserId.forEach((userId, emotionType) -> {
+            fields.add("u:" + userId);
+            fields.add(emotionType.name());
+            counts.merge(emotionType, 1L, Long::sum);
+        });
+        for (EmotionEntity.EmotionType emotionType : EmotionEntity.EmotionType.values()) {
+            fields.add("c:" + emotionType.name());
+            fields.add(String.valueOf(counts.getOrDefault(emotionType, 0L)));
+        }
+        fields.addAll(List.of(
+                "m:channel", post.getChannel().name(),
+                "m:createdAt", String.valueOf(post.getCreatedAt().atZone(ZoneId.systemDefault()).toEpochSecond()),
+                "m:comments", String.valueOf(post.getCommentCount())
+        ));
+
+        String key = buildKey(post.getId());
+        int chunkLength = LOAD_CHUNK_SIZE * 2;
+        for (int from = 0; from < fields.size(); from += chunkLength) {
+            int to = Math.min(from + chunkLength, fields.size());
+            List<String> args = new ArrayList<>(to - from + 2);
+            args.add(String.valueOf(TTL.toSeconds()));
+            args.add(to == fields.size() ? "1" : "0");
+            args.addAll(fields.subList(from, to));
+            Long loaded = stringRedisTemplate.execute(LOAD_SCRIPT, List.of(key), args.toArray());
+            if (loaded == null || loaded == 0) {
+                return; // 다른 요청이 먼저 적재를 끝냄
+            }
+        }
+    }
+
+    public void evict(Long postId) {
+        stringRedisTemplate.delete(buildKey(postId));
+    }
+
+    /**
+     * 영속화 큐 앞에서부터 최대 size개를 처리 중 목록으로 옮겨 반환 (반영 후 ackChanges로 확인)
+     * 이전 반영이 확인되지 않은 채 끝났으면(실패, 잠금 만료) 그 배치를 다시 반환한다.
+     *
+     * @return 반영할 배치, 잠금을 잃었으면 Optional.empty()
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<List<EmotionChange>> claimChanges(String lockToken, int size) {
+        List<Object> values = stringRedisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(PERSIST_LOCK_KEY, QUEUE_KEY, PROCESSING_KEY),
+                lockToken,
+                String.valueOf(size)
+        );
+        if (values == null) {
+            return Optional.empty();
+        }
+        return Optional.of(values.stream()
+                .map(value -> {
+                    String[] parts = value.toString().split(":");
+                    return new EmotionChange(Long.valueOf(parts[0]), Long.valueOf(parts[1]), parts[2], parts[3]);
+                })
+                .toList());
+    }
+
+    /**
+     * 처리 중 배치를 반영 완료로 확인
+     *
+     * @return 잠금을 잃어 다른 인스턴스가 배치를 넘겨받았으면 false
+     */
+    public boolean ackChanges(String lockToken) {
+        Long acked = stringRedisTemplate.execute(ACK_SCRIPT, List.of(PERSIST_LOCK_KEY, PROCESSING_KEY), lockToken);
+        return acked != null && acked == 1L;
+    }
+
+    /**
+     * 큐 반영은 한 인스턴스에서만 수행 (순서 보장)
+     *
+     * @return 잠금 토큰, 다른 인스턴스가 반영 중이면 null
+     */
+    public String tryLockPersist(Duration lockTtl) {
+        String token = UUID.randomUUID().toString();
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(PERSIST_LOCK_KEY, token, lockTtl))
+                ? token
+                : null;
+    }
+
+    public void unlockPersist(String token) {
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(PERSIST_LOCK_KEY), token);
+    }
+
+    private static long parseLong(Object value) {
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+}
@@ -0,0 +1,192 @@
+package com.beta.infra.community.redis;
+
+import com.beta.infra.community.entity.PostEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 채널별 인기(HOT) 게시글 랭킹
+ * ranking:hot:{channel}            ZSET (member = postId, score = 인기 점수)
+ * ranking:hot:engagement:{channel} HASH (field = postId, value = 반응 + 댓글 수)
+ * ranking:hot:loaded:{channel}     STRING (DB에서 적재를 마친 랭킹 표시)
+ * ranking:hot:deleted:{postId}     STRING (삭제된 게시글 표시, 늦게 전달된 갱신이 다시 넣지 않도록)
+ *
+ * 점수 = log10(max(1, engagement)) + 작성 시각(epoch 초) / DECAY_SECONDS
+ * 작성 시각이 점수에 고정값으로 들어가므로 시간이 지나도 재계산할 필요 없이
+ * 새 글이 자연스럽게 위로 올라온다. (DECAY_SECONDS 만큼 늦게 쓰인 글은 반응이 10배 많아야 같은 점수)
+ * 갱신은 Lua 한 번(HINCRBY + ZADD + 상위 MAX_SIZE 유지)으로 O(log n)에 처리한다.
+ * 적재 표시가 없으면(콜드 스타트 전, 만료 후) 갱신하지 않아 일부 게시글만 담긴 랭킹이 만들어지지 않고,
+ * 조회도 적재 표시로 판단해 다음 조회에서 DB 기준으로 다시 적재한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PostRankingRedisRepository {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String KEY_PREFIX = "ranking:hot:";
+    private static final String ENGAGEMENT_KEY_PREFIX = "ranking:hot:engagement:";
+    private static final String LOADED_KEY_PREFIX = "ranking:hot:loaded:";
+    private static final String DELETED_KEY_PREFIX = "ranking:hot:deleted:";
+    private static final String APPLIED_KEY_PREFIX = "ranking:hot:applied:";
+    public static final int MAX_SIZE = 500;
+    public static final long DECAY_SECONDS = 45_000;
+    private static final Duration TTL = Duration.ofDays(3);
+    private static final Duration APPLIED_TTL = Duration.ofDays(1); // 릴레이 재전달은 이 안에 일어난다
+
+    /**
+     * KEYS[1] 랭킹 ZSET, KEYS[2] engagement HASH, KEYS[3] 적재 표시, KEYS[4] 게시글 삭제 표시, KEYS[5] 반영한 이벤트 표시(선택)
+     * ARGV[1] postId, ARGV[2] delta, ARGV[3] 기준 engagement(해시에 없을 때 사용), ARGV[4] 작성 시각(epoch 초)
+     * ARGV[5] 최대 유지 개수, ARGV[6] TTL(초), ARGV[7] 이벤트 표시 TTL(초)
+     * KEYS[5]가 이미 있거나(같은 이벤트를 이미 반영함), KEYS[3]이 없거나(랭킹 미적재), KEYS[4]가 있으면(삭제된 게시글)
+     * 아무것도 하지 않고 nil을 반환한다.
+     * 미적재로 건너뛴 이벤트도 반영한 것으로 표시한다. (이후 적재가 DB 값을 읽으므로 재전달 시 다시 더하면 안 됨)
+     */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            if #KEYS == 5 and not redis.call('SET', KEYS[5], '1', 'NX', 'EX', ARGV[7]) then
+                return nil
+            end
+            if redis.call('EXISTS', KEYS[3]) == 0 or redis.call('EXISTS', KEYS[4]) == 1 then
+                return nil
+            end
+            local engagement
+            if redis.call('HEXISTS', KEYS[2], ARGV[1]) == 1 then
+                engagement = redis.call('HINCRBY', KEYS[2], ARGV[1], ARGV[2])
+            else
+                engagement = tonumber(ARGV[3]) + tonumber(ARGV[2])
+                redis.call('HSET', KEYS[2], ARGV[1], engagement)
+            end
+            local score = math.log10(math.max(1, engagement)) + tonumber(ARGV[4]) / %d
+            redis.call('ZADD', KEYS[1], score, ARGV[1])
+            local overflow = redis.call('ZRANGE', KEYS[1], 0, -(tonumber(ARGV[5]) + 1))
+            if #overflow > 0 then
+                redis.call('ZREM', KEYS[1], unpack(overflow))
+                redis.call('HDEL', KEYS[2], unpack(overflow))
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[6])
+            redis.call('EXPIRE', KEYS[2], ARGV[6])
+            redis.call('EXPIRE', KEYS[3], ARGV[6])
+            return engagement
+            """.formatted(DECAY_SECONDS), Long.class);
+
+    private String buildKey(PostEntity.Channel channel) {
+        return KEY_PREFIX + channel.name();
+    }
+
+    private String buildEngagementKey(PostEntity.Channel channel) {
+        return ENGAGEMENT_KEY_PREFIX + channel.name();
+    }
+
+    private String buildLoadedKey(PostEntity.Channel channel) {
+        return LOADED_KEY_PREFIX + channel.name();
+    }
+
+    public static double score(long engagement, long createdEpochSecond) {
+        return Math.log10(Math.max(1, engagement)) + (double) createdEpochSecond / DECAY_SECONDS;
+    }
+
+    /**
+     * engagement를 delta만큼 변경하고 점수를 다시 계산한다.
+     * 랭킹에 아직 없는 게시글은 baseEngagement(DB 기준 값)에서 시작하고, 랭킹이 적재되기 전이거나 삭제된 게시글이면 반영하지 않는다.
+     * eventId(아웃박스 이벤트 id)를 주면 같은 이벤트는 한 번만 반영한다. (HINCRBY는 재전달에 멱등하지 않음)
+     */
+    public void increment(PostEntity.Channel channel, Long postId, long createdEpochSecond, long baseEngagement, int delta, Long eventId) {
+        List<String> keys = new ArrayList<>(List.of(
+                buildKey(channel), buildEngagementKey(channel), buildLoadedKey(channel), DELETED_KEY_PREFIX + postId));
+        if (eventId != null) {
+            keys.add(APPLIED_KEY_PREFIX + eventId);
+        }
+        stringRedisTemplate.execute(
+                INCREMENT_SCRIPT,
+                keys,
+                String.valueOf(postId),
+                String.valueOf(delta),
+                String.valueOf(baseEngagement),
+                String.valueOf(createdEpochSecond),
+                String.valueOf(MAX_SIZE),
+                String.valueOf(TTL.toSeconds()),
+                String.valueOf(APPLIED_TTL.toSeconds())
+        );
+    }
+
+    /**
+     * DB에서 읽은 게시글들로 랭킹을 적재 (콜드 스타트)
+     * 값을 모두 쓴 뒤 적재 표시를 남겨, 그 이후의 갱신만 랭킹에 반영되게 한다. (게시글이 없는 채널도 적재된 것으로 표시)
+     */
+    public void addAll(PostEntity.Channel channel, Map<Long, Long> engagementByPostId, Map<Long, Long> createdEpochSecondByPostId) {
+        String loadedKey = buildLoadedKey(channel);
+        if (engagementByPostId.isEmpty()) {
+            stringRedisTemplate.opsForValue().set(loadedKey, "1", TTL);
+            return;
+        }
+        String key = buildKey(channel);
+        String engagementKey = buildEngagementKey(channel);
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        Map<String, String> engagements = new HashMap<>();
+        engagementByPostId.forEach((postId, engagement) -> {
+            tuples.add(ZSetOperations.TypedTuple.of(
+                    String.valueOf(postId), score(engagement, createdEpochSecondByPostId.get(postId))));
+            engagements.put(String.valueOf(postId), String.valueOf(engagement));
+        });
+        stringRedisTemplate.opsForZSet().add(key, tuples);
+        stringRedisTemplate.opsForHash().putAll(engagementKey, engagements);
+        stringRedisTemplate.expire(key, TTL);
+        stringRedisTemplate.expire(engagementKey, TTL);
+        stringRedisTemplate.opsForValue().set(loadedKey, "1", TTL);
+    }
+
+    /**
+     * 삭제된 게시글을 랭킹에서 빼고 삭제 표시를 남긴다. (이후 전달되는 반응/댓글 수 변경으로 다시 들어오지 않음)
+     */
+    public void remove(PostEntity.Channel channel, Long postId) {
+        stringRedisTemplate.opsForValue().set(DELETED_KEY_PREFIX + postId, "1", TTL);
+        stringRedisTemplate.opsForZSet().remove(buildKey(channel), String.valueOf(postId));
+        stringRedisTemplate.opsForHash().delete(buildEngagementKey(channel), String.valueOf(postId));
+    }
+
+    /**
+     * 점수 내림차순으로 cursorId 다음 게시글부터 최대 size개 조회 (O(log n + size))
+     * 랭킹이 적재되어 있지 않거나(적재 표시 없음) Redis 장애 시 Optional.empty()를 반환하고,
+     * 커서 게시글이 랭킹에서 밀려난 경우 빈 목록을 반환한다.
+     */
+    public Optional<List<Long>> findPostIds(PostEntity.Channel channel, Long cursorId, int size) {
+        String key = buildKey(channel);
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(buildLoadedKey(channel)))) {
+                return Optional.empty();
+            }
+            long start = 0;
+            if (cursorId != null) {
+                Long rank = stringRedisTemplate.opsForZSet().reverseRank(key, String.valueOf(cursorId));
+                if (rank == null) {
+                    return Optional.of(List.of());
+                }
+                start = rank + 1;
+            }
+            Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(key, start, start + size - 1);
+            if (members == null) {
+                return Optional.empty();
+            }
+            return Optional.of(members.stream().map(Long::valueOf).toList());
+        } catch (DataAccessException e) {
+            log.warn("Failed to read hot ranking - channel: {}", channel, e);
+            return Optional.empty();
+        }
+    }
+}
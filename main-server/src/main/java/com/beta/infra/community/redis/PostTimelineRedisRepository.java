@@ -0,0 +1,104 @@
+package com.beta.infra.community.redis;
+
+import com.beta.infra.community.entity.PostEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 채널별 최신 게시글 타임라인 (ZSET, score = 0, member = 19자리로 0을 채운 postId)
+ * Snowflake id(약 2^57)는 double score로 정확히 표현되지 않으므로 score 대신 member의 사전순(= 숫자순)으로 정렬한다.
+ * 채널당 최근 MAX_SIZE개만 유지하며, 그 이후 페이지는 MySQL에서 조회한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PostTimelineRedisRepository {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String KEY_PREFIX = "timeline:v2:channel:"; // v1은 postId score 형식
+    public static final int MAX_SIZE = 200;
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final double SCORE = 0;
+
+    private String buildKey(PostEntity.Channel channel) {
+        return KEY_PREFIX + channel.name();
+    }
+
+    private static String toMember(long postId) {
+        return String.format("%019d", postId);
+    }
+
+    public void add(PostEntity.Channel channel, Long postId) {
+        String key = buildKey(channel);
+        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+        zSet.add(key, toMember(postId), SCORE);
+        zSet.removeRange(key, 0, -(MAX_SIZE + 1));
+        stringRedisTemplate.expire(key, TTL);
+    }
+
+    public void addAll(PostEntity.Channel channel, List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        String key = buildKey(channel);
+        Set<ZSetOperations.TypedTuple<String>> tuples = postIds.stream()
+                .map(id -> ZSetOperations.TypedTuple.of(toMember(id), SCORE))
+                .collect(Collectors.toSet());
+        stringRedisTemplate.opsForZSet().add(key, tuples);
+        stringRedisTemplate.opsForZSet().removeRange(key, 0, -(MAX_SIZE + 1));
+        stringRedisTemplate.expire(key, TTL);
+    }
+
+    public void remove(PostEntity.Channel channel, Long postId) {
+        stringRedisTemplate.opsForZSet().remove(buildKey(channel), toMember(postId));
+    }
+
+    public void evict(PostEntity.Channel channel) {
+        try {
+            stringRedisTemplate.delete(buildKey(channel));
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict timeline - channel: {}", channel, e);
+        }
+    }
+
+    /**
+     * cursorId 미만의 postId를 최신순으로 최대 size개 조회
+     * 타임라인이 적재되어 있지 않거나 Redis 장애 시 Optional.empty()를 반환한다.
+     */
+    public Optional<List<Long>> findPostIds(PostEntity.Channel channel, Long cursorId, int size) {
+        String key = buildKey(channel);
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+                return Optional.empty();
+            }
+            Range<String> range = cursorId != null
+                    ? Range.leftUnbounded(Range.Bound.exclusive(toMember(cursorId)))
+                    : Range.unbounded();
+            Set<String> members = stringRedisTemplate.opsForZSet()
+                    .reverseRangeByLex(key, range, Limit.limit().count(size));
+            if (members == null) {
+                return Optional.empty();
+            }
+            return Optional.of(members.stream()
+                    .map(Long::valueOf)
+                    .filter(postId -> cursorId == null || postId < cursorId)
+                    .toList());
+        } catch (DataAccessException e) {
+            log.warn("Failed to read timeline - channel: {}", channel, e);
+            return Optional.empty();
+        }
+    }
+}
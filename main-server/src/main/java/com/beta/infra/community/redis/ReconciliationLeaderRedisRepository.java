@@ -0,0 +1,47 @@
+package com.beta.infra.community.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 카운터 재계산 작업 리더 선출
+ * counter:reconcile:leader  STRING (리더 인스턴스 토큰, TTL)
+ * 리더가 계속 연장하는 동안 다른 인스턴스는 작업하지 않으므로, 스캔 위치를 리더 메모리에 둘 수 있다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReconciliationLeaderRedisRepository {
+
+    private static final String LEADER_KEY = "counter:reconcile:leader";
+
+    /**
+     * KEYS[1] 리더 키, ARGV[1] 토큰, ARGV[2] TTL(ms)
+     * 이미 리더면 연장, 비어 있으면 차지, 다른 인스턴스가 리더면 0
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            if current then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public boolean tryAcquireOrRenew(String token, Duration ttl) {
+        Long acquired = stringRedisTemplate.execute(
+                ACQUIRE_SCRIPT, List.of(LEADER_KEY), token, String.valueOf(ttl.toMillis()));
+        return acquired != null && acquired == 1;
+    }
+}
@@ -0,0 +1,153 @@
+package com.beta.infra.community.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 "내 반응" 조회용 해시
+ * reaction:emotion:{userId}      HASH (field = postId, value = EmotionType 이름 또는 NONE)
+ * reaction:comment-like:{userId} HASH (field = commentId, value = 1(좋아요) 또는 0)
+ *
+ * 필드가 없으면 "모름"으로 보고 DB에서 채운다. 반응이 없다는 사실도 NONE/0으로 저장해
+ * 같은 페이지를 다시 볼 때 DB를 조회하지 않는다.
+ * 변경은 커밋 후 HSET으로 덮어쓰고, DB에서 채울 때는 HSETNX로만 넣어
+ * 조회 도중 커밋된 최신 값을 이전 값으로 덮어쓰지 않는다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class UserReactionRedisRepository {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String EMOTION_KEY_PREFIX = "reaction:emotion:";
+    private static final String COMMENT_LIKE_KEY_PREFIX = "reaction:comment-like:";
+    public static final String NONE = "NONE";
+    private static final String LIKED = "1";
+    private static final String NOT_LIKED = "0";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    /**
+     * KEYS[1] 사용자 해시, ARGV[1] TTL(초), ARGV[2..] field, value 쌍
+     */
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>("""
+            for i = 2, #ARGV, 2 do
+                redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private String buildEmotionKey(Long userId) {
+        return EMOTION_KEY_PREFIX + userId;
+    }
+
+    private String buildCommentLikeKey(Long userId) {
+        return COMMENT_LIKE_KEY_PREFIX + userId;
+    }
+
+    /**
+     * 게시글별 반응 조회 (HMGET 1회)
+     * 캐시에 있는 게시글만 담아 반환하며, 반응이 없는 게시글은 NONE으로 담긴다.
+     * Redis 장애 시 빈 Map을 반환해 전부 DB에서 조회하게 한다.
+     */
+    public Map<Long, String> findEmotions(Long userId, List<Long> postIds) {
+        return multiGet(buildEmotionKey(userId), postIds);
+    }
+
+    /**
+     * 댓글별 좋아요 여부 조회 (HMGET 1회), 캐시에 있는 댓글만 담아 반환
+     */
+    public Map<Long, Boolean> findCommentLikes(Long userId, List<Long> commentIds) {
+        Map<Long, Boolean> result = new HashMap<>();
+        multiGet(buildCommentLikeKey(userId), commentIds)
+                .forEach((commentId, value) -> result.put(commentId, LIKED.equals(value)));
+        return result;
+    }
+
+    /**
+     * 반응 변경 반영 (emotionType이 null이면 반응 취소)
+     */
+    public void saveEmotion(Long userId, Long postId, String emotionType) {
+        String key = buildEmotionKey(userId);
+        stringRedisTemplate.opsForHash().put(key, String.valueOf(postId), emotionType != null ? emotionType : NONE);
+        stringRedisTemplate.expire(key, TTL);
+    }
+
+    public void saveCommentLike(Long userId, Long commentId, boolean liked) {
+        String key = buildCommentLikeKey(userId);
+        stringRedisTemplate.opsForHash().put(key, String.valueOf(commentId), liked ? LIKED : NOT_LIKED);
+        stringRedisTemplate.expire(key, TTL);
+    }
+
+    /**
+     * DB에서 읽은 반응으로 비어 있는 필드만 채운다. (value가 null이면 NONE)
+     */
+    public void fillEmotions(Long userId, Map<Long, String> emotionByPostId) {
+        Map<Long, String> values = new HashMap<>();
+        emotionByPostId.forEach((postId, emotionType) -> values.put(postId, emotionType != null ? emotionType : NONE));
+        fill(buildEmotionKey(userId), values);
+    }
+
+    public void fillCommentLikes(Long userId, Map<Long, Boolean> likedByCommentId) {
+        Map<Long, String> values = new HashMap<>();
+        likedByCommentId.forEach((commentId, liked) -> values.put(commentId, liked ? LIKED : NOT_LIKED));
+        fill(buildCommentLikeKey(userId), values);
+    }
+
+    /**
+     * 반영에 실패했을 때 사용자 해시를 통째로 비워 다음 조회 시 DB에서 다시 채운다.
+     */
+    public void evict(Long userId) {
+        stringRedisTemplate.delete(List.of(buildEmotionKey(userId), buildCommentLikeKey(userId)));
+    }
+
+    private Map<Long, String> multiGet(String key, List<Long> ids) {
+        Map<Long, String> result = new HashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+        try {
+            List<Object> values = stringRedisTemplate.opsForHash()
+                    .multiGet(key, ids.stream().<Object>map(String::valueOf).toList());
+            for (int i = 0; i < ids.size(); i++) {
+                Object value = values.get(i);
+                if (value != null) {
+                    result.put(ids.get(i), (String) value);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to read user reactions - key: {}", key, e);
+            return new HashMap<>();
+        }
+        return result;
+    }
+
+    private void fill(String key, Map<Long, String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(values.size() * 2 + 1);
+        args.add(String.valueOf(TTL.toSeconds()));
+        values.forEach((id, value) -> {
+            args.add(String.valueOf(id));
+            args.add(value);
+        });
+        try {
+            stringRedisTemplate.execute(FILL_SCRIPT, List.of(key), args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("Failed to fill user reactions - key: {}", key, e);
+        }
+    }
+}
@@ -2,11 +2,14 @@ package com.beta.infra.community.repository;
 
 import com.beta.infra.community.entity.CommentEntity;
 import com.beta.infra.community.entity.Status;
+import com.beta.infra.community.repository.dao.ReplyCountRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentJpaRepository extends JpaRepository<CommentEntity, Long> {
@@ -14,4 +17,52 @@ public interface CommentJpaRepository extends JpaRepository<CommentEntity, Long>
     @Modifying
     @Query("UPDATE CommentEntity c SET c.likeCount = c.likeCount + :increment WHERE c.id = :commentId")
     void updateLikeCount(@Param("commentId") Long commentId, @Param("increment") int increment);
+
+    /**
+     * 게시글의 루트 댓글(depth 0) keyset 조회 (id 오름차순)
+     */
+    @Query("SELECT c FROM CommentEntity c " +
+            "WHERE c.postId = :postId AND c.depth = 0 AND c.status = :status " +
+            "AND (:cursorId IS NULL OR c.id > :cursorId) " +
+            "ORDER BY c.id ASC")
+    List<CommentEntity> findRootComments(@Param("postId") Long postId,
+                                         @Param("status") Status status,
+                                         @Param("cursorId") Long cursorId,
+                                         Pageable pageable);
+
+    /**
+     * 부모 댓글의 답글 keyset 조회 (id 오름차순)
+     */
+    @Query("SELECT c FROM CommentEntity c " +
+            "WHERE c.parentId = :parentId AND c.status = :status " +
+            "AND (:cursorId IS NULL OR c.id > :cursorId) " +
+            "ORDER BY c.id ASC")
+    List<CommentEntity> findReplies(@Param("parentId") Long parentId,
+                                    @Param("status") Status status,
+                                    @Param("cursorId") Long cursorId,
+                                    Pageable pageable);
+
+    @Query("SELECT new com.beta.infra.community.repository.dao.ReplyCountRow(c.parentId, COUNT(c)) " +
+            "FROM CommentEntity c " +
+            "WHERE c.parentId IN :parentIds AND c.status = :status " +
+            "GROUP BY c.parentId")
+    List<ReplyCountRow> countRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds,
+                                                @Param("status") Status status);
+
+    /**
+     * 부모 댓글별 앞쪽 답글을 최대 limit개씩 한 번에 조회
+     * (parent_id, id) 인덱스를 타고 ROW_NUMBER()로 부모마다 잘라낸다.
+     */
+    @Query(value = "SELECT r.id, r.created_at, r.updated_at, r.user_id, r.parent_id, r.post_id, " +
+            "r.content, r.depth, r.like_count, r.status, r.deleted_at " +
+            "FROM (" +
+            "  SELECT c.*, ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.id) AS rn " +
+            "  FROM comment c " +
+            "  WHERE c.parent_id IN (:parentIds) AND c.status = 'ACTIVE'" +
+            ") r " +
+            "WHERE r.rn <= :limit " +
+            "ORDER BY r.parent_id, r.id",
+            nativeQuery = true)
+    List<CommentEntity> findFirstRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds,
+                                                    @Param("limit") int limit);
 }
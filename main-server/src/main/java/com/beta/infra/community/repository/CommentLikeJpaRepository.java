@@ -2,10 +2,20 @@ package com.beta.infra.community.repository;
 
 import com.beta.infra.community.entity.CommentLikeEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentLikeJpaRepository extends JpaRepository<CommentLikeEntity, Long> {
 
     Optional<CommentLikeEntity> findByCommentIdAndUserId(Long commentId, Long userId);
+
+    /**
+     * 한 사용자가 좋아요한 댓글 id를 한 번에 조회 (댓글 페이지 단위)
+     */
+    @Query("SELECT cl.commentId FROM CommentLikeEntity cl WHERE cl.userId = :userId AND cl.commentId IN :commentIds")
+    List<Long> findLikedCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
 }
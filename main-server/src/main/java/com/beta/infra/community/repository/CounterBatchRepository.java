@@ -0,0 +1,192 @@
+package com.beta.infra.community.repository;
+
+import com.beta.infra.community.repository.dao.PostCounterDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 모아 둔 카운터 변화량을 JDBC batch로 한 번에 반영
+ * 행 잠금 순서를 항상 id 오름차순으로 맞춰 인스턴스 간 flush가 겹쳐도 교착이 생기지 않게 한다.
+ * 인기 게시글은 posts 행 대신 post_counter_shard의 임의 슬롯에 더하고, 주기적으로 posts 행에 합산한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CounterBatchRepository {
+
+    private static final String UPDATE_POST_COUNTERS = """
+            UPDATE posts
+            SET comment_count = comment_count + ?,
+                like_count = like_count + ?,
+                sad_count = sad_count + ?,
+                fun_count = fun_count + ?,
+                hype_count = hype_count + ?,
+                emotion_count = emotion_count + ?
+            WHERE id = ?
+            """;
+    private static final String UPDATE_COMMENT_LIKE_COUNT = "UPDATE comment SET like_count = like_count + ? WHERE id = ?";
+    private static final String UPDATE_HASHTAG_USAGE_COUNT = "UPDATE hashtag SET usage_count = usage_count + ? WHERE id = ?";
+    private static final String INCREMENT_POST_COUNTER_SHARD = """
+            INSERT INTO post_counter_shard
+                (post_id, slot, comment_count, like_count, sad_count, fun_count, hype_count, emotion_count)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?) AS delta
+            ON DUPLICATE KEY UPDATE
+                comment_count = post_counter_shard.comment_count + delta.comment_count,
+                like_count = post_counter_shard.like_count + delta.like_count,
+                sad_count = post_counter_shard.sad_count + delta.sad_count,
+                fun_count = post_counter_shard.fun_count + delta.fun_count,
+                hype_count = post_counter_shard.hype_count + delta.hype_count,
+                emotion_count = post_counter_shard.emotion_count + delta.emotion_count
+            """;
+    private static final String SELECT_SHARDED_POST_IDS = "SELECT DISTINCT post_id FROM post_counter_shard ORDER BY post_id LIMIT ?";
+    private static final String SELECT_SHARDS_FOR_UPDATE = """
+            SELECT id, post_id, comment_count, like_count, sad_count, fun_count, hype_count
+            FROM post_counter_shard
+            WHERE post_id IN (:postIds)
+            ORDER BY post_id, slot
+            FOR UPDATE
+            """;
+    private static final String DELETE_SHARDS = "DELETE FROM post_counter_shard WHERE id IN (:ids)";
+    private static final String SUM_SHARDS = """
+            SELECT post_id, SUM(comment_count) AS comment_count, SUM(like_count) AS like_count,
+                   SUM(sad_count) AS sad_count, SUM(fun_count) AS fun_count, SUM(hype_count) AS hype_count
+            FROM post_counter_shard
+            WHERE post_id IN (:postIds)
+            GROUP BY post_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Transactional
+    public void updatePostCounters(Map<Long, PostCounterDelta> deltaByPostId) {
+        if (deltaByPostId.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new TreeMap<>(deltaByPostId).entrySet().stream()
+                .map(entry -> {
+                    PostCounterDelta delta = entry.getValue();
+                    return new Object[]{
+                            delta.commentCount(), delta.likeCount(), delta.sadCount(),
+                            delta.funCount(), delta.hypeCount(), delta.emotionCount(), entry.getKey()
+                    };
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(UPDATE_POST_COUNTERS, args);
+    }
+
+    @Transactional
+    public void updateCommentLikeCounts(Map<Long, Integer> deltaByCommentId) {
+        if (deltaByCommentId.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new TreeMap<>(deltaByCommentId).entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate(UPDATE_COMMENT_LIKE_COUNT, args);
+    }
+
+    @Transactional
+    public void updateHashtagUsageCounts(Map<Long, Integer> deltaByHashtagId) {
+        if (deltaByHashtagId.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new TreeMap<>(deltaByHashtagId).entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate(UPDATE_HASHTAG_USAGE_COUNT, args);
+    }
+
+    /**
+     * 게시글마다 0 ~ slotCount-1 중 임의의 슬롯에 변화량을 더한다.
+     */
+    @Transactional
+    public void incrementPostCounterShards(Map<Long, PostCounterDelta> deltaByPostId, int slotCount) {
+        if (deltaByPostId.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new TreeMap<>(deltaByPostId).entrySet().stream()
+                .map(entry -> {
+                    PostCounterDelta delta = entry.getValue();
+                    return new Object[]{
+                            entry.getKey(), ThreadLocalRandom.current().nextInt(slotCount),
+                            delta.commentCount(), delta.likeCount(), delta.sadCount(),
+                            delta.funCount(), delta.hypeCount(), delta.emotionCount()
+                    };
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(INCREMENT_POST_COUNTER_SHARD, args);
+    }
+
+    /**
+     * 합산되지 않은 슬롯이 남아 있는 게시글 id (최대 limit개)
+     */
+    public List<Long> findShardedPostIds(int limit) {
+        return jdbcTemplate.queryForList(SELECT_SHARDED_POST_IDS, Long.class, limit);
+    }
+
+    /**
+     * 아직 posts 행에 합산되지 않은 슬롯 합계 (슬롯이 없는 게시글은 제외)
+     * (post_id, slot) 유니크 인덱스 범위만 읽으며, 슬롯은 합산 주기(기본 1초)마다 비워져 행 수가 적다.
+     */
+    public Map<Long, PostCounterDelta> sumPostCounterShards(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, PostCounterDelta> deltaByPostId = new HashMap<>();
+        namedParameterJdbcTemplate.query(SUM_SHARDS, Map.of("postIds", postIds), rs -> {
+            deltaByPostId.put(rs.getLong("post_id"), new PostCounterDelta(
+                    rs.getInt("comment_count"),
+                    rs.getInt("like_count"),
+                    rs.getInt("sad_count"),
+                    rs.getInt("fun_count"),
+                    rs.getInt("hype_count")
+            ));
+        });
+        return deltaByPostId;
+    }
+
+    /**
+     * 슬롯 값을 posts 행에 합산하고 슬롯을 삭제 (최대 maxPosts개 게시글)
+     * 합산한 슬롯 행은 FOR UPDATE로 잠가 두므로, 그 사이 들어온 쓰기는 커밋 후 새 슬롯 행으로 다시 쌓인다.
+     *
+     * @return 합산한 게시글 id
+     */
+    @Transactional
+    public List<Long> compactPostCounterShards(int maxPosts) {
+        List<Long> postIds = findShardedPostIds(maxPosts);
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> shardIds = new ArrayList<>();
+        Map<Long, PostCounterDelta> deltaByPostId = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_SHARDS_FOR_UPDATE, Map.of("postIds", postIds), rs -> {
+            shardIds.add(rs.getLong("id"));
+            deltaByPostId.merge(rs.getLong("post_id"), new PostCounterDelta(
+                    rs.getInt("comment_count"),
+                    rs.getInt("like_count"),
+                    rs.getInt("sad_count"),
+                    rs.getInt("fun_count"),
+                    rs.getInt("hype_count")
+            ), PostCounterDelta::plus);
+        });
+        if (shardIds.isEmpty()) {
+            return List.of();
+        }
+
+        updatePostCounters(deltaByPostId);
+        namedParameterJdbcTemplate.update(DELETE_SHARDS, Map.of("ids", shardIds));
+        return List.copyOf(deltaByPostId.keySet());
+    }
+}
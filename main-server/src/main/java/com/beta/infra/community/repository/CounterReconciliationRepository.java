@@ -0,0 +1,145 @@
+package com.beta.infra.community.repository;
+
+import com.beta.infra.community.entity.EmotionEntity;
+import com.beta.infra.community.entity.Status;
+import com.beta.infra.community.repository.dao.PostCounterDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 비정규화 카운터 재계산용 조회 (id 오름차순 keyset 구간 단위)
+ * 저장된 값은 id > cursor 인 행을 최대 limit개, 실제 값은 그 구간(첫 id ~ 마지막 id)의 원천 테이블을 GROUP BY로 센다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CounterReconciliationRepository {
+
+    private static final String SELECT_POST_COUNTERS = """
+            SELECT id, comment_count, like_count, sad_count, fun_count, hype_count
+            FROM posts
+            WHERE id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+    private static final String SUM_POST_COUNTER_SHARDS = """
+            SELECT post_id, SUM(comment_count) AS comment_count, SUM(like_count) AS like_count,
+                   SUM(sad_count) AS sad_count, SUM(fun_count) AS fun_count, SUM(hype_count) AS hype_count
+            FROM post_counter_shard
+            WHERE post_id BETWEEN ? AND ?
+            GROUP BY post_id
+            """;
+    private static final String COUNT_COMMENTS = """
+            SELECT post_id, COUNT(*) AS cnt
+            FROM comment
+            WHERE post_id BETWEEN ? AND ? AND status <> ?
+            GROUP BY post_id
+            """;
+    private static final String COUNT_EMOTIONS = """
+            SELECT post_id, emotion_type, COUNT(*) AS cnt
+            FROM emotion
+            WHERE post_id BETWEEN ? AND ?
+            GROUP BY post_id, emotion_type
+            """;
+    private static final String SELECT_COMMENT_LIKE_COUNTS = "SELECT id, like_count FROM comment WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String COUNT_COMMENT_LIKES = """
+            SELECT comment_id, COUNT(*) AS cnt
+            FROM comment_like
+            WHERE comment_id BETWEEN ? AND ?
+            GROUP BY comment_id
+            """;
+    private static final String SELECT_HASHTAG_USAGE_COUNTS = "SELECT id, usage_count FROM hashtag WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String COUNT_POST_HASHTAGS = """
+            SELECT hashtag_id, COUNT(*) AS cnt
+            FROM post_hashtag
+            WHERE hashtag_id BETWEEN ? AND ?
+            GROUP BY hashtag_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글에 저장된 카운터 (분산 카운터 슬롯에 쌓인 값 포함), id 오름차순
+     */
+    public Map<Long, PostCounterDelta> findStoredPostCounters(long cursorId, int limit) {
+        Map<Long, PostCounterDelta> stored = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_POST_COUNTERS, rs -> {
+            stored.put(rs.getLong("id"), new PostCounterDelta(
+                    rs.getInt("comment_count"),
+                    rs.getInt("like_count"),
+                    rs.getInt("sad_count"),
+                    rs.getInt("fun_count"),
+                    rs.getInt("hype_count")
+            ));
+        }, cursorId, limit);
+        if (stored.isEmpty()) {
+            return stored;
+        }
+
+        jdbcTemplate.query(SUM_POST_COUNTER_SHARDS, rs -> {
+            stored.computeIfPresent(rs.getLong("post_id"), (postId, counters) -> counters.plus(new PostCounterDelta(
+                    rs.getInt("comment_count"),
+                    rs.getInt("like_count"),
+                    rs.getInt("sad_count"),
+                    rs.getInt("fun_count"),
+                    rs.getInt("hype_count")
+            )));
+        }, firstKey(stored), lastKey(stored));
+        return stored;
+    }
+
+    /**
+     * 구간 안 게시글의 실제 댓글(삭제 제외)/반응 수 (없는 게시글은 결과에서 빠짐)
+     */
+    public Map<Long, PostCounterDelta> countActualPostCounters(long fromId, long toId) {
+        Map<Long, PostCounterDelta> actual = new HashMap<>();
+        jdbcTemplate.query(COUNT_COMMENTS, rs -> {
+            actual.merge(rs.getLong("post_id"), PostCounterDelta.ofComment(rs.getInt("cnt")), PostCounterDelta::plus);
+        }, fromId, toId, Status.DELETED.name());
+        jdbcTemplate.query(COUNT_EMOTIONS, rs -> {
+            EmotionEntity.EmotionType emotionType = EmotionEntity.EmotionType.values()[rs.getInt("emotion_type")];
+            actual.merge(rs.getLong("post_id"), PostCounterDelta.ofEmotion(emotionType, rs.getInt("cnt")), PostCounterDelta::plus);
+        }, fromId, toId);
+        return actual;
+    }
+
+    public Map<Long, Integer> findStoredCommentLikeCounts(long cursorId, int limit) {
+        return queryCounts(SELECT_COMMENT_LIKE_COUNTS, "id", "like_count", cursorId, limit);
+    }
+
+    public Map<Long, Integer> countActualCommentLikes(long fromId, long toId) {
+        return queryCounts(COUNT_COMMENT_LIKES, "comment_id", "cnt", fromId, toId);
+    }
+
+    public Map<Long, Integer> findStoredHashtagUsageCounts(long cursorId, int limit) {
+        return queryCounts(SELECT_HASHTAG_USAGE_COUNTS, "id", "usage_count", cursorId, limit);
+    }
+
+    public Map<Long, Integer> countActualHashtagUsages(long fromId, long toId) {
+        return queryCounts(COUNT_POST_HASHTAGS, "hashtag_id", "cnt", fromId, toId);
+    }
+
+    private Map<Long, Integer> queryCounts(String sql, String idColumn, String countColumn, Object... args) {
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(rs.getLong(idColumn), rs.getInt(countColumn));
+        }, args);
+        return counts;
+    }
+
+    private static long firstKey(Map<Long, ?> ordered) {
+        return ordered.keySet().iterator().next();
+    }
+
+    private static long lastKey(Map<Long, ?> ordered) {
+        long last = 0L;
+        for (Long id : ordered.keySet()) {
+            last = id;
+        }
+        return last;
+    }
+}
@@ -0,0 +1,56 @@
+package com.beta.infra.community.repository;
+
+import com.beta.common.id.IdGenerators;
+import com.beta.infra.community.repository.dao.EmotionState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Redis에서 처리한 반응 토글 결과를 emotion 테이블에 일괄 반영
+ * 같은 (post_id, user_id)는 최종 상태만 넘겨받으므로 몇 번 반복 반영해도 결과가 같다.
+ * (이미 있는 행이면 새로 채번한 id는 버려지고 기존 id가 유지된다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmotionBatchRepository {
+
+    private static final String UPSERT_EMOTION = """
+            INSERT INTO emotion (id, user_id, post_id, emotion_type, created_at, updated_at)
+            VALUES (?, ?, ?, ?, NOW(6), NOW(6)) AS changed
+            ON DUPLICATE KEY UPDATE
+                emotion_type = changed.emotion_type,
+                updated_at = changed.updated_at
+            """;
+    private static final String DELETE_EMOTION = "DELETE FROM emotion WHERE post_id = ? AND user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void applyEmotionStates(Collection<EmotionState> states) {
+        List<EmotionState> sorted = states.stream()
+                .sorted(Comparator.comparing(EmotionState::postId).thenComparing(EmotionState::userId))
+                .toList();
+
+        List<Object[]> upserts = sorted.stream()
+                .filter(state -> state.emotionType() != null)
+                .map(state -> new Object[]{IdGenerators.nextId(), state.userId(), state.postId(), state.emotionType().ordinal()})
+                .toList();
+        List<Object[]> deletes = sorted.stream()
+                .filter(state -> state.emotionType() == null)
+                .map(state -> new Object[]{state.postId(), state.userId()})
+                .toList();
+
+        if (!upserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_EMOTION, upserts);
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_EMOTION, deletes);
+        }
+    }
+}
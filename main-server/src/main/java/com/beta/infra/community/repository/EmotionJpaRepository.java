@@ -3,10 +3,19 @@ package com.beta.infra.community.repository;
 import com.beta.infra.community.entity.EmotionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
 public interface EmotionJpaRepository extends JpaRepository<EmotionEntity, Long> {
 
     Optional<EmotionEntity> findByPostIdAndUserId(Long postId, Long userId);
+
+    List<EmotionEntity> findAllByPostId(Long postId);
+
+    /**
+     * 한 사용자가 여러 게시글에 남긴 반응을 한 번에 조회 (피드 페이지 단위)
+     */
+    List<EmotionEntity> findAllByUserIdAndPostIdIn(Long userId, Collection<Long> postIds);
 }
@@ -0,0 +1,62 @@
+package com.beta.infra.community.repository;
+
+import com.beta.common.id.IdGenerators;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 해시태그 upsert / 게시글-해시태그 연결을 multi-row INSERT 한 문장으로 처리
+ * IDENTITY id라 JPA saveAll은 행마다 INSERT를 보내므로, 태그 수와 상관없이 문장 1개로 묶는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HashtagBatchRepository {
+
+    private static final String UPSERT_HASHTAGS_PREFIX = "INSERT INTO hashtag (tag_name, usage_count, created_at, updated_at) VALUES ";
+    private static final String UPSERT_HASHTAGS_ROW = "(?, 1, NOW(), NOW())";
+    private static final String UPSERT_HASHTAGS_SUFFIX = """
+             ON DUPLICATE KEY UPDATE
+                usage_count = usage_count + 1,
+                updated_at = NOW()
+            """;
+    private static final String INSERT_POST_HASHTAGS_PREFIX = "INSERT INTO post_hashtag (id, post_id, hashtag_id, created_at, updated_at) VALUES ";
+    private static final String INSERT_POST_HASHTAGS_ROW = "(?, ?, ?, NOW(), NOW())";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 태그명 오름차순으로 한 번에 upsert (없으면 생성, 있으면 usage_count + 1)
+     * 한 문장 안에서 행을 정렬된 순서로 잠그므로 같은 태그를 동시에 쓰는 요청끼리 교착이 생기지 않는다.
+     *
+     * @param sortedTagNames 중복 없이 정렬된 태그명
+     */
+    public void upsertHashtags(List<String> sortedTagNames) {
+        if (sortedTagNames.isEmpty()) {
+            return;
+        }
+        String sql = UPSERT_HASHTAGS_PREFIX
+                + String.join(", ", Collections.nCopies(sortedTagNames.size(), UPSERT_HASHTAGS_ROW))
+                + UPSERT_HASHTAGS_SUFFIX;
+        jdbcTemplate.update(sql, sortedTagNames.toArray());
+    }
+
+    public void insertPostHashtags(Long postId, List<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>(hashtagIds.size() * 3);
+        hashtagIds.forEach(hashtagId -> {
+            args.add(IdGenerators.nextId());
+            args.add(postId);
+            args.add(hashtagId);
+        });
+        String sql = INSERT_POST_HASHTAGS_PREFIX
+                + String.join(", ", Collections.nCopies(hashtagIds.size(), INSERT_POST_HASHTAGS_ROW));
+        jdbcTemplate.update(sql, args.toArray());
+    }
+}
@@ -0,0 +1,6 @@
+package com.beta.infra.community.repository;
+
+public enum HashtagMatchType {
+    AND,    // 모든 해시태그를 포함한 게시글
+    OR      // 하나 이상의 해시태그를 포함한 게시글
+}
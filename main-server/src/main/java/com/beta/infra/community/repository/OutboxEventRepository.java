@@ -0,0 +1,69 @@
+package com.beta.infra.community.repository;
+
+import com.beta.infra.community.repository.dao.OutboxEventRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * community_outbox 읽기/쓰기 (multi-row INSERT, id 오름차순 조회, id로 일괄 삭제)
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxEventRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO community_outbox (id, event_type, aggregate_id, payload, created_at, updated_at) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, NOW(), NOW())";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 호출한 트랜잭션 안에서 한 문장으로 기록 (id는 호출하는 쪽에서 채번)
+     */
+    public void insertAll(List<OutboxEventRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>(rows.size() * 4);
+        rows.forEach(row -> {
+            args.add(row.id());
+            args.add(row.eventType());
+            args.add(row.aggregateId());
+            args.add(row.payload());
+        });
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(rows.size(), INSERT_ROW));
+        jdbcTemplate.update(sql, args.toArray());
+    }
+
+    /**
+     * 가장 오래된 이벤트부터 최대 limit개
+     */
+    public List<OutboxEventRow> findOldest(int limit) {
+        return jdbcTemplate.query("""
+                        SELECT id, event_type, aggregate_id, payload
+                        FROM community_outbox
+                        ORDER BY id
+                        LIMIT ?
+                        """,
+                (rs, rowNum) -> new OutboxEventRow(
+                        rs.getLong("id"),
+                        rs.getString("event_type"),
+                        rs.getLong("aggregate_id"),
+                        rs.getString("payload")
+                ),
+                limit);
+    }
+
+    public void deleteAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        String sql = "DELETE FROM community_outbox WHERE id IN (%s)"
+                .formatted(String.join(", ", Collections.nCopies(ids.size(), "?")));
+        jdbcTemplate.update(sql, ids.toArray());
+    }
+}
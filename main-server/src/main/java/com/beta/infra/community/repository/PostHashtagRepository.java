@@ -3,6 +3,6 @@ package com.beta.infra.community.repository;
 import com.beta.infra.community.entity.PostHashtagEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface PostHashtagRepository extends JpaRepository<PostHashtagEntity, Long> {
+public interface PostHashtagRepository extends JpaRepository<PostHashtagEntity, Long>, PostHashtagRepositoryCustom {
     long countByPostId(Long postId);
 }
@@ -0,0 +1,13 @@
+package com.beta.infra.community.repository;
+
+import java.util.List;
+
+public interface PostHashtagRepositoryCustom {
+
+    /**
+     * 해시태그가 달린 ACTIVE 게시글 id를 cursorId 미만에서 최신순으로 최대 size개 조회
+     * 태그마다 (hashtag_id, post_id) 인덱스를 역순으로 읽는 keyset 쿼리를 따로 실행하고,
+     * OR는 합집합, AND는 교집합을 애플리케이션에서 계산한다. AND는 첫 번째 태그가 후보를 만드므로 가장 드문 태그를 앞에 둔다.
+     */
+    List<Long> findPostIdsByHashtags(List<Long> hashtagIds, HashtagMatchType matchType, Long cursorId, int size);
+}
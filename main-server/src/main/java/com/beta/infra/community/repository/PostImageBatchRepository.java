@@ -0,0 +1,112 @@
+package com.beta.infra.community.repository;
+
+import com.beta.infra.community.entity.Status;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 게시글 이미지 연결/정렬을 이미지 수와 상관없이 UPDATE ... CASE 한 문장으로 처리 (파생 이미지 기록 포함)
+ * post_image.status는 ORDINAL로 저장되므로 ordinal 값을 바인딩한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostImageBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이미지를 게시글에 연결해 정렬 순서대로 ACTIVE로 바꾸고, 삭제 예정(MARKED_FOR_DELETION) 이미지는 DELETED로 바꾼다.
+     * 업로드 확인 전(AWAITING_UPLOAD)인 직접 업로드 이미지는 연결하지 않는다.
+     *
+     * @param sortByImageId 이미지 id → 정렬 순서
+     */
+    public void publishImages(Long postId, Map<Long, Integer> sortByImageId) {
+        if (sortByImageId.isEmpty()) {
+            return;
+        }
+        TreeMap<Long, Integer> sorted = new TreeMap<>(sortByImageId);
+        String idPlaceholders = placeholders(sorted.size());
+        String sql = """
+                UPDATE post_image
+                SET post_id = ?,
+                    sort = CASE id %s ELSE sort END,
+                    status = CASE WHEN id IN (%s) THEN ? ELSE ? END
+                WHERE (id IN (%s) AND status <> ?) OR (post_id = ? AND status = ?)
+                """.formatted(caseWhen(sorted.size()), idPlaceholders, idPlaceholders);
+
+        List<Object> args = new ArrayList<>();
+        args.add(postId);
+        sorted.forEach((imageId, sort) -> {
+            args.add(imageId);
+            args.add(sort);
+        });
+        args.addAll(sorted.keySet());
+        args.add(Status.ACTIVE.ordinal());
+        args.add(Status.DELETED.ordinal());
+        args.addAll(sorted.keySet());
+        args.add(Status.AWAITING_UPLOAD.ordinal());
+        args.add(postId);
+        args.add(Status.MARKED_FOR_DELETION.ordinal());
+        jdbcTemplate.update(sql, args.toArray());
+    }
+
+    /**
+     * 게시글의 ACTIVE 이미지 정렬 순서를 변경
+     *
+     * @return 변경 대상으로 찾은 행 수 (다른 게시글이거나 ACTIVE가 아닌 이미지는 제외됨)
+     */
+    public int reorderImages(Long postId, Map<Long, Integer> sortByImageId) {
+        if (sortByImageId.isEmpty()) {
+            return 0;
+        }
+        TreeMap<Long, Integer> sorted = new TreeMap<>(sortByImageId);
+        String sql = """
+                UPDATE post_image
+                SET sort = CASE id %s END
+                WHERE post_id = ? AND status = ? AND id IN (%s)
+                """.formatted(caseWhen(sorted.size()), placeholders(sorted.size()));
+
+        List<Object> args = new ArrayList<>();
+        sorted.forEach((imageId, sort) -> {
+            args.add(imageId);
+            args.add(sort);
+        });
+        args.add(postId);
+        args.add(Status.ACTIVE.ordinal());
+        args.addAll(sorted.keySet());
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    /**
+     * 파생 이미지 URL/크기만 기록 (post_id, status, sort는 건드리지 않음)
+     * 생성 중에 게시글 연결/정렬/삭제가 먼저 커밋되어도 덮어쓰지 않도록 엔티티 대신 해당 컬럼만 UPDATE한다.
+     *
+     * @return 기록한 행 수 (삭제된(DELETED) 이미지면 0)
+     */
+    public int updateDerivatives(Long imageId, String feedUrl, int feedWidth, int feedHeight,
+                                 String detailUrl, int detailWidth, int detailHeight) {
+        String sql = """
+                UPDATE post_image
+                SET feed_url = ?, feed_width = ?, feed_height = ?,
+                    detail_url = ?, detail_width = ?, detail_height = ?
+                WHERE id = ? AND status <> ?
+                """;
+        return jdbcTemplate.update(sql, feedUrl, feedWidth, feedHeight, detailUrl, detailWidth, detailHeight,
+                imageId, Status.DELETED.ordinal());
+    }
+
+    private static String caseWhen(int size) {
+        return String.join(" ", Collections.nCopies(size, "WHEN ? THEN ?"));
+    }
+
+    private static String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+}
@@ -5,11 +5,14 @@ import com.beta.infra.community.entity.Status;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PostImageJpaRepository extends JpaRepository<PostImageEntity, Long> {
@@ -17,13 +20,17 @@ public interface PostImageJpaRepository extends JpaRepository<PostImageEntity, L
 
     List<PostImageEntity> findAllByIdInAndPostIdAndStatus(List<Long> imageIds, Long postId, Status status);
 
+    List<PostImageEntity> findAllByIdInAndUserIdAndStatus(List<Long> imageIds, Long userId, Status status);
+
     List<PostImageEntity> findAllByPostIdAndStatusIn(Long postId, List<Status> status);
 
-    @Modifying
-    @Query("UPDATE PostImageEntity p SET p.postId = :postId, p.sort = :sort, p.status = :status WHERE p.id = :imageId")
-    void updateImagePostIdAndSortAndActive(@Param("postId") Long postId,@Param("imageId") Long imageId,@Param("sort") Integer sort,@Param("status") Status status);
+    List<PostImageEntity> findAllByStatusAndCreatedAtBeforeOrderByIdAsc(Status status, LocalDateTime createdAt, Pageable pageable);
 
+    /**
+     * 상태가 그대로일 때만 삭제 (그 사이 다른 요청이 상태를 바꿨으면 0)
+     */
+    @Transactional
     @Modifying
-    @Query("UPDATE PostImageEntity p SET p.status = :status WHERE p.postId = :postId AND p.status = :condition")
-    void updateImageStatus(Long postId, Status condition, Status status);
+    @Query("DELETE FROM PostImageEntity p WHERE p.id = :imageId AND p.status = :status")
+    int deleteByIdAndStatus(@Param("imageId") Long imageId, @Param("status") Status status);
 }
@@ -1,30 +1,48 @@
 package com.beta.infra.community.repository;
 
 import com.beta.infra.community.entity.PostEntity;
+import com.beta.infra.community.entity.Status;
+import com.beta.infra.community.repository.dao.PostRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+
 public interface PostJpaRepository extends JpaRepository<PostEntity, Long>, PostRepositoryCustom {
 
+    boolean existsByIdAndStatus(Long id, Status status);
+
     @Modifying
     @Query("UPDATE PostEntity p SET p.commentCount = p.commentCount + :increment WHERE p.id = :postId")
     void updateCommentCount(@Param("postId") Long postId, @Param("increment") int increment);
 
     @Modifying
-    @Query("UPDATE PostEntity p SET p.likeCount = p.likeCount + :increment WHERE p.id = :postId")
+    @Query("UPDATE PostEntity p SET p.likeCount = p.likeCount + :increment, p.emotionCount = p.emotionCount + :increment WHERE p.id = :postId")
     void updateLikeCount(@Param("postId") Long postId, @Param("increment") int increment);
 
     @Modifying
-    @Query("UPDATE PostEntity p SET p.sadCount = p.sadCount + :increment WHERE p.id = :postId")
+    @Query("UPDATE PostEntity p SET p.sadCount = p.sadCount + :increment, p.emotionCount = p.emotionCount + :increment WHERE p.id = :postId")
     void updateSadCount(@Param("postId") Long postId, @Param("increment") int increment);
 
     @Modifying
-    @Query("UPDATE PostEntity p SET p.funCount = p.funCount + :increment WHERE p.id = :postId")
+    @Query("UPDATE PostEntity p SET p.funCount = p.funCount + :increment, p.emotionCount = p.emotionCount + :increment WHERE p.id = :postId")
     void updateFunCount(@Param("postId") Long postId, @Param("increment") int increment);
 
     @Modifying
-    @Query("UPDATE PostEntity p SET p.hypeCount = p.hypeCount + :increment WHERE p.id = :postId")
+    @Query("UPDATE PostEntity p SET p.hypeCount = p.hypeCount + :increment, p.emotionCount = p.emotionCount + :increment WHERE p.id = :postId")
     void updateHypeCount(@Param("postId") Long postId, @Param("increment") int increment);
+
+    @Query("SELECT new com.beta.infra.community.repository.dao.PostRow(" +
+            "p.id, p.userId, p.content, p.channel, p.commentCount, p.likeCount, p.sadCount, " +
+            "p.funCount, p.hypeCount, p.emotionCount, p.createdAt) " +
+            "FROM PostEntity p WHERE p.channel = :channel AND p.status = :status ORDER BY p.id DESC")
+    List<PostRow> findLatestPostRows(@Param("channel") PostEntity.Channel channel,
+                                     @Param("status") Status status,
+                                     Pageable pageable);
+
+    @Query("SELECT p.id FROM PostEntity p WHERE p.channel = :channel AND p.status = :status ORDER BY p.id DESC")
+    List<Long> findLatestPostIds(@Param("channel") PostEntity.Channel channel, @Param("status") Status status, Pageable pageable);
 }
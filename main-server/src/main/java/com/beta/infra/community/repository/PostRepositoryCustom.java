@@ -1,9 +1,39 @@
 package com.beta.infra.community.repository;
 
+import com.beta.infra.community.entity.PostEntity;
+import com.beta.infra.community.repository.dao.PostSearchRow;
 import com.beta.infra.community.repository.dao.PostWithImages;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostRepositoryCustom {
     Optional<PostWithImages> findPostWithImages(Long postId);
+
+    /**
+     * 채널 피드 조회 (keyset 페이지네이션)
+     * cursorId(및 EMOTION 정렬 시 cursorEmotionCount)보다 뒤에 있는 게시글을 최대 size개 조회하고,
+     * 페이지에 포함된 게시글의 이미지는 한 번의 추가 쿼리로 채운다.
+     */
+    List<PostWithImages> findChannelPosts(PostEntity.Channel channel, PostSortType sortType,
+                                          Long cursorId, Integer cursorEmotionCount, int size);
+
+    /**
+     * id 목록에 해당하는 ACTIVE 게시글을 이미지와 함께 일괄 조회
+     * 요청한 id 순서를 유지하며(중복 id는 한 번만), 게시글 수와 무관하게
+     * 게시글 1회 + 이미지 1회 쿼리(IN 절 청크 단위)로 처리한다.
+     */
+    List<PostWithImages> findPostsWithImages(Collection<Long> postIds);
+
+    /**
+     * 본문 전문 검색 (MySQL FULLTEXT ngram, BOOLEAN MODE)
+     * 관련도(score) 내림차순, 동률이면 id 내림차순으로 (cursorScore, cursorId) 이후를 최대 size개 조회한다.
+     * channel이 null이면 전체 채널을 검색한다.
+     *
+     * 운영 DB에는 아래 인덱스가 필요하다. (ngram_token_size 기본값 2)
+     * ALTER TABLE posts ADD FULLTEXT INDEX ft_posts_content (content) WITH PARSER ngram;
+     */
+    List<PostSearchRow> searchPostIds(String booleanQuery, PostEntity.Channel channel,
+                                      Double cursorScore, Long cursorId, int size);
 }
@@ -0,0 +1,7 @@
+package com.beta.infra.community.repository;
+
+public enum PostSortType {
+    LATEST,     // 최신순 (id 내림차순)
+    EMOTION,    // 반응순 (emotion_count 내림차순, 동률이면 id 내림차순)
+    HOT         // 인기순 (시간 감쇠 인기 점수 내림차순, Redis 랭킹)
+}
@@ -0,0 +1,13 @@
+package com.beta.infra.community.repository.dao;
+
+import com.beta.infra.community.entity.EmotionEntity;
+
+/**
+ * 사용자가 게시글에 남긴 최종 반응 (emotionType이 null이면 반응 없음)
+ */
+public record EmotionState(
+        Long postId,
+        Long userId,
+        EmotionEntity.EmotionType emotionType
+) {
+}
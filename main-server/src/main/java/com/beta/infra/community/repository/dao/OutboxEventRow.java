@@ -0,0 +1,12 @@
+package com.beta.infra.community.repository.dao;
+
+/**
+ * 아웃박스 행 (payload는 이벤트 JSON)
+ */
+public record OutboxEventRow(
+        Long id,
+        String eventType,
+        Long aggregateId,
+        String payload
+) {
+}
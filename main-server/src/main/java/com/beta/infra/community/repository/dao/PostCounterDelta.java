@@ -0,0 +1,57 @@
+package com.beta.infra.community.repository.dao;
+
+import com.beta.infra.community.entity.EmotionEntity;
+
+/**
+ * 아직 DB에 반영되지 않은 게시글 카운터 변화량 (emotion_count는 반응 4종의 합으로 계산)
+ */
+public record PostCounterDelta(
+        int commentCount,
+        int likeCount,
+        int sadCount,
+        int funCount,
+        int hypeCount
+) {
+    public static final PostCounterDelta ZERO = new PostCounterDelta(0, 0, 0, 0, 0);
+
+    public static PostCounterDelta ofComment(int delta) {
+        return new PostCounterDelta(delta, 0, 0, 0, 0);
+    }
+
+    public static PostCounterDelta ofEmotion(EmotionEntity.EmotionType emotionType, int delta) {
+        return switch (emotionType) {
+            case LIKE -> new PostCounterDelta(0, delta, 0, 0, 0);
+            case SAD -> new PostCounterDelta(0, 0, delta, 0, 0);
+            case FUN -> new PostCounterDelta(0, 0, 0, delta, 0);
+            case HYPE -> new PostCounterDelta(0, 0, 0, 0, delta);
+        };
+    }
+
+    public int emotionCount() {
+        return likeCount + sadCount + funCount + hypeCount;
+    }
+
+    public PostCounterDelta plus(PostCounterDelta other) {
+        return new PostCounterDelta(
+                commentCount + other.commentCount,
+                likeCount + other.likeCount,
+                sadCount + other.sadCount,
+                funCount + other.funCount,
+                hypeCount + other.hypeCount
+        );
+    }
+
+    public PostCounterDelta minus(PostCounterDelta other) {
+        return new PostCounterDelta(
+                commentCount - other.commentCount,
+                likeCount - other.likeCount,
+                sadCount - other.sadCount,
+                funCount - other.funCount,
+                hypeCount - other.hypeCount
+        );
+    }
+
+    public boolean isZero() {
+        return this.equals(ZERO);
+    }
+}
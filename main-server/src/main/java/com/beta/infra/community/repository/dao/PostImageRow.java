@@ -0,0 +1,15 @@
+package com.beta.infra.community.repository.dao;
+
+public record PostImageRow(
+        Long postId,
+        Long imageId,
+        String imgUrl,
+        Integer sort,
+        String feedUrl,
+        Integer feedWidth,
+        Integer feedHeight,
+        String detailUrl,
+        Integer detailWidth,
+        Integer detailHeight
+) {
+}
@@ -0,0 +1,20 @@
+package com.beta.infra.community.repository.dao;
+
+import com.beta.infra.community.entity.PostEntity;
+
+import java.time.LocalDateTime;
+
+public record PostRow(
+        Long postId,
+        Long userId,
+        String content,
+        PostEntity.Channel channel,
+        Integer commentCount,
+        Integer likeCount,
+        Integer sadCount,
+        Integer funCount,
+        Integer hypeCount,
+        Integer emotionCount,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,7 @@
+package com.beta.infra.community.repository.dao;
+
+public record PostSearchRow(
+        Long postId,
+        Double score
+) {
+}
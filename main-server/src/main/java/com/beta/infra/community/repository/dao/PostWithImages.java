@@ -20,9 +20,27 @@ public class PostWithImages {
     private Integer sadCount;
     private Integer funCount;
     private Integer hypeCount;
+    private Integer emotionCount;
     private LocalDateTime createdAt;
     private List<Images> images;
 
+    public static PostWithImages of(PostRow row, List<Images> images) {
+        return new PostWithImages(
+                row.postId(),
+                row.userId(),
+                row.content(),
+                row.channel().name(),
+                row.commentCount(),
+                row.likeCount(),
+                row.sadCount(),
+                row.funCount(),
+                row.hypeCount(),
+                row.emotionCount(),
+                row.createdAt(),
+                images
+        );
+    }
+
     @Getter
     @AllArgsConstructor
     @NoArgsConstructor
@@ -30,5 +48,22 @@ public class PostWithImages {
         private Long imageId;
         private String imgUrl;
         private Integer sort;
+        // 파생 이미지 (생성 전이면 null)
+        private String feedUrl;
+        private Integer feedWidth;
+        private Integer feedHeight;
+        private String detailUrl;
+        private Integer detailWidth;
+        private Integer detailHeight;
+
+        public Images(Long imageId, String imgUrl, Integer sort) {
+            this(imageId, imgUrl, sort, null, null, null, null, null, null);
+        }
+
+        public static Images from(PostImageRow row) {
+            return new Images(row.imageId(), row.imgUrl(), row.sort(),
+                    row.feedUrl(), row.feedWidth(), row.feedHeight(),
+                    row.detailUrl(), row.detailWidth(), row.detailHeight());
+        }
     }
 }
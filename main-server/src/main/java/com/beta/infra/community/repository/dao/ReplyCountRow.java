@@ -0,0 +1,7 @@
+package com.beta.infra.community.repository.dao;
+
+public record ReplyCountRow(
+        Long parentId,
+        Long replyCount
+) {
+}
@@ -0,0 +1,118 @@
+package com.beta.infra.community.repository.querydsl;
+
+import com.beta.infra.community.entity.QPostEntity;
+import com.beta.infra.community.entity.QPostHashtagEntity;
+import com.beta.infra.community.entity.Status;
+import com.beta.infra.community.repository.HashtagMatchType;
+import com.beta.infra.community.repository.PostHashtagRepositoryCustom;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+@RequiredArgsConstructor
+public class PostHashtagRepositoryCustomImpl implements PostHashtagRepositoryCustom {
+
+    private static final int AND_SCAN_BATCH_SIZE = 200;
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<Long> findPostIdsByHashtags(List<Long> hashtagIds, HashtagMatchType matchType, Long cursorId, int size) {
+        if (hashtagIds.isEmpty() || size <= 0) {
+            return List.of();
+        }
+        if (matchType == HashtagMatchType.AND && hashtagIds.size() > 1) {
+            return findPostIdsHavingAll(hashtagIds, cursorId, size);
+        }
+        return findPostIdsHavingAny(hashtagIds, cursorId, size);
+    }
+
+    /**
+     * OR: 태그별로 상위 size개씩 읽어 합친 뒤 큰 id부터 size개
+     * 합집합의 상위 size개는 반드시 어느 한 태그의 상위 size개 안에 있다.
+     */
+    private List<Long> findPostIdsHavingAny(List<Long> hashtagIds, Long cursorId, int size) {
+        TreeSet<Long> merged = new TreeSet<>(Comparator.reverseOrder());
+        for (Long hashtagId : hashtagIds) {
+            merged.addAll(findActivePostIds(hashtagId, cursorId, size));
+        }
+        return merged.stream().limit(size).toList();
+    }
+
+    /**
+     * AND: 첫 번째 태그(호출자가 가장 드문 태그를 앞에 둔다)를 AND_SCAN_BATCH_SIZE씩 keyset으로 읽고,
+     * 나머지 태그마다 후보 id에 대해서만 (hashtag_id, post_id) 인덱스로 존재 여부를 확인해 교집합을 남긴다.
+     * size개가 모이거나 첫 번째 태그의 목록이 끝날 때까지 반복한다.
+     */
+    private List<Long> findPostIdsHavingAll(List<Long> hashtagIds, Long cursorId, int size) {
+        Long drivingHashtagId = hashtagIds.getFirst();
+        List<Long> otherHashtagIds = hashtagIds.subList(1, hashtagIds.size());
+
+        List<Long> result = new ArrayList<>();
+        Long scanCursor = cursorId;
+        while (result.size() < size) {
+            List<Long> candidates = findActivePostIds(drivingHashtagId, scanCursor, AND_SCAN_BATCH_SIZE);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            Set<Long> matched = new HashSet<>(candidates);
+            for (Long hashtagId : otherHashtagIds) {
+                if (matched.isEmpty()) {
+                    break;
+                }
+                matched.retainAll(findTaggedPostIds(hashtagId, matched));
+            }
+            candidates.stream()
+                    .filter(matched::contains)
+                    .limit(size - result.size())
+                    .forEach(result::add);
+            if (candidates.size() < AND_SCAN_BATCH_SIZE) {
+                break;
+            }
+            scanCursor = candidates.getLast();
+        }
+        return result;
+    }
+
+    /**
+     * 한 태그의 ACTIVE 게시글 id를 cursorId 미만에서 최신순으로 최대 limit개
+     * WHERE hashtag_id = ? AND post_id < ? ORDER BY post_id DESC LIMIT ? (인덱스 역순 범위 스캔)
+     */
+    private List<Long> findActivePostIds(Long hashtagId, Long cursorId, int limit) {
+        QPostHashtagEntity postHashtag = QPostHashtagEntity.postHashtagEntity;
+        QPostEntity post = QPostEntity.postEntity;
+
+        return queryFactory.select(postHashtag.postId)
+                .from(postHashtag)
+                .join(post).on(post.id.eq(postHashtag.postId))
+                .where(
+                        postHashtag.hashtagId.eq(hashtagId),
+                        post.status.eq(Status.ACTIVE),
+                        cursorId != null ? postHashtag.postId.lt(cursorId) : null
+                )
+                .orderBy(postHashtag.postId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 후보 id 중 해당 태그가 달린 id
+     */
+    private List<Long> findTaggedPostIds(Long hashtagId, Set<Long> postIds) {
+        QPostHashtagEntity postHashtag = QPostHashtagEntity.postHashtagEntity;
+
+        return queryFactory.select(postHashtag.postId)
+                .from(postHashtag)
+                .where(
+                        postHashtag.hashtagId.eq(hashtagId),
+                        postHashtag.postId.in(postIds)
+                )
+                .fetch();
+    }
+}
@@ -1,72 +1,209 @@
 package com.beta.infra.community.repository.querydsl;
 
+import com.beta.infra.community.entity.PostEntity;
 import com.beta.infra.community.entity.QPostEntity;
 import com.beta.infra.community.entity.QPostImageEntity;
 import com.beta.infra.community.entity.Status;
 import com.beta.infra.community.repository.PostRepositoryCustom;
+import com.beta.infra.community.repository.PostSortType;
+import com.beta.infra.community.repository.dao.PostImageRow;
+import com.beta.infra.community.repository.dao.PostRow;
+import com.beta.infra.community.repository.dao.PostSearchRow;
 import com.beta.infra.community.repository.dao.PostWithImages;
-import com.querydsl.core.group.GroupBy;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 public class PostRepositoryCustomImpl implements PostRepositoryCustom {
 
+    private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+
+    private static final String SEARCH_QUERY = """
+            SELECT s.id, s.score
+            FROM (
+                SELECT p.id, ROUND(MATCH(p.content) AGAINST(:query IN BOOLEAN MODE), 6) AS score
+                FROM posts p
+                WHERE MATCH(p.content) AGAINST(:query IN BOOLEAN MODE)
+                  AND p.status = 'ACTIVE'
+                  AND (:channel IS NULL OR p.channel = :channel)
+            ) s
+            WHERE (:cursorId IS NULL OR s.score < :cursorScore OR (s.score = :cursorScore AND s.id < :cursorId))
+            ORDER BY s.score DESC, s.id DESC
+            LIMIT :size
+            """;
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     @Override
     public Optional<PostWithImages> findPostWithImages(Long postId) {
+        return findPostsWithImages(List.of(postId)).stream().findFirst();
+    }
+
+    @Override
+    public List<PostWithImages> findChannelPosts(PostEntity.Channel channel, PostSortType sortType,
+                                                 Long cursorId, Integer cursorEmotionCount, int size) {
+        QPostEntity post = QPostEntity.postEntity;
+        List<PostRow> rows = queryFactory.select(postRow(post))
+                .from(post)
+                .where(
+                        post.channel.eq(channel),
+                        post.status.eq(Status.ACTIVE),
+                        cursorCondition(post, sortType, cursorId, cursorEmotionCount)
+                )
+                .orderBy(feedOrder(post, sortType))
+                .limit(size)
+                .fetch();
+        return withImages(rows);
+    }
+
+    @Override
+    public List<PostWithImages> findPostsWithImages(Collection<Long> postIds) {
+        List<Long> ids = postIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
         QPostEntity post = QPostEntity.postEntity;
+        Map<Long, PostRow> rowsById = new HashMap<>();
+        for (List<Long> chunk : chunk(ids)) {
+            queryFactory.select(postRow(post))
+                    .from(post)
+                    .where(post.id.in(chunk), post.status.eq(Status.ACTIVE))
+                    .fetch()
+                    .forEach(row -> rowsById.put(row.postId(), row));
+        }
+        // 요청한 id 순서를 그대로 유지 (삭제되었거나 없는 게시글은 제외)
+        List<PostRow> rows = ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return withImages(rows);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PostSearchRow> searchPostIds(String booleanQuery, PostEntity.Channel channel,
+                                             Double cursorScore, Long cursorId, int size) {
+        List<Object[]> rows = entityManager.createNativeQuery(SEARCH_QUERY)
+                .setParameter("query", booleanQuery)
+                .setParameter("channel", channel != null ? channel.name() : null)
+                .setParameter("cursorScore", cursorScore)
+                .setParameter("cursorId", cursorId)
+                .setParameter("size", size)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new PostSearchRow(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue()))
+                .toList();
+    }
+
+    private ConstructorExpression<PostRow> postRow(QPostEntity post) {
+        return Projections.constructor(
+                PostRow.class,
+                post.id,
+                post.userId,
+                post.content,
+                post.channel,
+                post.commentCount,
+                post.likeCount,
+                post.sadCount,
+                post.funCount,
+                post.hypeCount,
+                post.emotionCount,
+                post.createdAt
+        );
+    }
+
+    private List<PostWithImages> withImages(List<PostRow> rows) {
+        Map<Long, List<PostWithImages.Images>> imagesByPostId = findImagesByPostIds(
+                rows.stream().map(PostRow::postId).toList()
+        );
+        return rows.stream()
+                .map(row -> PostWithImages.of(row, imagesByPostId.getOrDefault(row.postId(), List.of())))
+                .toList();
+    }
+
+    private BooleanExpression cursorCondition(QPostEntity post, PostSortType sortType, Long cursorId, Integer cursorEmotionCount) {
+        if (cursorId == null) {
+            return null;
+        }
+        if (sortType == PostSortType.EMOTION) {
+            return post.emotionCount.lt(cursorEmotionCount)
+                    .or(post.emotionCount.eq(cursorEmotionCount).and(post.id.lt(cursorId)));
+        }
+        return post.id.lt(cursorId);
+    }
+
+    private OrderSpecifier<?>[] feedOrder(QPostEntity post, PostSortType sortType) {
+        if (sortType == PostSortType.EMOTION) {
+            return new OrderSpecifier<?>[]{post.emotionCount.desc(), post.id.desc()};
+        }
+        return new OrderSpecifier<?>[]{post.id.desc()};
+    }
+
+    private Map<Long, List<PostWithImages.Images>> findImagesByPostIds(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
         QPostImageEntity image = QPostImageEntity.postImageEntity;
-        Map<Long, PostWithImages> result =
-                queryFactory.select(
-                    post.id,
-                    post.userId,
-                    post.content,
-                    post.channel,
-                    post.commentCount,
-                    post.likeCount,
-                    post.sadCount,
-                    post.funCount,
-                    post.hypeCount,
-                    post.createdAt,
-                    image.id,
-                    image.imgUrl,
-                    image.sort
-                ).from(post)
-                        .leftJoin(image)
-                        .on(post.id.eq(image.postId).in(image.status.eq(Status.ACTIVE), image.status.eq(Status.MARKED_FOR_DELETION)))
-                .where(post.id.eq(postId).and(post.status.eq(Status.ACTIVE)))
-                .orderBy(post.createdAt.desc())
-                .transform(
-                        GroupBy.groupBy(post.id).as(
-                                Projections.fields(
-                                        PostWithImages.class,
-                                        post.id.as("postId"),
-                                        post.userId,
-                                        post.content,
-                                        post.channel,
-                                        post.commentCount,
-                                        post.likeCount,
-                                        post.sadCount,
-                                        post.funCount,
-                                        post.hypeCount,
-                                        post.createdAt,
-                                        GroupBy.list(
-                                                Projections.fields(
-                                                        PostWithImages.Images.class,
-                                                        image.id.as("imageId"),
-                                                        image.imgUrl,
-                                                        image.sort
-                                                )
-                                        ).as("images")
-                                )
+        List<PostImageRow> rows = new ArrayList<>();
+        for (List<Long> chunk : chunk(postIds)) {
+            rows.addAll(queryFactory.select(
+                            Projections.constructor(
+                                    PostImageRow.class,
+                                    image.postId,
+                                    image.id,
+                                    image.imgUrl,
+                                    image.sort,
+                                    image.feedUrl,
+                                    image.feedWidth,
+                                    image.feedHeight,
+                                    image.detailUrl,
+                                    image.detailWidth,
+                                    image.detailHeight
+                            )
+                    ).from(image)
+                    .where(
+                            image.postId.in(chunk),
+                            image.status.in(Status.ACTIVE, Status.MARKED_FOR_DELETION)
+                    )
+                    .orderBy(image.postId.asc(), image.sort.asc())
+                    .fetch());
+        }
+        return rows.stream()
+                .collect(Collectors.groupingBy(
+                        PostImageRow::postId,
+                        Collectors.mapping(
+                                PostWithImages.Images::from,
+                                Collectors.toList()
                         )
-                );
-        return Optional.ofNullable(result.get(postId));
+                ));
+    }
+
+    /**
+     * IN 절이 지나치게 길어지지 않도록 id 목록을 나눈다.
+     */
+    private List<List<Long>> chunk(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
     }
 }
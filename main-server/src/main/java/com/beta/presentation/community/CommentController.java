@@ -5,7 +5,9 @@ import com.beta.common.idempotency.Idempotent;
 import com.beta.common.security.CustomUserDetails;
 import com.beta.presentation.community.request.CommentCreateRequest;
 import com.beta.presentation.community.request.CommentUpdateRequest;
+import com.beta.presentation.community.response.CommentListResponse;
 import com.beta.presentation.community.response.CommentResponse;
+import com.beta.presentation.community.response.ReplyListResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +21,25 @@ public class CommentController {
 
     private final CommentApplicationService commentApplicationService;
 
+    @GetMapping
+    public ResponseEntity<CommentListResponse> getComments(
+            @PathVariable Long postId,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(commentApplicationService.getComments(postId, cursorId, size));
+    }
+
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<ReplyListResponse> getReplies(
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(commentApplicationService.getReplies(postId, commentId, cursorId, size));
+    }
+
     @Idempotent(ttlSeconds = 2)
     @PostMapping
     public ResponseEntity<CommentResponse> createComment(
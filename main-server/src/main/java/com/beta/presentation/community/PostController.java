@@ -2,6 +2,7 @@ package com.beta.presentation.community;
 
 import com.beta.application.community.PostApplicationService;
 import com.beta.application.community.PostImageApplicationService;
+import com.beta.application.community.dto.PostWithImagesDto;
 import com.beta.common.idempotency.Idempotent;
 import com.beta.common.security.CustomUserDetails;
 import com.beta.presentation.community.request.*;
@@ -32,6 +33,24 @@ public class PostController {
         return ResponseEntity.ok(postImageApplicationService.uploadImages(images, userDetails.userId()));
     }
 
+    @Idempotent(ttlSeconds = 3)
+    @PostMapping("/images/upload-urls")
+    public ResponseEntity<List<DirectUploadResponse>> reserveDirectUploads(
+            @Valid @RequestBody DirectUploadRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return ResponseEntity.ok(postImageApplicationService.reserveDirectUploads(request, userDetails.userId()));
+    }
+
+    @Idempotent(ttlSeconds = 3)
+    @PostMapping("/images/finalize")
+    public ResponseEntity<List<PostImagesResponse>> finalizeDirectUploads(
+            @Valid @RequestBody ImageFinalizeRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return ResponseEntity.ok(postImageApplicationService.finalizeDirectUploads(request, userDetails.userId()));
+    }
+
     @Idempotent(ttlSeconds = 3)
     @PostMapping(value = "/{postId}/images", consumes = {"multipart/form-data"})
     public ResponseEntity<List<PostImagesResponse>> addImages(
@@ -52,6 +71,16 @@ public class PostController {
         return ResponseEntity.ok(postImageApplicationService.softDeleteImages(postId, request, userDetails.userId()));
     }
 
+    @Idempotent(ttlSeconds = 3)
+    @PatchMapping("/{postId}/images/order")
+    public ResponseEntity<List<PostImagesResponse>> reorderImages(
+            @PathVariable Long postId,
+            @Valid @RequestBody ImageOrderUpdateRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return ResponseEntity.ok(postImageApplicationService.reorderImages(postId, request, userDetails.userId()));
+    }
+
     @Idempotent(ttlSeconds = 5)
     @PostMapping
     public ResponseEntity<PostUploadResponse> uploadPost(
@@ -94,19 +123,58 @@ public class PostController {
         return ResponseEntity.ok(HashtagListResponse.from(postApplicationService.getHashtags()));
     }
 
+    @GetMapping("/hashtags/posts")
+    public ResponseEntity<PostListResponse> getHashtagPosts(
+            @RequestParam List<String> tags,
+            @RequestParam(defaultValue = "OR") String matchType,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(postApplicationService.getHashtagPosts(tags, matchType, cursorId, size));
+    }
+
+    @GetMapping("/hashtags/autocomplete")
+    public ResponseEntity<HashtagListResponse> autocompleteHashtags(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(HashtagListResponse.from(postApplicationService.autocompleteHashtags(keyword, size)));
+    }
+
     @GetMapping
-    public ResponseEntity<?> getPosts(
+    public ResponseEntity<PostListResponse> getPosts(
             @RequestParam(required = false) String channel,
             @RequestParam(defaultValue = "LATEST") String sortType,
             @RequestParam(required = false) Long cursorId,
             @RequestParam(required = false) Integer cursorEmotionCount,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return ResponseEntity.ok(postApplicationService.getPosts(channel, sortType, cursorId, cursorEmotionCount, size, userDetails.teamCode()));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<PostSearchResponse> searchPosts(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String channel,
+            @RequestParam(required = false) Double cursorScore,
+            @RequestParam(required = false) Long cursorId,
             @RequestParam(defaultValue = "20") int size
     ) {
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(postApplicationService.searchPosts(keyword, channel, cursorScore, cursorId, size));
+    }
+
+    @GetMapping("/reactions/me")
+    public ResponseEntity<MyReactionResponse> getMyReactions(
+            @RequestParam(required = false) List<Long> postIds,
+            @RequestParam(required = false) List<Long> commentIds,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return ResponseEntity.ok(postApplicationService.getMyReactions(postIds, commentIds, userDetails.userId()));
     }
 
     @GetMapping("/{postId}")
-    public ResponseEntity<?> getPostDetail(@PathVariable Long postId) {
-        return ResponseEntity.ok().build();
+    public ResponseEntity<PostWithImagesDto> getPostDetail(@PathVariable Long postId) {
+        return ResponseEntity.ok(postApplicationService.getPostDetail(postId));
     }
 }
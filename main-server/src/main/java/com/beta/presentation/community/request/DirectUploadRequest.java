@@ -0,0 +1,40 @@
+package com.beta.presentation.community.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectUploadRequest {
+
+    @Valid
+    @NotEmpty(message = "업로드할 이미지 정보가 필요합니다")
+    @Size(max = 5, message = "이미지 파일은 최대 5개까지 업로드 가능합니다")
+    private List<UploadImage> images;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UploadImage {
+
+        @NotBlank(message = "파일 이름은 필수입니다")
+        @Size(max = 100, message = "파일 이름은 100자 이하여야 합니다")
+        private String originName;
+
+        @NotBlank(message = "파일 형식은 필수입니다")
+        private String contentType;
+
+        @NotNull(message = "파일 크기는 필수입니다")
+        @Positive(message = "파일 크기는 0보다 커야 합니다")
+        private Long fileSize;
+    }
+}
@@ -0,0 +1,20 @@
+package com.beta.presentation.community.request;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageFinalizeRequest {
+
+    @NotEmpty(message = "업로드를 완료할 이미지 id가 필요합니다")
+    @Size(max = 5, message = "이미지 파일은 최대 5개까지 업로드 가능합니다")
+    private List<Long> imageIds;
+}
@@ -0,0 +1,29 @@
+package com.beta.presentation.community.response;
+
+import com.beta.application.community.dto.CommentThreadDto;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CommentListResponse {
+    private List<CommentThreadDto> comments;
+    private boolean hasNext;
+    private Long nextCursorId;
+
+    /**
+     * size + 1개로 조회한 결과를 받아 다음 페이지 존재 여부와 커서를 계산한다.
+     */
+    public static CommentListResponse of(List<CommentThreadDto> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<CommentThreadDto> comments = hasNext ? fetched.subList(0, size) : fetched;
+
+        return CommentListResponse.builder()
+                .comments(comments)
+                .hasNext(hasNext)
+                .nextCursorId(comments.isEmpty() ? null : comments.getLast().getComment().getCommentId())
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.beta.presentation.community.response;
+
+import com.beta.application.community.dto.DirectUploadDto;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Builder
+public class DirectUploadResponse {
+    private Long imageId;
+    private String imageUrl;
+    private String uploadUrl;
+    private Map<String, String> uploadHeaders; // PUT 요청에 그대로 넣어야 하는 헤더
+    private LocalDateTime expiresAt;
+
+    public static DirectUploadResponse from(DirectUploadDto dto) {
+        return DirectUploadResponse.builder()
+                .imageId(dto.getPostImageId())
+                .imageUrl(dto.getImgUrl())
+                .uploadUrl(dto.getUploadUrl())
+                .uploadHeaders(dto.getUploadHeaders())
+                .expiresAt(dto.getExpiresAt())
+                .build();
+    }
+}
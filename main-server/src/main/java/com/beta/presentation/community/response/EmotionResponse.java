@@ -1,5 +1,6 @@
 package com.beta.presentation.community.response;
 
+import com.beta.application.community.dto.EmotionToggleDto;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,11 +9,21 @@ import lombok.Getter;
 public class EmotionResponse {
     private boolean success;
     private String message;
+    private String emotionType; // 토글 후 내 반응 (취소 시 null)
+    private Long likeCount;     // 토글 직후 반응 수
+    private Long sadCount;
+    private Long funCount;
+    private Long hypeCount;
 
-    public static EmotionResponse success() {
+    public static EmotionResponse of(EmotionToggleDto toggled) {
         return EmotionResponse.builder()
                 .success(true)
                 .message("게시물에 대한 반응이 성공적으로 업데이트되었습니다.")
+                .emotionType(toggled.getEmotionType())
+                .likeCount(toggled.getLikeCount())
+                .sadCount(toggled.getSadCount())
+                .funCount(toggled.getFunCount())
+                .hypeCount(toggled.getHypeCount())
                 .build();
     }
 }
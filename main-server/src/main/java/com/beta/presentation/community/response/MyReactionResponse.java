@@ -0,0 +1,22 @@
+package com.beta.presentation.community.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@Builder
+public class MyReactionResponse {
+    private Map<Long, String> emotions; // postId -> 내가 남긴 반응 (반응이 없는 게시글은 제외)
+    private List<Long> likedCommentIds;
+
+    public static MyReactionResponse of(Map<Long, String> emotions, Set<Long> likedCommentIds) {
+        return MyReactionResponse.builder()
+                .emotions(emotions)
+                .likedCommentIds(List.copyOf(likedCommentIds))
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.beta.presentation.community.response;
+
+import com.beta.application.community.dto.PostWithImagesDto;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PostListResponse {
+    private List<PostWithImagesDto> posts;
+    private boolean hasNext;
+    private Long nextCursorId;
+    private Integer nextCursorEmotionCount;
+
+    /**
+     * size + 1개로 조회한 결과를 받아 다음 페이지 존재 여부와 커서를 계산한다.
+     */
+    public static PostListResponse of(List<PostWithImagesDto> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<PostWithImagesDto> posts = hasNext ? fetched.subList(0, size) : fetched;
+        PostWithImagesDto last = posts.isEmpty() ? null : posts.getLast();
+
+        return PostListResponse.builder()
+                .posts(posts)
+                .hasNext(hasNext)
+                .nextCursorId(last != null ? last.getPostId() : null)
+                .nextCursorEmotionCount(last != null ? last.getEmotionCount() : null)
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.beta.presentation.community.response;
+
+import com.beta.application.community.dto.PostSearchResultDto;
+import com.beta.application.community.dto.PostWithImagesDto;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PostSearchResponse {
+    private List<PostWithImagesDto> posts;
+    private boolean hasNext;
+    private Long nextCursorId;
+    private Double nextCursorScore;
+
+    /**
+     * size + 1개로 조회한 결과를 받아 다음 페이지 존재 여부와 (관련도, id) 커서를 계산한다.
+     */
+    public static PostSearchResponse of(List<PostSearchResultDto> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<PostSearchResultDto> results = hasNext ? fetched.subList(0, size) : fetched;
+        PostSearchResultDto last = results.isEmpty() ? null : results.getLast();
+
+        return PostSearchResponse.builder()
+                .posts(results.stream().map(PostSearchResultDto::getPost).toList())
+                .hasNext(hasNext)
+                .nextCursorId(last != null ? last.getPost().getPostId() : null)
+                .nextCursorScore(last != null ? last.getScore() : null)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.beta.presentation.community.response;
+
+import com.beta.application.community.dto.CommentDto;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ReplyListResponse {
+    private List<CommentDto> replies;
+    private boolean hasNext;
+    private Long nextCursorId;
+
+    public static ReplyListResponse of(List<CommentDto> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<CommentDto> replies = hasNext ? fetched.subList(0, size) : fetched;
+
+        return ReplyListResponse.builder()
+                .replies(replies)
+                .hasNext(hasNext)
+                .nextCursorId(replies.isEmpty() ? null : replies.getLast().getCommentId())
+                .build();
+    }
+}
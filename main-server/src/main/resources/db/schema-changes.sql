@@ -0,0 +1,80 @@
+-- 운영 DB 수동 반영 스키마 변경 (운영은 ddl-auto: none 이라 엔티티 변경이 자동 반영되지 않는다)
+-- 배포 전에 위에서부터 순서대로 한 번씩 실행한다. 테스트는 ddl-auto: create 로 엔티티 정의를 그대로 쓴다.
+
+-- emotion: 게시글당 사용자 반응 1개 (EmotionBatchRepository의 ON DUPLICATE KEY UPDATE가 이 키에 의존)
+-- 키를 걸기 전에 중복 행은 가장 최근 것만 남긴다.
+DELETE e FROM emotion e
+    JOIN emotion newer ON newer.post_id = e.post_id AND newer.user_id = e.user_id AND newer.id > e.id;
+ALTER TABLE emotion
+    ADD CONSTRAINT uk_emotion_post_user UNIQUE (post_id, user_id),
+    ADD INDEX idx_emotion_user_post (user_id, post_id);
+
+-- post_counter_shard: 인기 게시글 반응/댓글 수 분산 카운터 (EngagementCounterService, CounterBatchRepository)
+-- 실제 값 = posts 행의 카운트 + 슬롯 합계. 슬롯은 합산 주기마다 posts 행에 더한 뒤 삭제된다.
+CREATE TABLE post_counter_shard (
+    id            BIGINT NOT NULL AUTO_INCREMENT,
+    post_id       BIGINT NOT NULL,
+    slot          INT    NOT NULL,
+    comment_count INT    NOT NULL DEFAULT 0,
+    like_count    INT    NOT NULL DEFAULT 0,
+    sad_count     INT    NOT NULL DEFAULT 0,
+    fun_count     INT    NOT NULL DEFAULT 0,
+    hype_count    INT    NOT NULL DEFAULT 0,
+    emotion_count INT    NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_post_counter_shard_post_slot UNIQUE (post_id, slot)
+);
+
+-- posts.content 전문 검색 (PostRepositoryCustomImpl.searchPostIds 의 MATCH ... AGAINST가 이 인덱스에 의존, 테스트는 import.sql로 생성)
+-- 2글자 토큰 단위라 서버 변수 ngram_token_size 가 기본값(2)인지 먼저 확인한다.
+ALTER TABLE posts ADD FULLTEXT INDEX ft_posts_content (content) WITH PARSER ngram;
+
+-- posts: 채널 피드 keyset 페이지네이션 (PostRepositoryCustomImpl의 최신순/반응순 정렬이 이 인덱스에 의존)
+-- emotion_count 는 네 반응 수의 합계. 컬럼 추가 후 기존 행을 한 번 채우고 인덱스를 건다.
+ALTER TABLE posts ADD COLUMN emotion_count INT NOT NULL DEFAULT 0;
+UPDATE posts SET emotion_count = like_count + sad_count + fun_count + hype_count;
+ALTER TABLE posts
+    ADD INDEX idx_posts_channel_status_id (channel, status, id),
+    ADD INDEX idx_posts_channel_status_emotion (channel, status, emotion_count, id);
+
+-- community_outbox: 커뮤니티 도메인 이벤트 아웃박스 (OutboxEventRecorder가 쓰기 트랜잭션 안에서 기록, OutboxRelayService가 전달 후 삭제)
+-- 릴레이는 ORDER BY id LIMIT n 으로 읽고 id IN (...) 으로 지우므로 기본 키 (id) 가 릴레이 인덱스다.
+-- id는 애플리케이션이 채번하는 Snowflake(시간순)라 AUTO_INCREMENT 를 쓰지 않는다.
+CREATE TABLE community_outbox (
+    id           BIGINT       NOT NULL,
+    event_type   VARCHAR(100) NOT NULL,
+    aggregate_id BIGINT       NOT NULL,
+    payload      TEXT         NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    updated_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- post_image: 피드 페이지의 게시글별 이미지 일괄 조회 (post_id IN (...) AND status IN (...))
+ALTER TABLE post_image ADD INDEX idx_post_image_post_id_status (post_id, status);
+
+-- post_image: 피드/상세용 파생 이미지 (ImageDerivativeService가 PostImageBatchRepository.updateDerivatives로 기록)
+-- 생성 전이거나 실패한 이미지는 null로 남고 조회 시 원본을 쓴다.
+ALTER TABLE post_image
+    ADD COLUMN feed_url      VARCHAR(255) NULL,
+    ADD COLUMN feed_width    INT          NULL,
+    ADD COLUMN feed_height   INT          NULL,
+    ADD COLUMN detail_url    VARCHAR(255) NULL,
+    ADD COLUMN detail_width  INT          NULL,
+    ADD COLUMN detail_height INT          NULL;
+
+-- comment: 댓글 트리 keyset 조회 (CommentJpaRepository의 루트 댓글 페이지, 부모별 답글 조회/개수)
+ALTER TABLE comment
+    ADD INDEX idx_comment_post_depth_id (post_id, depth, id),
+    ADD INDEX idx_comment_parent_id (parent_id, id);
+
+-- post_hashtag: 해시태그 피드 (PostHashtagRepositoryCustomImpl이 태그별로 post_id 역순 keyset 조회)와 게시글별 태그 조회/삭제
+ALTER TABLE post_hashtag
+    ADD INDEX idx_post_hashtag_hashtag_post (hashtag_id, post_id),
+    ADD INDEX idx_post_hashtag_post_id (post_id);
+
+-- comment_like: 사용자별 좋아요 여부 일괄 조회 (user_id = ? AND comment_id IN (...))
+ALTER TABLE comment_like ADD INDEX idx_comment_like_user_comment (user_id, comment_id);
+
+-- comment_like: 카운터 정합성 보정의 댓글 id 구간별 좋아요 재집계 (CounterReconciliationRepository)
+ALTER TABLE comment_like ADD INDEX idx_comment_like_comment_user (comment_id, user_id);
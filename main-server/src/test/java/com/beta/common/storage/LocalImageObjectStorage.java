@@ -0,0 +1,100 @@
+package com.beta.common.storage;
+
+import com.beta.common.id.IdGenerators;
+import com.beta.infra.community.gcs.ImageObjectStorage;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 버킷 없이 직접 업로드/파생 이미지 흐름을 검증하기 위한 메모리 저장소 (test 프로필)
+ * 클라이언트의 PUT 업로드는 put()으로 대신한다.
+ * 테스트에서 GcsStorageClient를 mock으로 바꿔도 이 구현이 선택되도록 @Primary로 둔다.
+ */
+@Primary
+@Component
+@Profile("test")
+public class LocalImageObjectStorage implements ImageObjectStorage {
+
+    private static final String BASE_URL = "http://localhost/local-storage/";
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+    @Override
+    public String newObjectName(String originalFileName, Long userId) {
+        String extension = "";
+        if (originalFileName != null && originalFileName.contains(".")) {
+            extension = originalFileName.substring(originalFileName.lastIndexOf("."));
+        }
+        String today = LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE);
+        return today + "/BETA-image-" + IdGenerators.nextId() + "-" + userId + extension;
+    }
+
+    @Override
+    public String publicUrl(String objectName) {
+        return BASE_URL + objectName;
+    }
+
+    @Override
+    public SignedUpload createUploadUrl(String objectName, String contentType, long maxSize, Duration ttl) {
+        return new SignedUpload(
+                BASE_URL + objectName + "?expires=" + Instant.now().plus(ttl).getEpochSecond(),
+                Map.of("Content-Type", contentType, "x-goog-content-length-range", "0," + maxSize)
+        );
+    }
+
+    @Override
+    public Optional<Long> findSize(String objectName) {
+        return Optional.ofNullable(objects.get(objectName)).map(bytes -> (long) bytes.length);
+    }
+
+    @Override
+    public byte[] readHeader(String objectName, int length) {
+        byte[] bytes = objects.getOrDefault(objectName, new byte[0]);
+        return Arrays.copyOf(bytes, Math.min(length, bytes.length));
+    }
+
+    @Override
+    public InputStream openStream(String objectName) throws IOException {
+        byte[] bytes = objects.get(objectName);
+        if (bytes == null) {
+            throw new FileNotFoundException(objectName);
+        }
+        return new ByteArrayInputStream(bytes);
+    }
+
+    @Override
+    public String write(String objectName, String contentType, byte[] bytes) {
+        put(objectName, bytes);
+        return publicUrl(objectName);
+    }
+
+    @Override
+    public boolean delete(String objectName) {
+        return objects.remove(objectName) != null;
+    }
+
+    /**
+     * 클라이언트가 서명된 URL로 업로드한 것처럼 객체를 저장
+     */
+    public void put(String objectName, byte[] bytes) {
+        objects.put(objectName, bytes.clone());
+    }
+
+    public void clear() {
+        objects.clear();
+    }
+}
@@ -0,0 +1,158 @@
+package com.beta.integration.common;
+
+import com.beta.common.docker.TestContainer;
+import com.beta.common.fixture.TeamFixture;
+import com.beta.common.fixture.UserFixture;
+import com.beta.common.security.JwtTokenProvider;
+import com.beta.infra.auth.entity.UserEntity;
+import com.beta.infra.auth.repository.UserJpaRepository;
+import com.beta.infra.common.entity.BaseballTeamEntity;
+import com.beta.infra.common.repository.BaseballTeamRepository;
+import com.beta.infra.community.gcs.GcsStorageClient;
+import com.beta.infra.community.repository.PostJpaRepository;
+import com.beta.presentation.community.request.PostCreateRequest;
+import com.beta.presentation.community.response.PostUploadResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 복제본은 SELECT 권한만 있는 별도 계정으로 같은 MySQL에 붙여, 어느 풀이 커넥션을 줬는지 CURRENT_USER()로 구분한다.
+ * (복제본 풀로 쓰기가 가면 권한 오류로 실패한다)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.replica.enabled=true")
+@DisplayName("원본/복제본 라우팅 통합 테스트")
+class ReplicationRoutingIntegrationTest extends TestContainer {
+
+    private static final String REPLICA_USER = "replica_reader";
+    private static final String REPLICA_PASSWORD = "replica";
+    private static final String CURRENT_USER_SQL = "SELECT SUBSTRING_INDEX(CURRENT_USER(), '@', 1)";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private BaseballTeamRepository baseballTeamRepository;
+
+    @Autowired
+    private PostJpaRepository postJpaRepository;
+
+    @MockitoBean
+    private GcsStorageClient gcsStorageClient;
+
+    private UserEntity testUser;
+    private BaseballTeamEntity testTeam;
+
+    @DynamicPropertySource
+    static void configureReplica(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(mysql.getJdbcUrl(), "root", mysql.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE USER IF NOT EXISTS '" + REPLICA_USER + "'@'%' IDENTIFIED BY '" + REPLICA_PASSWORD + "'");
+            statement.execute("GRANT SELECT ON " + mysql.getDatabaseName() + ".* TO '" + REPLICA_USER + "'@'%'");
+        }
+        registry.add("spring.datasource.replica.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.replica.username", () -> REPLICA_USER);
+        registry.add("spring.datasource.replica.password", () -> REPLICA_PASSWORD);
+        registry.add("spring.datasource.replica.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+    }
+
+    @BeforeEach
+    void setUp() {
+        testTeam = TeamFixture.createDoosan();
+        baseballTeamRepository.save(testTeam);
+        testUser = UserFixture.createActiveUser("replica_social_id", "복제본유저", testTeam);
+        userJpaRepository.save(testUser);
+    }
+
+    @AfterEach
+    void tearDown() {
+        postJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+        baseballTeamRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("open-in-view가 꺼져 있어 요청이 첫 커넥션을 끝까지 잡고 있지 않는다")
+    void should_disableOpenInView() {
+        assertThat(applicationContext.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션 다음의 쓰기 트랜잭션은 원본 커넥션을 사용한다")
+    void should_routeWriteToPrimary_when_readOnlyTransactionRanFirst() {
+        // given
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+
+        // when
+        String readUser = readOnly.execute(status -> jdbcTemplate.queryForObject(CURRENT_USER_SQL, String.class));
+        String writeUser = write.execute(status -> {
+            jdbcTemplate.update("UPDATE users SET updated_at = NOW() WHERE id = ?", testUser.getId());
+            return jdbcTemplate.queryForObject(CURRENT_USER_SQL, String.class);
+        });
+
+        // then
+        assertThat(readUser).isEqualTo(REPLICA_USER);
+        assertThat(writeUser).isEqualTo(mysql.getUsername());
+    }
+
+    @Test
+    @DisplayName("readOnly 사용자 조회 후 게시글을 저장하는 요청이 원본에 기록된다")
+    void should_writeToPrimary_when_requestReadsBeforeWriting() {
+        // given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtTokenProvider.generateAccessToken(testUser.getId(), testTeam.getCode(), "USER"));
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        PostCreateRequest request = new PostCreateRequest("복제본 라우팅 테스트", true, null, List.of());
+
+        // when
+        ResponseEntity<PostUploadResponse> response = restTemplate.postForEntity(
+                "/api/v1/posts", new HttpEntity<>(request, headers), PostUploadResponse.class);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(postJpaRepository.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,81 @@
+package com.beta.integration.community;
+
+import com.beta.common.docker.TestContainer;
+import com.beta.common.fixture.PostFixture;
+import com.beta.infra.community.entity.PostEntity;
+import com.beta.infra.community.gcs.GcsStorageClient;
+import com.beta.infra.community.repository.CounterBatchRepository;
+import com.beta.infra.community.repository.PostJpaRepository;
+import com.beta.infra.community.repository.dao.PostCounterDelta;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("CounterBatchRepository 통합 테스트")
+class CounterBatchRepositoryIntegrationTest extends TestContainer {
+
+    @Autowired private CounterBatchRepository counterBatchRepository;
+    @Autowired private PostJpaRepository postJpaRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @MockitoBean private GcsStorageClient gcsStorageClient;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM post_counter_shard");
+        postJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("여러 게시글의 카운터 변화량을 한 번에 반영한다")
+    void should_applyDeltas_when_updatePostCounters() {
+        // given
+        PostEntity first = postJpaRepository.save(PostFixture.createPost(1L, "첫 번째", PostEntity.Channel.ALL));
+        PostEntity second = postJpaRepository.save(PostFixture.createPost(1L, "두 번째", PostEntity.Channel.ALL));
+
+        // when
+        counterBatchRepository.updatePostCounters(Map.of(
+                first.getId(), new PostCounterDelta(2, 3, 0, 1, 0),
+                second.getId(), new PostCounterDelta(0, 0, 1, 0, 0)
+        ));
+
+        // then
+        PostEntity updated = postJpaRepository.findById(first.getId()).orElseThrow();
+        assertThat(updated.getCommentCount()).isEqualTo(2);
+        assertThat(updated.getLikeCount()).isEqualTo(3);
+        assertThat(updated.getEmotionCount()).isEqualTo(4);
+        assertThat(postJpaRepository.findById(second.getId()).orElseThrow().getSadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("분산 카운터에 쌓인 값을 게시글 행에 합산하고 슬롯을 비운다")
+    void should_foldShardsIntoPost_when_compactPostCounterShards() {
+        // given
+        PostEntity post = postJpaRepository.save(PostFixture.createPost(1L, "인기글", PostEntity.Channel.DOOSAN));
+        for (int i = 0; i < 10; i++) {
+            counterBatchRepository.incrementPostCounterShards(
+                    Map.of(post.getId(), new PostCounterDelta(1, 0, 0, 0, 2)), 4);
+        }
+
+        // when
+        List<Long> compacted = counterBatchRepository.compactPostCounterShards(100);
+
+        // then
+        assertThat(compacted).containsExactly(post.getId());
+        PostEntity updated = postJpaRepository.findById(post.getId()).orElseThrow();
+        assertThat(updated.getCommentCount()).isEqualTo(10);
+        assertThat(updated.getHypeCount()).isEqualTo(20);
+        assertThat(updated.getEmotionCount()).isEqualTo(20);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_counter_shard", Long.class)).isZero();
+        assertThat(counterBatchRepository.compactPostCounterShards(100)).isEmpty();
+    }
+}
@@ -0,0 +1,73 @@
+package com.beta.integration.community;
+
+import com.beta.common.docker.TestContainer;
+import com.beta.common.fixture.PostFixture;
+import com.beta.infra.community.entity.CommentEntity;
+import com.beta.infra.community.entity.EmotionEntity;
+import com.beta.infra.community.entity.PostEntity;
+import com.beta.infra.community.gcs.GcsStorageClient;
+import com.beta.infra.community.repository.CommentJpaRepository;
+import com.beta.infra.community.repository.CounterBatchRepository;
+import com.beta.infra.community.repository.CounterReconciliationRepository;
+import com.beta.infra.community.repository.EmotionJpaRepository;
+import com.beta.infra.community.repository.PostJpaRepository;
+import com.beta.infra.community.repository.dao.PostCounterDelta;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("CounterReconciliationRepository 통합 테스트")
+class CounterReconciliationRepositoryIntegrationTest extends TestContainer {
+
+    @Autowired private CounterReconciliationRepository counterReconciliationRepository;
+    @Autowired private CounterBatchRepository counterBatchRepository;
+    @Autowired private PostJpaRepository postJpaRepository;
+    @Autowired private CommentJpaRepository commentJpaRepository;
+    @Autowired private EmotionJpaRepository emotionJpaRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @MockitoBean private GcsStorageClient gcsStorageClient;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM post_counter_shard");
+        emotionJpaRepository.deleteAll();
+        commentJpaRepository.deleteAll();
+        postJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("저장된 카운터는 분산 카운터 슬롯까지 합산하고, 실제 값은 삭제되지 않은 댓글과 반응을 센다")
+    void should_returnStoredAndActualCounters_when_postChunkScanned() {
+        // given
+        PostEntity post = postJpaRepository.save(PostFixture.createPost(1L, "게시글", PostEntity.Channel.ALL));
+        counterBatchRepository.incrementPostCounterShards(Map.of(post.getId(), new PostCounterDelta(1, 2, 0, 0, 0)), 4);
+
+        CommentEntity active = CommentEntity.builder().postId(post.getId()).userId(1L).content("댓글").depth(0).build();
+        CommentEntity deleted = CommentEntity.builder().postId(post.getId()).userId(2L).content("삭제").depth(0).build();
+        deleted.softDelete();
+        commentJpaRepository.saveAll(List.of(active, deleted));
+        emotionJpaRepository.saveAll(List.of(
+                EmotionEntity.builder().postId(post.getId()).userId(1L).emotionType(EmotionEntity.EmotionType.LIKE).build(),
+                EmotionEntity.builder().postId(post.getId()).userId(2L).emotionType(EmotionEntity.EmotionType.HYPE).build()
+        ));
+
+        // when
+        Map<Long, PostCounterDelta> stored = counterReconciliationRepository.findStoredPostCounters(0L, 10);
+        Map<Long, PostCounterDelta> actual = counterReconciliationRepository.countActualPostCounters(post.getId(), post.getId());
+
+        // then
+        assertThat(stored).containsEntry(post.getId(), new PostCounterDelta(1, 2, 0, 0, 0));
+        assertThat(actual).containsEntry(post.getId(), new PostCounterDelta(1, 1, 0, 0, 1));
+        assertThat(counterReconciliationRepository.findStoredPostCounters(post.getId(), 10)).isEmpty();
+    }
+}
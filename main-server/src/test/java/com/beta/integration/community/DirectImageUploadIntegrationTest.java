@@ -0,0 +1,181 @@
+package com.beta.integration.community;
+
+import com.beta.application.community.dto.DirectUploadDto;
+import com.beta.application.community.dto.ImageDto;
+import com.beta.application.community.service.DirectImageUploadService;
+import com.beta.common.docker.TestContainer;
+import com.beta.common.exception.image.ImageNotUploadedException;
+import com.beta.common.exception.image.InvalidImageTypeException;
+import com.beta.common.storage.LocalImageObjectStorage;
+import com.beta.infra.community.entity.PostImageEntity;
+import com.beta.infra.community.entity.Status;
+import com.beta.infra.community.gcs.GcsStorageClient;
+import com.beta.infra.community.repository.PostImageBatchRepository;
+import com.beta.infra.community.repository.PostImageJpaRepository;
+import com.beta.presentation.community.request.DirectUploadRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("직접 업로드(서명된 URL) 통합 테스트")
+class DirectImageUploadIntegrationTest extends TestContainer {
+
+    private static final Long USER_ID = 1L;
+    private static final byte[] JPEG_BYTES = {
+            (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0x00, 0x10, 0x4A, 0x46, 0x49, 0x46
+    };
+    private static final byte[] PNG_BYTES = {
+            (byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A, 0x00, 0x00
+    };
+
+    @Autowired
+    private DirectImageUploadService directImageUploadService;
+
+    @Autowired
+    private LocalImageObjectStorage localImageObjectStorage;
+
+    @Autowired
+    private PostImageJpaRepository postImageJpaRepository;
+
+    @Autowired
+    private PostImageBatchRepository postImageBatchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private GcsStorageClient gcsStorageClient;
+
+    @AfterEach
+    void tearDown() {
+        postImageJpaRepository.deleteAll();
+        localImageObjectStorage.clear();
+    }
+
+    @Test
+    @DisplayName("예약 시 AWAITING_UPLOAD 행과 서명된 업로드 URL을 만든다")
+    void should_createAwaitingRowsAndUploadUrls_when_reserve() {
+        // when
+        List<DirectUploadDto> reserved = directImageUploadService.reserveUploads(USER_ID, List.of(jpeg("a.jpg"), jpeg("b.jpg")));
+
+        // then
+        assertThat(reserved).hasSize(2);
+        assertThat(reserved).allSatisfy(dto -> {
+            assertThat(dto.getUploadUrl()).contains("expires=");
+            assertThat(dto.getUploadHeaders())
+                    .containsEntry("Content-Type", "image/jpeg")
+                    .containsEntry("x-goog-content-length-range", "0," + JPEG_BYTES.length);
+        });
+        assertThat(postImageJpaRepository.findAll())
+                .hasSize(2)
+                .allMatch(image -> image.getStatus() == Status.AWAITING_UPLOAD && image.getPostId() == null);
+    }
+
+    @Test
+    @DisplayName("업로드된 객체의 크기와 매직 바이트가 맞으면 PENDING으로 전환하고 실제 크기를 기록한다")
+    void should_markPending_when_uploadedObjectIsValid() {
+        // given
+        DirectUploadDto reserved = directImageUploadService.reserveUploads(USER_ID, List.of(jpeg("a.jpg"))).getFirst();
+        localImageObjectStorage.put(objectNameOf(reserved.getPostImageId()), JPEG_BYTES);
+
+        // when
+        List<ImageDto> finalized = directImageUploadService.finalizeUploads(USER_ID, List.of(reserved.getPostImageId()));
+
+        // then
+        assertThat(finalized).extracting(ImageDto::getPostImageId).containsExactly(reserved.getPostImageId());
+        PostImageEntity image = postImageJpaRepository.findById(reserved.getPostImageId()).orElseThrow();
+        assertThat(image.getStatus()).isEqualTo(Status.PENDING);
+        assertThat(image.getFileSize()).isEqualTo(JPEG_BYTES.length);
+    }
+
+    @Test
+    @DisplayName("객체가 아직 올라오지 않았으면 ImageNotUploadedException이 발생하고 상태는 그대로다")
+    void should_throwImageNotUploadedException_when_objectMissing() {
+        // given
+        DirectUploadDto reserved = directImageUploadService.reserveUploads(USER_ID, List.of(jpeg("a.jpg"))).getFirst();
+
+        // when & then
+        assertThatThrownBy(() -> directImageUploadService.finalizeUploads(USER_ID, List.of(reserved.getPostImageId())))
+                .isInstanceOf(ImageNotUploadedException.class);
+        assertThat(postImageJpaRepository.findById(reserved.getPostImageId()).orElseThrow().getStatus())
+                .isEqualTo(Status.AWAITING_UPLOAD);
+    }
+
+    @Test
+    @DisplayName("예약한 형식과 다른 파일이 올라오면 객체를 지우고 InvalidImageTypeException이 발생한다")
+    void should_deleteObjectAndThrow_when_uploadedTypeMismatch() {
+        // given
+        DirectUploadDto reserved = directImageUploadService.reserveUploads(USER_ID, List.of(jpeg("a.jpg"))).getFirst();
+        String objectName = objectNameOf(reserved.getPostImageId());
+        localImageObjectStorage.put(objectName, PNG_BYTES);
+
+        // when & then
+        assertThatThrownBy(() -> directImageUploadService.finalizeUploads(USER_ID, List.of(reserved.getPostImageId())))
+                .isInstanceOf(InvalidImageTypeException.class);
+        assertThat(localImageObjectStorage.findSize(objectName)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("업로드 확인 전 이미지는 게시글에 연결되지 않는다")
+    void should_notPublish_when_imageAwaitingUpload() {
+        // given
+        DirectUploadDto reserved = directImageUploadService.reserveUploads(USER_ID, List.of(jpeg("a.jpg"))).getFirst();
+
+        // when
+        postImageBatchRepository.publishImages(100L, Map.of(reserved.getPostImageId(), 1));
+
+        // then
+        PostImageEntity image = postImageJpaRepository.findById(reserved.getPostImageId()).orElseThrow();
+        assertThat(image.getStatus()).isEqualTo(Status.AWAITING_UPLOAD);
+        assertThat(image.getPostId()).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 예약은 행과 업로드된 객체를 지우고, 확인된 이미지와 만료 전 예약은 남긴다")
+    void should_sweepOnlyExpiredReservations() {
+        // given
+        List<DirectUploadDto> reserved = directImageUploadService.reserveUploads(
+                USER_ID, List.of(jpeg("expired.jpg"), jpeg("finalized.jpg"), jpeg("fresh.jpg")));
+        Long expiredId = reserved.get(0).getPostImageId();
+        Long finalizedId = reserved.get(1).getPostImageId();
+        Long freshId = reserved.get(2).getPostImageId();
+        String expiredObject = objectNameOf(expiredId);
+        localImageObjectStorage.put(expiredObject, JPEG_BYTES);
+        localImageObjectStorage.put(objectNameOf(finalizedId), JPEG_BYTES);
+        directImageUploadService.finalizeUploads(USER_ID, List.of(finalizedId));
+        jdbcTemplate.update("UPDATE post_image SET created_at = NOW() - INTERVAL 2 HOUR WHERE id IN (?, ?)",
+                expiredId, finalizedId);
+
+        // when
+        directImageUploadService.sweepExpiredReservations();
+
+        // then
+        assertThat(postImageJpaRepository.findById(expiredId)).isEmpty();
+        assertThat(localImageObjectStorage.findSize(expiredObject)).isEmpty();
+        assertThat(postImageJpaRepository.findById(finalizedId).orElseThrow().getStatus()).isEqualTo(Status.PENDING);
+        assertThat(postImageJpaRepository.findById(freshId).orElseThrow().getStatus()).isEqualTo(Status.AWAITING_UPLOAD);
+    }
+
+    private DirectUploadRequest.UploadImage jpeg(String originName) {
+        return DirectUploadRequest.UploadImage.builder()
+                .originName(originName)
+                .contentType("image/jpeg")
+                .fileSize((long) JPEG_BYTES.length)
+                .build();
+    }
+
+    private String objectNameOf(Long imageId) {
+        return postImageJpaRepository.findById(imageId).orElseThrow().getNewName();
+    }
+}
@@ -8,6 +8,7 @@ import com.beta.infra.auth.entity.UserEntity;
 import com.beta.infra.auth.repository.UserJpaRepository;
 import com.beta.infra.common.entity.BaseballTeamEntity;
 import com.beta.infra.common.repository.BaseballTeamRepository;
+import com.beta.infra.community.cache.HashtagIdCache;
 import com.beta.infra.community.entity.HashtagEntity;
 import com.beta.infra.community.gcs.GcsStorageClient;
 import com.beta.infra.community.repository.HashtagJpaRepository;
@@ -40,6 +41,7 @@ class HashtagConcurrencyIntegrationTest extends TestContainer {
     @Autowired private PostJpaRepository postJpaRepository;
     @Autowired private UserJpaRepository userJpaRepository;
     @Autowired private BaseballTeamRepository baseballTeamRepository;
+    @Autowired private HashtagIdCache hashtagIdCache;
     @MockitoBean private GcsStorageClient gcsStorageClient;
 
     private UserEntity testUser;
@@ -54,6 +56,7 @@ class HashtagConcurrencyIntegrationTest extends TestContainer {
     void tearDown() {
         postJpaRepository.deleteAll();
         hashtagJpaRepository.deleteAll();
+        hashtagIdCache.invalidateAll(); // 삭제한 태그의 id가 다음 테스트에 남지 않도록
         userJpaRepository.deleteAll();
         baseballTeamRepository.deleteAll();
     }
@@ -0,0 +1,68 @@
+package com.beta.integration.community;
+
+import com.beta.application.community.event.PostChangedEvent;
+import com.beta.common.docker.TestContainer;
+import com.beta.infra.community.gcs.GcsStorageClient;
+import com.beta.infra.community.repository.OutboxEventRepository;
+import com.beta.infra.community.repository.dao.OutboxEventRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 릴레이가 행을 가져가지 않도록 주기를 늘려 기록 결과만 확인한다.
+ */
+@SpringBootTest(properties = "community.outbox.relay-interval-ms=3600000")
+@DisplayName("아웃박스 기록 통합 테스트")
+class OutboxEventRecorderIntegrationTest extends TestContainer {
+
+    @Autowired private ApplicationEventPublisher eventPublisher;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private OutboxEventRepository outboxEventRepository;
+    @MockitoBean private GcsStorageClient gcsStorageClient;
+
+    @AfterEach
+    void tearDown() {
+        List<OutboxEventRow> rows = outboxEventRepository.findOldest(100);
+        if (!rows.isEmpty()) {
+            outboxEventRepository.deleteAllByIds(rows.stream().map(OutboxEventRow::id).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 커밋되면 발행한 이벤트가 아웃박스에 남는다")
+    void should_recordEvent_when_transactionCommits() {
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                eventPublisher.publishEvent(new PostChangedEvent(1L)));
+
+        // then
+        assertThat(outboxEventRepository.findOldest(100))
+                .extracting(OutboxEventRow::aggregateId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 발행한 이벤트가 아웃박스에 남지 않는다")
+    void should_leaveNoEvent_when_transactionRollsBack() {
+        // when
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new PostChangedEvent(1L));
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(outboxEventRepository.findOldest(100)).isEmpty();
+    }
+}
@@ -0,0 +1,137 @@
+package com.beta.integration.community;
+
+import com.beta.common.docker.TestContainer;
+import com.beta.common.fixture.PostFixture;
+import com.beta.infra.community.entity.HashtagEntity;
+import com.beta.infra.community.entity.PostEntity;
+import com.beta.infra.community.entity.PostHashtagEntity;
+import com.beta.infra.community.gcs.GcsStorageClient;
+import com.beta.infra.community.repository.HashtagJpaRepository;
+import com.beta.infra.community.repository.HashtagMatchType;
+import com.beta.infra.community.repository.PostHashtagRepository;
+import com.beta.infra.community.repository.PostJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("PostHashtagRepository 해시태그 필터 조회 통합 테스트")
+class PostHashtagRepositoryIntegrationTest extends TestContainer {
+
+    @Autowired private PostHashtagRepository postHashtagRepository;
+    @Autowired private HashtagJpaRepository hashtagJpaRepository;
+    @Autowired private PostJpaRepository postJpaRepository;
+    @MockitoBean private GcsStorageClient gcsStorageClient;
+
+    @AfterEach
+    void tearDown() {
+        postHashtagRepository.deleteAll();
+        hashtagJpaRepository.deleteAll();
+        postJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("AND 조건은 모든 태그가 달린 ACTIVE 게시글만 최신순으로 커서를 이어가며 조회한다")
+    void should_pageIntersection_when_findPostIdsByHashtagsWithAnd() {
+        // given
+        List<HashtagEntity> hashtags = hashtagJpaRepository.saveAll(PostFixture.createHashtags("야구", "두산"));
+        Long baseball = hashtags.get(0).getId();
+        Long doosan = hashtags.get(1).getId();
+        PostEntity p1 = savePost(baseball);
+        PostEntity p2 = savePost(baseball, doosan);
+        PostEntity p3 = savePost(doosan);
+        PostEntity p4 = savePost(baseball, doosan);
+        PostEntity deleted = savePost(baseball, doosan);
+        deleted.softDelete();
+        postJpaRepository.save(deleted);
+        PostEntity p5 = savePost(baseball, doosan);
+
+        List<Long> tags = List.of(doosan, baseball);
+
+        // when
+        List<Long> firstPage = postHashtagRepository.findPostIdsByHashtags(tags, HashtagMatchType.AND, null, 2);
+        List<Long> secondPage = postHashtagRepository.findPostIdsByHashtags(tags, HashtagMatchType.AND, firstPage.getLast(), 2);
+        List<Long> lastPage = postHashtagRepository.findPostIdsByHashtags(tags, HashtagMatchType.AND, secondPage.getLast(), 2);
+
+        // then
+        assertThat(firstPage).containsExactly(p5.getId(), p4.getId());
+        assertThat(secondPage).containsExactly(p2.getId());
+        assertThat(lastPage).isEmpty();
+        assertThat(List.of(p1.getId(), p3.getId())).doesNotContainAnyElementsOf(firstPage);
+    }
+
+    @Test
+    @DisplayName("AND 조건은 첫 태그의 한 번 읽기 범위에 교집합이 없으면 다음 범위를 이어서 읽는다")
+    void should_scanNextBatch_when_findPostIdsByHashtagsWithSparseIntersection() {
+        // given
+        List<HashtagEntity> hashtags = hashtagJpaRepository.saveAll(PostFixture.createHashtags("야구", "두산"));
+        Long baseball = hashtags.get(0).getId();
+        Long doosan = hashtags.get(1).getId();
+        PostEntity oldest = savePost(baseball, doosan);
+        List<PostEntity> recent = postJpaRepository.saveAll(createPosts(250));
+        postHashtagRepository.saveAll(recent.stream()
+                .map(post -> PostHashtagEntity.builder().postId(post.getId()).hashtagId(baseball).build())
+                .toList());
+
+        // when
+        List<Long> result = postHashtagRepository.findPostIdsByHashtags(
+                List.of(baseball, doosan), HashtagMatchType.AND, null, 10);
+
+        // then
+        assertThat(result).containsExactly(oldest.getId());
+    }
+
+    @Test
+    @DisplayName("OR 조건은 하나 이상의 태그가 달린 ACTIVE 게시글을 중복 없이 최신순으로 커서를 이어가며 조회한다")
+    void should_pageUnion_when_findPostIdsByHashtagsWithOr() {
+        // given
+        List<HashtagEntity> hashtags = hashtagJpaRepository.saveAll(PostFixture.createHashtags("야구", "두산", "기아"));
+        Long baseball = hashtags.get(0).getId();
+        Long doosan = hashtags.get(1).getId();
+        Long kia = hashtags.get(2).getId();
+        PostEntity p1 = savePost(baseball);
+        PostEntity p2 = savePost(doosan);
+        savePost(kia);
+        PostEntity p4 = savePost(baseball, doosan);
+        PostEntity deleted = savePost(doosan);
+        deleted.softDelete();
+        postJpaRepository.save(deleted);
+        PostEntity p5 = savePost(doosan);
+
+        List<Long> tags = List.of(baseball, doosan);
+
+        // when
+        List<Long> firstPage = postHashtagRepository.findPostIdsByHashtags(tags, HashtagMatchType.OR, null, 2);
+        List<Long> secondPage = postHashtagRepository.findPostIdsByHashtags(tags, HashtagMatchType.OR, firstPage.getLast(), 2);
+        List<Long> lastPage = postHashtagRepository.findPostIdsByHashtags(tags, HashtagMatchType.OR, secondPage.getLast(), 2);
+
+        // then
+        assertThat(firstPage).containsExactly(p5.getId(), p4.getId());
+        assertThat(secondPage).containsExactly(p2.getId(), p1.getId());
+        assertThat(lastPage).isEmpty();
+    }
+
+    private PostEntity savePost(Long... hashtagIds) {
+        PostEntity post = postJpaRepository.save(PostFixture.createSimplePost(1L));
+        for (Long hashtagId : hashtagIds) {
+            postHashtagRepository.save(PostHashtagEntity.builder().postId(post.getId()).hashtagId(hashtagId).build());
+        }
+        return post;
+    }
+
+    private List<PostEntity> createPosts(int count) {
+        List<PostEntity> posts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            posts.add(PostFixture.createSimplePost(1L));
+        }
+        return posts;
+    }
+}
@@ -5,6 +5,7 @@ import com.beta.application.community.dto.ImageDto;
 import com.beta.common.docker.TestContainer;
 import com.beta.common.exception.idempotency.IdempotencyKeyException;
 import com.beta.common.exception.image.ImageNotFoundException;
+import com.beta.common.exception.image.ImageOrderMismatchException;
 import com.beta.common.exception.post.PostAccessDeniedException;
 import com.beta.common.exception.post.PostNotFoundException;
 import com.beta.common.fixture.PostFixture;
@@ -21,6 +22,7 @@ import com.beta.infra.community.gcs.GcsStorageClient;
 import com.beta.infra.community.repository.PostImageJpaRepository;
 import com.beta.infra.community.repository.PostJpaRepository;
 import com.beta.presentation.community.request.ImageDeleteRequest;
+import com.beta.presentation.community.request.ImageOrderUpdateRequest;
 import com.beta.presentation.community.response.ImageDeleteResponse;
 import com.beta.presentation.community.response.PostImagesResponse;
 import org.junit.jupiter.api.AfterEach;
@@ -252,4 +254,61 @@ class PostImageApplicationServiceIntegrationTest extends TestContainer {
                 testPost.getId(), request, testUser.getId()
         )).isInstanceOf(ImageNotFoundException.class);
     }
+
+    @Test
+    @DisplayName("이미지 순서 변경 시 요청한 순서대로 sort를 1부터 다시 매긴다")
+    void should_reorderActiveImages_when_reorderImages() {
+        // given
+        PostImageEntity image1 = createActiveImage(1);
+        PostImageEntity image2 = createActiveImage(2);
+        PostImageEntity image3 = createActiveImage(3);
+        postImageJpaRepository.saveAll(List.of(image1, image2, image3));
+
+        ImageOrderUpdateRequest request = new ImageOrderUpdateRequest(
+                List.of(image3.getId(), image1.getId(), image2.getId())
+        );
+
+        // when
+        List<PostImagesResponse> result = postImageApplicationService.reorderImages(
+                testPost.getId(), request, testUser.getId()
+        );
+
+        // then
+        assertThat(result).extracting(PostImagesResponse::getImageId)
+                .containsExactly(image3.getId(), image1.getId(), image2.getId());
+        assertThat(postImageJpaRepository.findById(image3.getId()).orElseThrow().getSort()).isEqualTo(1);
+        assertThat(postImageJpaRepository.findById(image1.getId()).orElseThrow().getSort()).isEqualTo(2);
+        assertThat(postImageJpaRepository.findById(image2.getId()).orElseThrow().getSort()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("게시글의 ACTIVE 이미지 일부만 순서 변경 요청하면 ImageOrderMismatchException을 발생시킨다")
+    void should_throwImageOrderMismatchException_when_reorderPartialImages() {
+        // given
+        PostImageEntity image1 = createActiveImage(1);
+        PostImageEntity image2 = createActiveImage(2);
+        postImageJpaRepository.saveAll(List.of(image1, image2));
+
+        ImageOrderUpdateRequest request = new ImageOrderUpdateRequest(List.of(image2.getId()));
+
+        // when & then
+        assertThatThrownBy(() -> postImageApplicationService.reorderImages(
+                testPost.getId(), request, testUser.getId()
+        )).isInstanceOf(ImageOrderMismatchException.class);
+        assertThat(postImageJpaRepository.findById(image2.getId()).orElseThrow().getSort()).isEqualTo(2);
+    }
+
+    private PostImageEntity createActiveImage(int sort) {
+        return PostImageEntity.builder()
+                .postId(testPost.getId())
+                .userId(testUser.getId())
+                .imgUrl("https://storage.googleapis.com/test/image" + sort + ".jpg")
+                .originName("image" + sort + ".jpg")
+                .newName("unique-image" + sort + ".jpg")
+                .fileSize(1024L)
+                .mimeType("image/jpeg")
+                .sort(sort)
+                .status(Status.ACTIVE)
+                .build();
+    }
 }
@@ -0,0 +1,115 @@
+package com.beta.integration.community;
+
+import com.beta.common.docker.TestContainer;
+import com.beta.infra.community.entity.PostEntity;
+import com.beta.infra.community.gcs.GcsStorageClient;
+import com.beta.infra.community.redis.PostRankingRedisRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("인기 랭킹 Redis 통합 테스트")
+class PostRankingRedisRepositoryIntegrationTest extends TestContainer {
+
+    private static final PostEntity.Channel CHANNEL = PostEntity.Channel.LG;
+    private static final long CREATED_AT = 1_700_000_000L;
+
+    @Autowired private PostRankingRedisRepository postRankingRedisRepository;
+    @Autowired private StringRedisTemplate stringRedisTemplate;
+    @MockitoBean private GcsStorageClient gcsStorageClient;
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(List.of(
+                "ranking:hot:" + CHANNEL.name(),
+                "ranking:hot:engagement:" + CHANNEL.name(),
+                "ranking:hot:loaded:" + CHANNEL.name(),
+                "ranking:hot:deleted:1",
+                "ranking:hot:applied:100",
+                "ranking:hot:applied:101"
+        ));
+    }
+
+    @Test
+    @DisplayName("같은 아웃박스 이벤트가 다시 전달되면 engagement를 한 번만 반영한다")
+    void should_applyOnce_when_sameEventRedelivered() {
+        // given
+        postRankingRedisRepository.addAll(CHANNEL, Map.of(), Map.of());
+
+        // when
+        postRankingRedisRepository.increment(CHANNEL, 1L, CREATED_AT, 10, 1, 100L);
+        postRankingRedisRepository.increment(CHANNEL, 1L, CREATED_AT, 10, 1, 100L);
+        postRankingRedisRepository.increment(CHANNEL, 1L, CREATED_AT, 10, 1, 101L);
+
+        // then
+        assertThat(engagement(1L)).isEqualTo("12");
+        assertThat(postRankingRedisRepository.findPostIds(CHANNEL, null, 10)).contains(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("이벤트 id 없이 바로 전달된 변경은 매번 반영한다")
+    void should_applyEveryTime_when_eventIdMissing() {
+        // given
+        postRankingRedisRepository.addAll(CHANNEL, Map.of(), Map.of());
+
+        // when
+        postRankingRedisRepository.increment(CHANNEL, 1L, CREATED_AT, 10, 1, null);
+        postRankingRedisRepository.increment(CHANNEL, 1L, CREATED_AT, 10, 1, null);
+
+        // then
+        assertThat(engagement(1L)).isEqualTo("12");
+    }
+
+    @Test
+    @DisplayName("랭킹이 적재되기 전의 변경은 반영하지 않아 일부 게시글만 담긴 랭킹을 만들지 않는다")
+    void should_skipIncrement_when_rankingNotLoaded() {
+        // when
+        postRankingRedisRepository.increment(CHANNEL, 1L, CREATED_AT, 10, 1, 100L);
+
+        // then
+        assertThat(stringRedisTemplate.hasKey("ranking:hot:" + CHANNEL.name())).isFalse();
+        assertThat(postRankingRedisRepository.findPostIds(CHANNEL, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("적재 후에는 적재한 게시글과 이후 변경된 게시글을 함께 점수순으로 조회한다")
+    void should_mergeIncrements_when_rankingLoaded() {
+        // given
+        postRankingRedisRepository.addAll(CHANNEL, Map.of(1L, 10L, 2L, 5L), Map.of(1L, CREATED_AT, 2L, CREATED_AT));
+
+        // when
+        postRankingRedisRepository.increment(CHANNEL, 3L, CREATED_AT, 100, 1, 100L);
+
+        // then
+        assertThat(postRankingRedisRepository.findPostIds(CHANNEL, null, 10)).contains(List.of(3L, 1L, 2L));
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 늦게 전달된 변경으로 랭킹에 다시 들어오지 않는다")
+    void should_notReAdd_when_incrementAfterRemove() {
+        // given
+        postRankingRedisRepository.addAll(CHANNEL, Map.of(1L, 10L, 2L, 5L), Map.of(1L, CREATED_AT, 2L, CREATED_AT));
+        postRankingRedisRepository.remove(CHANNEL, 1L);
+
+        // when
+        postRankingRedisRepository.increment(CHANNEL, 1L, CREATED_AT, 10, 1, 100L);
+
+        // then
+        assertThat(engagement(1L)).isNull();
+        assertThat(postRankingRedisRepository.findPostIds(CHANNEL, null, 10)).contains(List.of(2L));
+    }
+
+    private Object engagement(Long postId) {
+        return stringRedisTemplate.opsForHash().get("ranking:hot:engagement:" + CHANNEL.name(), String.valueOf(postId));
+    }
+}
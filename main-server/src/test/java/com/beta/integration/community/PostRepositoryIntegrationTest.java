@@ -0,0 +1,98 @@
+package com.beta.integration.community;
+
+import com.beta.common.docker.TestContainer;
+import com.beta.common.fixture.PostFixture;
+import com.beta.infra.community.entity.PostEntity;
+import com.beta.infra.community.entity.Status;
+import com.beta.infra.community.gcs.GcsStorageClient;
+import com.beta.infra.community.repository.PostImageJpaRepository;
+import com.beta.infra.community.repository.PostJpaRepository;
+import com.beta.infra.community.repository.dao.PostSearchRow;
+import com.beta.infra.community.repository.dao.PostWithImages;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("PostRepository 일괄 조회 통합 테스트")
+class PostRepositoryIntegrationTest extends TestContainer {
+
+    @Autowired private PostJpaRepository postJpaRepository;
+    @Autowired private PostImageJpaRepository postImageJpaRepository;
+    @MockitoBean private GcsStorageClient gcsStorageClient;
+
+    @AfterEach
+    void tearDown() {
+        postImageJpaRepository.deleteAll();
+        postJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("여러 게시글을 요청한 순서대로 이미지와 함께 조회하고 삭제된 게시글과 이미지는 제외한다")
+    void should_returnPostsInRequestedOrder_when_findPostsWithImages() {
+        // given
+        PostEntity first = postJpaRepository.save(PostFixture.createPost(1L, "첫 번째", PostEntity.Channel.ALL));
+        PostEntity second = postJpaRepository.save(PostFixture.createPost(1L, "두 번째", PostEntity.Channel.DOOSAN));
+        PostEntity deleted = PostFixture.createPost(1L, "삭제됨", PostEntity.Channel.ALL);
+        deleted.softDelete();
+        postJpaRepository.save(deleted);
+
+        postImageJpaRepository.saveAll(List.of(
+                PostFixture.createPostImage(first.getId(), 2),
+                PostFixture.createPostImage(first.getId(), 1),
+                PostFixture.createPostImageWithStatus(first.getId(), 3, Status.DELETED),
+                PostFixture.createPostImageWithStatus(second.getId(), 1, Status.MARKED_FOR_DELETION)
+        ));
+
+        // when
+        List<PostWithImages> result = postJpaRepository.findPostsWithImages(
+                List.of(second.getId(), deleted.getId(), first.getId(), second.getId()));
+
+        // then
+        assertThat(result).extracting(PostWithImages::getPostId)
+                .containsExactly(second.getId(), first.getId());
+        assertThat(result.get(0).getChannel()).isEqualTo("DOOSAN");
+        assertThat(result.get(0).getImages()).hasSize(1);
+        assertThat(result.get(1).getImages()).extracting(PostWithImages.Images::getSort)
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("빈 id 목록으로 조회 시 쿼리 없이 빈 목록을 반환한다")
+    void should_returnEmptyList_when_findPostsWithImagesWithEmptyIds() {
+        // when
+        List<PostWithImages> result = postJpaRepository.findPostsWithImages(List.of());
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("본문 전문 검색 시 모든 검색어를 포함한 게시글을 채널로 필터링하고 (관련도, id) 커서로 이어서 조회한다")
+    void should_searchByNgramAndPageByScoreCursor_when_searchPostIds() {
+        // given
+        PostEntity doosan1 = postJpaRepository.save(PostFixture.createPost(1L, "두산 끝내기 안타로 승리", PostEntity.Channel.DOOSAN));
+        PostEntity doosan2 = postJpaRepository.save(PostFixture.createPost(1L, "오늘 두산 끝내기 나왔다", PostEntity.Channel.DOOSAN));
+        postJpaRepository.save(PostFixture.createPost(1L, "두산 경기 직관", PostEntity.Channel.DOOSAN));
+        postJpaRepository.save(PostFixture.createPost(1L, "LG 끝내기 홈런, 두산 패배", PostEntity.Channel.LG));
+
+        // when
+        List<PostSearchRow> firstPage = postJpaRepository.searchPostIds("+\"두산\" +\"끝내기\"", PostEntity.Channel.DOOSAN, null, null, 1);
+        PostSearchRow cursor = firstPage.getFirst();
+        List<PostSearchRow> secondPage = postJpaRepository.searchPostIds("+\"두산\" +\"끝내기\"", PostEntity.Channel.DOOSAN,
+                cursor.score(), cursor.postId(), 10);
+
+        // then
+        assertThat(firstPage).hasSize(1);
+        assertThat(secondPage).extracting(PostSearchRow::postId).hasSize(1).doesNotContain(cursor.postId());
+        assertThat(List.of(cursor.postId(), secondPage.getFirst().postId()))
+                .containsExactlyInAnyOrder(doosan1.getId(), doosan2.getId());
+    }
+}
@@ -0,0 +1,97 @@
+package com.beta.integration.community;
+
+import com.beta.common.docker.TestContainer;
+import com.beta.common.id.IdGenerators;
+import com.beta.infra.community.entity.PostEntity;
+import com.beta.infra.community.gcs.GcsStorageClient;
+import com.beta.infra.community.redis.PostTimelineRedisRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("채널 타임라인 Redis 통합 테스트")
+class PostTimelineRedisRepositoryIntegrationTest extends TestContainer {
+
+    private static final PostEntity.Channel CHANNEL = PostEntity.Channel.DOOSAN;
+
+    @Autowired private PostTimelineRedisRepository postTimelineRedisRepository;
+    @MockitoBean private GcsStorageClient gcsStorageClient;
+
+    @AfterEach
+    void tearDown() {
+        postTimelineRedisRepository.evict(CHANNEL);
+    }
+
+    @Test
+    @DisplayName("같은 ms에 만든 Snowflake id도 커서 페이지마다 중복/누락 없이 최신순으로 조회된다")
+    void should_pageWithoutRepeats_when_snowflakeIdsShareMillisecond() {
+        // given - 2^53을 넘는 실제 Snowflake id, 대부분 같은 ms에 생성됨
+        List<Long> postIds = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            postIds.add(IdGenerators.nextId());
+        }
+        assertThat(postIds.getFirst()).isGreaterThan(1L << 53);
+        postTimelineRedisRepository.addAll(CHANNEL, postIds);
+
+        // when
+        List<Long> paged = new ArrayList<>();
+        Long cursorId = null;
+        while (true) {
+            List<Long> page = postTimelineRedisRepository.findPostIds(CHANNEL, cursorId, 7).orElseThrow();
+            if (page.isEmpty()) {
+                break;
+            }
+            paged.addAll(page);
+            cursorId = page.getLast();
+        }
+
+        // then
+        assertThat(paged).containsExactlyElementsOf(postIds.stream().sorted(Comparator.reverseOrder()).toList());
+    }
+
+    @Test
+    @DisplayName("커서 게시글 자신은 다음 페이지에 다시 나오지 않는다")
+    void should_excludeCursorPost() {
+        // given
+        long older = IdGenerators.nextId();
+        long newer = IdGenerators.nextId();
+        postTimelineRedisRepository.addAll(CHANNEL, List.of(older, newer));
+
+        // when
+        List<Long> page = postTimelineRedisRepository.findPostIds(CHANNEL, newer, 10).orElseThrow();
+
+        // then
+        assertThat(page).containsExactly(older);
+    }
+
+    @Test
+    @DisplayName("새 게시글 추가 후 최대 개수를 넘으면 가장 오래된 게시글부터 잘린다")
+    void should_trimOldest_when_exceedingMaxSize() {
+        // given
+        List<Long> postIds = new ArrayList<>();
+        for (int i = 0; i < PostTimelineRedisRepository.MAX_SIZE; i++) {
+            postIds.add(IdGenerators.nextId());
+        }
+        postTimelineRedisRepository.addAll(CHANNEL, postIds);
+
+        // when
+        long newest = IdGenerators.nextId();
+        postTimelineRedisRepository.add(CHANNEL, newest);
+
+        // then
+        List<Long> all = postTimelineRedisRepository.findPostIds(CHANNEL, null, PostTimelineRedisRepository.MAX_SIZE + 1).orElseThrow();
+        assertThat(all).hasSize(PostTimelineRedisRepository.MAX_SIZE);
+        assertThat(all.getFirst()).isEqualTo(newest);
+        assertThat(all).doesNotContain(postIds.getFirst());
+    }
+}
@@ -2,10 +2,12 @@ package com.beta.unit.auth;
 
 import com.beta.application.auth.service.UserReadService;
 import com.beta.common.exception.auth.UserNotFoundException;
+import com.beta.common.exception.auth.UserSuspendedException;
 import com.beta.common.fixture.TeamFixture;
 import com.beta.common.fixture.UserFixture;
 import com.beta.common.provider.SocialProvider;
 import com.beta.domain.auth.User;
+import com.beta.infra.auth.cache.UserStatusCache;
 import com.beta.infra.auth.entity.UserEntity;
 import com.beta.infra.auth.repository.UserJpaRepository;
 import com.beta.infra.common.entity.BaseballTeamEntity;
@@ -20,6 +22,8 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +33,9 @@ class UserReadServiceTest {
     @Mock
     private UserJpaRepository userJpaRepository;
 
+    @Mock
+    private UserStatusCache userStatusCache;
+
     @InjectMocks
     private UserReadService userReadService;
 
@@ -198,4 +205,39 @@ class UserReadServiceTest {
         assertThat(result).isFalse();
         verify(userJpaRepository).existsByEmail(email);
     }
+
+    @Test
+    @DisplayName("활성 사용자 검증 시 캐시된 상태가 ACTIVE이면 통과한다")
+    void should_pass_when_validateActiveUserWithActiveStatus() {
+        // given
+        when(userStatusCache.get(eq(1L), any())).thenReturn(Optional.of(UserEntity.UserStatus.ACTIVE));
+
+        // when
+        userReadService.validateActiveUser(1L);
+
+        // then
+        verify(userJpaRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("활성 사용자 검증 시 정지된 사용자면 UserSuspendedException을 발생시킨다")
+    void should_throwUserSuspendedException_when_validateActiveUserWithSuspendedStatus() {
+        // given
+        when(userStatusCache.get(eq(1L), any())).thenReturn(Optional.of(UserEntity.UserStatus.SUSPENDED));
+
+        // when & then
+        assertThatThrownBy(() -> userReadService.validateActiveUser(1L))
+                .isInstanceOf(UserSuspendedException.class);
+    }
+
+    @Test
+    @DisplayName("활성 사용자 검증 시 존재하지 않는 사용자면 UserNotFoundException을 발생시킨다")
+    void should_throwUserNotFoundException_when_validateActiveUserWithMissingUser() {
+        // given
+        when(userStatusCache.get(eq(999L), any())).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> userReadService.validateActiveUser(999L))
+                .isInstanceOf(UserNotFoundException.class);
+    }
 }
@@ -5,6 +5,7 @@ import com.beta.application.auth.service.UserWriteService;
 import com.beta.common.fixture.TeamFixture;
 import com.beta.common.fixture.UserFixture;
 import com.beta.common.provider.SocialProvider;
+import com.beta.infra.auth.cache.UserStatusCache;
 import com.beta.infra.auth.entity.UserConsentEntity;
 import com.beta.infra.auth.entity.UserEntity;
 import com.beta.infra.auth.repository.UserConsentJpaRepository;
@@ -36,6 +37,9 @@ class UserWriteServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserStatusCache userStatusCache;
+
     @InjectMocks
     private UserWriteService userWriteService;
 
@@ -0,0 +1,64 @@
+package com.beta.unit.common;
+
+import com.beta.common.config.JacksonConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JacksonConfig 단위 테스트")
+class JacksonConfigTest {
+
+    private static final long SNOWFLAKE_ID = 9_007_199_254_740_993L; // 2^53 + 1
+
+    private ObjectMapper objectMapper;
+
+    record Sample(Long id, Long postId, long userId, Long likeCount, List<Long> likedCommentIds) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JacksonConfig().idAsStringModule());
+    }
+
+    @Test
+    @DisplayName("id 필드와 id 목록은 문자열로, 다른 숫자는 숫자로 직렬화한다")
+    void should_writeIdsAsStrings_when_serialize() throws Exception {
+        // given
+        Sample sample = new Sample(SNOWFLAKE_ID, 2L, 3L, 10L, List.of(SNOWFLAKE_ID));
+
+        // when
+        String json = objectMapper.writeValueAsString(sample);
+
+        // then
+        assertThat(json).isEqualTo("""
+                {"id":"9007199254740993","postId":"2","userId":"3","likeCount":10,"likedCommentIds":["9007199254740993"]}""");
+    }
+
+    @Test
+    @DisplayName("null id는 null로 직렬화한다")
+    void should_writeNull_when_idIsNull() throws Exception {
+        // when
+        String json = objectMapper.writeValueAsString(new Sample(null, null, 3L, null, null));
+
+        // then
+        assertThat(json).contains("\"id\":null", "\"postId\":null", "\"likedCommentIds\":null");
+    }
+
+    @Test
+    @DisplayName("문자열로 받은 id도 Long으로 읽는다")
+    void should_readStringIds_when_deserialize() throws Exception {
+        // when
+        Sample sample = objectMapper.readValue("""
+                {"id":"9007199254740993","postId":2,"userId":"3","likeCount":10,"likedCommentIds":["9007199254740993"]}""", Sample.class);
+
+        // then
+        assertThat(sample.id()).isEqualTo(SNOWFLAKE_ID);
+        assertThat(sample.postId()).isEqualTo(2L);
+        assertThat(sample.likedCommentIds()).containsExactly(SNOWFLAKE_ID);
+    }
+}
@@ -0,0 +1,179 @@
+package com.beta.unit.common;
+
+import com.beta.common.datasource.DataSourceRoutingContext;
+import com.beta.common.datasource.ReadYourWritesInterceptor;
+import com.beta.common.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadYourWritesInterceptor 단위 테스트")
+class ReadYourWritesInterceptorTest {
+
+    private static final String PIN_CHANNEL = "datasource:pin";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private ReadYourWritesInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new ReadYourWritesInterceptor(stringRedisTemplate, redisMessageListenerContainer, Duration.ofSeconds(5));
+        authenticate(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        DataSourceRoutingContext.clear();
+    }
+
+    @Test
+    @DisplayName("쓰기 요청은 원본으로 고정하고 다른 인스턴스에 고정을 알린다")
+    void should_pinAndPublish_when_writeRequest() {
+        // when
+        interceptor.preHandle(new MockHttpServletRequest("POST", "/api/v1/posts"), new MockHttpServletResponse(), new Object());
+
+        // then
+        assertThat(DataSourceRoutingContext.isPinnedToPrimary()).isTrue();
+        verify(stringRedisTemplate).convertAndSend(PIN_CHANNEL, "1");
+    }
+
+    @Test
+    @DisplayName("최근에 쓰지 않은 사용자의 읽기 요청은 Redis 호출 없이 복제본으로 보낸다")
+    void should_notPin_when_readWithoutRecentWrite() {
+        // when
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/api/v1/posts"), new MockHttpServletResponse(), new Object());
+
+        // then
+        assertThat(DataSourceRoutingContext.isPinnedToPrimary()).isFalse();
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("같은 인스턴스에서 쓴 직후의 읽기 요청은 원본으로 고정한다")
+    void should_pin_when_readAfterWriteOnSameInstance() {
+        // given
+        interceptor.preHandle(new MockHttpServletRequest("POST", "/api/v1/posts"), new MockHttpServletResponse(), new Object());
+        DataSourceRoutingContext.clear();
+
+        // when
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/api/v1/posts"), new MockHttpServletResponse(), new Object());
+
+        // then
+        assertThat(DataSourceRoutingContext.isPinnedToPrimary()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 쓴 사용자의 고정 알림을 받으면 읽기 요청을 원본으로 고정한다")
+    void should_pin_when_pinPublishedByOtherInstance() {
+        // given
+        MessageListener listener = subscribe();
+        listener.onMessage(new DefaultMessage(PIN_CHANNEL.getBytes(StandardCharsets.UTF_8), "1".getBytes(StandardCharsets.UTF_8)), null);
+
+        // when
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/api/v1/posts"), new MockHttpServletResponse(), new Object());
+
+        // then
+        assertThat(DataSourceRoutingContext.isPinnedToPrimary()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 고정 알림으로는 읽기 요청을 고정하지 않는다")
+    void should_notPin_when_pinPublishedForOtherUser() {
+        // given
+        MessageListener listener = subscribe();
+        listener.onMessage(new DefaultMessage(PIN_CHANNEL.getBytes(StandardCharsets.UTF_8), "2".getBytes(StandardCharsets.UTF_8)), null);
+
+        // when
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/api/v1/posts"), new MockHttpServletResponse(), new Object());
+
+        // then
+        assertThat(DataSourceRoutingContext.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    @DisplayName("고정 알림 발행에 실패해도 쓰기 요청은 진행되고 같은 인스턴스의 읽기는 고정된다")
+    void should_pinLocally_when_publishFails() {
+        // given
+        doThrow(new RedisConnectionFailureException("down")).when(stringRedisTemplate).convertAndSend(any(), any());
+
+        // when
+        boolean proceed = interceptor.preHandle(new MockHttpServletRequest("POST", "/api/v1/posts"), new MockHttpServletResponse(), new Object());
+        DataSourceRoutingContext.clear();
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/api/v1/posts"), new MockHttpServletResponse(), new Object());
+
+        // then
+        assertThat(proceed).isTrue();
+        assertThat(DataSourceRoutingContext.isPinnedToPrimary()).isTrue();
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 요청은 고정하지 않고 Redis도 호출하지 않는다")
+    void should_skip_when_anonymous() {
+        // given
+        SecurityContextHolder.clearContext();
+
+        // when
+        interceptor.preHandle(new MockHttpServletRequest("POST", "/api/v1/posts"), new MockHttpServletResponse(), new Object());
+
+        // then
+        assertThat(DataSourceRoutingContext.isPinnedToPrimary()).isFalse();
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("요청이 끝나면 고정을 해제한다")
+    void should_clearPin_when_afterCompletion() {
+        // given
+        DataSourceRoutingContext.pinToPrimary();
+
+        // when
+        interceptor.afterCompletion(new MockHttpServletRequest(), new MockHttpServletResponse(), new Object(), null);
+
+        // then
+        assertThat(DataSourceRoutingContext.isPinnedToPrimary()).isFalse();
+    }
+
+    private MessageListener subscribe() {
+        interceptor.subscribePins();
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(redisMessageListenerContainer).addMessageListener(listener.capture(), any(ChannelTopic.class));
+        return listener.getValue();
+    }
+
+    private void authenticate(Long userId) {
+        CustomUserDetails userDetails = new CustomUserDetails(userId, "DOOSAN", "ROLE_USER");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+}
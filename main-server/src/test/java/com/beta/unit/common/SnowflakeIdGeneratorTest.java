@@ -0,0 +1,84 @@
+package com.beta.unit.common;
+
+import com.beta.common.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SnowflakeIdGenerator 단위 테스트")
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("같은 ms 안에서 시퀀스를 다 쓰면 다음 ms로 넘어가며 계속 증가한다")
+    void should_increaseMonotonically_when_sequenceExhausted() {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, () -> NOW);
+
+        // when
+        Set<Long> ids = new HashSet<>();
+        long previous = -1L;
+        boolean increasing = true;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            increasing &= id > previous;
+            previous = id;
+            ids.add(id);
+        }
+
+        // then
+        assertThat(increasing).isTrue();
+        assertThat(ids).hasSize(10_000);
+        assertThat(SnowflakeIdGenerator.extractTimestampMillis(previous)).isEqualTo(NOW + 2);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 마지막 시각을 이어서 사용해 id가 줄어들지 않는다")
+    void should_notDecrease_when_clockMovesBackwards() {
+        // given
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, clock::get);
+        long first = generator.nextId();
+
+        // when
+        clock.set(NOW - 500);
+        long second = generator.nextId();
+
+        // then
+        assertThat(second).isGreaterThan(first);
+        assertThat(SnowflakeIdGenerator.extractTimestampMillis(second)).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("노드가 다르면 같은 시각에도 id가 겹치지 않고, 시각이 늦은 id가 항상 더 크다")
+    void should_beUniqueAcrossNodesAndTimeOrdered() {
+        // given
+        SnowflakeIdGenerator node1 = new SnowflakeIdGenerator(1, () -> NOW);
+        SnowflakeIdGenerator node2 = new SnowflakeIdGenerator(2, () -> NOW);
+        SnowflakeIdGenerator later = new SnowflakeIdGenerator(0, () -> NOW + 1);
+
+        // when
+        long id1 = node1.nextId();
+        long id2 = node2.nextId();
+        long laterId = later.nextId();
+
+        // then
+        assertThat(id1).isNotEqualTo(id2);
+        assertThat(laterId).isGreaterThan(id1).isGreaterThan(id2);
+    }
+
+    @Test
+    @DisplayName("노드 id가 범위를 벗어나면 예외")
+    void should_throw_when_nodeIdOutOfRange() {
+        // when & then
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(1024))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,107 @@
+package com.beta.unit.common;
+
+import com.beta.common.id.IdGenerator;
+import com.beta.common.id.SnowflakeNodeIdAllocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SnowflakeNodeIdAllocator 단위 테스트")
+class SnowflakeNodeIdAllocatorTest {
+
+    private static final long NOW = 1_800_000_000_000L;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+    private SnowflakeNodeIdAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new SnowflakeNodeIdAllocator(stringRedisTemplate, -1, clock::get);
+    }
+
+    @Test
+    @DisplayName("임대 연장에 실패한 채 임대 시간이 지나면 id를 만들지 않는다")
+    void should_refuseIds_when_leaseLapsedWithoutRenewal() {
+        // given
+        leaseSucceeds();
+        IdGenerator idGenerator = allocator.allocate();
+        assertThatCode(idGenerator::nextId).doesNotThrowAnyException();
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(30).toMillis());
+        allocator.renewLease();
+        clock.addAndGet(Duration.ofSeconds(30).toMillis());
+
+        // then
+        assertThatThrownBy(idGenerator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("임대가 지난 뒤 다시 연장되면 id 생성을 재개한다")
+    void should_resumeIds_when_leaseRenewedAfterLapse() {
+        // given
+        leaseSucceeds();
+        IdGenerator idGenerator = allocator.allocate();
+        clock.addAndGet(Duration.ofSeconds(60).toMillis());
+        assertThatThrownBy(idGenerator::nextId).isInstanceOf(IllegalStateException.class);
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).thenReturn(1L);
+
+        // when
+        allocator.renewLease();
+
+        // then
+        assertThat(idGenerator.nextId()).isPositive();
+    }
+
+    @Test
+    @DisplayName("임대 여유 시간 안에서 연장하면 계속 id를 만든다")
+    void should_keepGenerating_when_renewedInTime() {
+        // given
+        leaseSucceeds();
+        IdGenerator idGenerator = allocator.allocate();
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).thenReturn(1L);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            clock.addAndGet(Duration.ofSeconds(20).toMillis());
+            allocator.renewLease();
+        }
+
+        // then
+        long first = idGenerator.nextId();
+        assertThat(idGenerator.nextId()).isGreaterThan(first);
+    }
+
+    private void leaseSucceeds() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), eq(Duration.ofSeconds(60)))).thenReturn(true);
+    }
+}
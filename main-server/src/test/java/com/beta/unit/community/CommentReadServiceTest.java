@@ -0,0 +1,119 @@
+package com.beta.unit.community;
+
+import com.beta.application.community.dto.CommentThreadDto;
+import com.beta.application.community.service.CommentReadService;
+import com.beta.application.community.service.EngagementCounterService;
+import com.beta.common.exception.comment.CommentNotFoundException;
+import com.beta.common.exception.post.PostNotFoundException;
+import com.beta.infra.community.entity.CommentEntity;
+import com.beta.infra.community.entity.Status;
+import com.beta.infra.community.repository.CommentJpaRepository;
+import com.beta.infra.community.repository.PostJpaRepository;
+import com.beta.infra.community.repository.dao.ReplyCountRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommentReadService 단위 테스트")
+class CommentReadServiceTest {
+
+    @Mock
+    private CommentJpaRepository commentJpaRepository;
+
+    @Mock
+    private PostJpaRepository postJpaRepository;
+
+    @Mock
+    private EngagementCounterService engagementCounterService;
+
+    @InjectMocks
+    private CommentReadService commentReadService;
+
+    @Test
+    @DisplayName("루트 댓글 조회 시 답글 수와 미리보기 답글을 함께 반환한다")
+    void should_returnThreadsWithReplies_when_getComments() {
+        // given
+        CommentEntity root1 = mockComment(1L, null, 0);
+        CommentEntity root2 = mockComment(2L, null, 0);
+        CommentEntity reply = mockComment(10L, 1L, 1);
+        when(postJpaRepository.existsByIdAndStatus(100L, Status.ACTIVE)).thenReturn(true);
+        when(commentJpaRepository.findRootComments(eq(100L), eq(Status.ACTIVE), isNull(), any()))
+                .thenReturn(List.of(root1, root2));
+        when(commentJpaRepository.countRepliesByParentIds(List.of(1L, 2L), Status.ACTIVE))
+                .thenReturn(List.of(new ReplyCountRow(1L, 5L)));
+        when(commentJpaRepository.findFirstRepliesByParentIds(List.of(1L, 2L), CommentReadService.REPLY_PREVIEW_SIZE))
+                .thenReturn(List.of(reply));
+
+        // when
+        List<CommentThreadDto> result = commentReadService.getComments(100L, null, 21);
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getReplyCount()).isEqualTo(5L);
+        assertThat(result.get(0).getReplies()).extracting("commentId").containsExactly(10L);
+        assertThat(result.get(1).getReplyCount()).isZero();
+        assertThat(result.get(1).getReplies()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("루트 댓글이 없으면 답글 조회 쿼리를 실행하지 않는다")
+    void should_skipReplyQueries_when_getCommentsWithNoRoots() {
+        // given
+        when(postJpaRepository.existsByIdAndStatus(100L, Status.ACTIVE)).thenReturn(true);
+        when(commentJpaRepository.findRootComments(eq(100L), eq(Status.ACTIVE), eq(50L), any()))
+                .thenReturn(List.of());
+
+        // when
+        List<CommentThreadDto> result = commentReadService.getComments(100L, 50L, 21);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(commentJpaRepository, never()).countRepliesByParentIds(any(), any());
+        verify(commentJpaRepository, never()).findFirstRepliesByParentIds(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글의 댓글 조회 시 PostNotFoundException을 발생시킨다")
+    void should_throwPostNotFoundException_when_getCommentsOfMissingPost() {
+        // given
+        when(postJpaRepository.existsByIdAndStatus(999L, Status.ACTIVE)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> commentReadService.getComments(999L, null, 21))
+                .isInstanceOf(PostNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("다른 게시글의 댓글로 답글 조회 시 CommentNotFoundException을 발생시킨다")
+    void should_throwCommentNotFoundException_when_getRepliesWithMismatchedPost() {
+        // given
+        CommentEntity parent = mock(CommentEntity.class);
+        when(parent.getPostId()).thenReturn(200L);
+        when(commentJpaRepository.findById(1L)).thenReturn(Optional.of(parent));
+
+        // when & then
+        assertThatThrownBy(() -> commentReadService.getReplies(100L, 1L, null, 21))
+                .isInstanceOf(CommentNotFoundException.class);
+    }
+
+    private CommentEntity mockComment(Long id, Long parentId, int depth) {
+        CommentEntity comment = mock(CommentEntity.class);
+        lenient().when(comment.getId()).thenReturn(id);
+        lenient().when(comment.getParentId()).thenReturn(parentId);
+        lenient().when(comment.getDepth()).thenReturn(depth);
+        return comment;
+    }
+}
@@ -1,6 +1,8 @@
 package com.beta.unit.community;
 
+import com.beta.application.community.event.PostEngagementChangedEvent;
 import com.beta.application.community.service.CommentWriteService;
+import com.beta.application.community.service.EngagementCounterService;
 import com.beta.common.exception.comment.CommentAccessDeniedException;
 import com.beta.common.exception.comment.CommentDepthExceededException;
 import com.beta.common.exception.comment.CommentNotFoundException;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -32,6 +35,12 @@ class CommentWriteServiceTest {
     @Mock
     private PostJpaRepository postJpaRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EngagementCounterService engagementCounterService;
+
     @InjectMocks
     private CommentWriteService commentWriteService;
 
@@ -47,7 +56,7 @@ class CommentWriteServiceTest {
 
         // then
         verify(commentJpaRepository).save(any(CommentEntity.class));
-        verify(postJpaRepository).updateCommentCount(1L, 1);
+        verify(engagementCounterService).addComment(1L, 1);
     }
 
     @Test
@@ -66,7 +75,7 @@ class CommentWriteServiceTest {
 
         // then
         verify(commentJpaRepository).save(any(CommentEntity.class));
-        verify(postJpaRepository).updateCommentCount(1L, 1);
+        verify(engagementCounterService).addComment(1L, 1);
     }
 
     @Test
@@ -154,10 +163,12 @@ class CommentWriteServiceTest {
     void deleteComment_success() {
         // given
         CommentEntity mockComment = mock(CommentEntity.class);
+        PostEntity mockPost = mock(PostEntity.class);
 
         when(commentJpaRepository.findById(1L)).thenReturn(Optional.of(mockComment));
         when(mockComment.getUserId()).thenReturn(1L);
         when(mockComment.getPostId()).thenReturn(10L);
+        when(postJpaRepository.findById(10L)).thenReturn(Optional.of(mockPost));
 
         // when
         commentWriteService.softDeleteComment(1L, 1L);
@@ -165,7 +176,8 @@ class CommentWriteServiceTest {
         // then
         verify(mockComment).softDelete();
         verify(commentJpaRepository).save(mockComment);
-        verify(postJpaRepository).updateCommentCount(10L, -1);
+        verify(engagementCounterService).addComment(10L, -1);
+        verify(eventPublisher).publishEvent(PostEngagementChangedEvent.of(mockPost, -1));
     }
 
     @Test
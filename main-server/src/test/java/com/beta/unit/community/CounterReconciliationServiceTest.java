@@ -0,0 +1,131 @@
+package com.beta.unit.community;
+
+import com.beta.application.community.service.CounterReconciliationService;
+import com.beta.infra.community.cache.PostDetailCache;
+import com.beta.infra.community.redis.ReconciliationLeaderRedisRepository;
+import com.beta.infra.community.repository.CounterBatchRepository;
+import com.beta.infra.community.repository.CounterReconciliationRepository;
+import com.beta.infra.community.repository.dao.PostCounterDelta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CounterReconciliationService 단위 테스트")
+class CounterReconciliationServiceTest {
+
+    @Mock
+    private CounterReconciliationRepository counterReconciliationRepository;
+
+    @Mock
+    private CounterBatchRepository counterBatchRepository;
+
+    @Mock
+    private ReconciliationLeaderRedisRepository reconciliationLeaderRedisRepository;
+
+    @Mock
+    private PostDetailCache postDetailCache;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private CounterReconciliationService counterReconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(counterReconciliationService, "confirmDelayMillis", 0L);
+    }
+
+    @Test
+    @DisplayName("다음 순회에서도 같은 차이가 보이면 차이만큼 보정하고 메트릭을 남긴다")
+    void should_correctDrift_when_sameDriftSeenTwice() {
+        // given
+        when(reconciliationLeaderRedisRepository.tryAcquireOrRenew(any(), any())).thenReturn(true);
+        when(counterReconciliationRepository.findStoredPostCounters(0L, 500))
+                .thenReturn(Map.of(10L, new PostCounterDelta(2, 1, 0, 0, 0)));
+        when(counterReconciliationRepository.findStoredPostCounters(10L, 500)).thenReturn(Map.of());
+        when(counterReconciliationRepository.countActualPostCounters(10L, 10L))
+                .thenReturn(Map.of(10L, new PostCounterDelta(3, 1, 0, 0, 0)));
+
+        // when
+        counterReconciliationService.reconcileNextChunk(); // 차이 발견
+        counterReconciliationService.reconcileNextChunk(); // 끝까지 돌아 처음으로
+        counterReconciliationService.reconcileNextChunk(); // 같은 차이 재확인
+
+        // then
+        verify(counterBatchRepository, times(1)).updatePostCounters(Map.of(10L, new PostCounterDelta(1, 0, 0, 0, 0)));
+        verify(postDetailCache).evict(10L);
+        assertThat(meterRegistry.counter("community.counter.reconciliation.corrected", "counter", "posts.comment_count").count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.counter("community.counter.reconciliation.corrected", "counter", "posts.like_count").count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("차이가 순회마다 달라지면(반영 지연 중인 변화량) 보정하지 않는다")
+    void should_notCorrect_when_driftChanges() {
+        // given
+        when(reconciliationLeaderRedisRepository.tryAcquireOrRenew(any(), any())).thenReturn(true);
+        when(counterReconciliationRepository.findStoredCommentLikeCounts(0L, 500)).thenReturn(Map.of(5L, 3));
+        when(counterReconciliationRepository.findStoredCommentLikeCounts(5L, 500)).thenReturn(Map.of());
+        when(counterReconciliationRepository.countActualCommentLikes(5L, 5L))
+                .thenReturn(Map.of(5L, 4))
+                .thenReturn(Map.of(5L, 3));
+
+        // when
+        counterReconciliationService.reconcileNextChunk();
+        counterReconciliationService.reconcileNextChunk();
+        counterReconciliationService.reconcileNextChunk();
+
+        // then
+        verify(counterBatchRepository, never()).updateCommentLikeCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("원천 행이 하나도 없는 해시태그는 사용 수를 0으로 맞춘다")
+    void should_correctToZero_when_noSourceRows() {
+        // given
+        when(reconciliationLeaderRedisRepository.tryAcquireOrRenew(any(), any())).thenReturn(true);
+        when(counterReconciliationRepository.findStoredHashtagUsageCounts(0L, 500)).thenReturn(Map.of(7L, 2));
+        when(counterReconciliationRepository.findStoredHashtagUsageCounts(7L, 500)).thenReturn(Map.of());
+        when(counterReconciliationRepository.countActualHashtagUsages(7L, 7L)).thenReturn(Map.of());
+
+        // when
+        counterReconciliationService.reconcileNextChunk();
+        counterReconciliationService.reconcileNextChunk();
+        counterReconciliationService.reconcileNextChunk();
+
+        // then
+        verify(counterBatchRepository).updateHashtagUsageCounts(Map.of(7L, -2));
+        assertThat(meterRegistry.counter("community.counter.reconciliation.drift", "counter", "hashtag.usage_count").count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 리더면 아무것도 조회하지 않는다")
+    void should_skip_when_notLeader() {
+        // given
+        when(reconciliationLeaderRedisRepository.tryAcquireOrRenew(any(), any())).thenReturn(false);
+
+        // when
+        counterReconciliationService.reconcileNextChunk();
+
+        // then
+        verifyNoInteractions(counterReconciliationRepository, counterBatchRepository, postDetailCache);
+    }
+}
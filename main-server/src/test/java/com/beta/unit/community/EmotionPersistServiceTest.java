@@ -0,0 +1,136 @@
+package com.beta.unit.community;
+
+import com.beta.application.community.service.EmotionPersistService;
+import com.beta.application.community.service.EngagementCounterService;
+import com.beta.infra.community.entity.EmotionEntity;
+import com.beta.infra.community.redis.PostEmotionRedisRepository;
+import com.beta.infra.community.redis.PostEmotionRedisRepository.EmotionChange;
+import com.beta.infra.community.repository.EmotionBatchRepository;
+import com.beta.infra.community.repository.dao.EmotionState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmotionPersistService 단위 테스트")
+class EmotionPersistServiceTest {
+
+    @Mock
+    private PostEmotionRedisRepository postEmotionRedisRepository;
+
+    @Mock
+    private EmotionBatchRepository emotionBatchRepository;
+
+    @Mock
+    private EngagementCounterService engagementCounterService;
+
+    @InjectMocks
+    private EmotionPersistService emotionPersistService;
+
+    @Test
+    @DisplayName("같은 사용자의 연속 토글은 마지막 상태만 반영하고, 반응 수 변화는 모두 카운터에 넘긴다")
+    void should_applyLatestStatesAndCounterDeltas_when_persist() {
+        // given
+        when(postEmotionRedisRepository.tryLockPersist(any())).thenReturn("token");
+        when(postEmotionRedisRepository.claimChanges(eq("token"), anyInt())).thenReturn(Optional.of(List.of(
+                new EmotionChange(1L, 7L, "NONE", "LIKE"),
+                new EmotionChange(1L, 7L, "LIKE", "SAD"),
+                new EmotionChange(2L, 7L, "FUN", "NONE")
+        )));
+        when(postEmotionRedisRepository.ackChanges("token")).thenReturn(true);
+
+        // when
+        emotionPersistService.persist();
+
+        // then
+        verify(emotionBatchRepository).applyEmotionStates(argThat((Collection<EmotionState> states) ->
+                states.size() == 2
+                        && states.contains(new EmotionState(1L, 7L, EmotionEntity.EmotionType.SAD))
+                        && states.contains(new EmotionState(2L, 7L, null))));
+        verify(postEmotionRedisRepository).ackChanges("token");
+        verify(engagementCounterService).addEmotion(1L, EmotionEntity.EmotionType.LIKE, 1);
+        verify(engagementCounterService).addEmotion(1L, EmotionEntity.EmotionType.LIKE, -1);
+        verify(engagementCounterService).addEmotion(1L, EmotionEntity.EmotionType.SAD, 1);
+        verify(engagementCounterService).addEmotion(2L, EmotionEntity.EmotionType.FUN, -1);
+        verify(postEmotionRedisRepository).unlockPersist("token");
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 처리 중 배치를 확인하지 않고 카운터에도 넘기지 않는다")
+    void should_keepQueue_when_applyFails() {
+        // given
+        when(postEmotionRedisRepository.tryLockPersist(any())).thenReturn("token");
+        when(postEmotionRedisRepository.claimChanges(eq("token"), anyInt())).thenReturn(Optional.of(List.of(
+                new EmotionChange(1L, 7L, "NONE", "HYPE"))));
+        doThrow(new QueryTimeoutException("timeout")).when(emotionBatchRepository).applyEmotionStates(any());
+
+        // when
+        emotionPersistService.persist();
+
+        // then
+        verify(postEmotionRedisRepository, never()).ackChanges(any());
+        verifyNoInteractions(engagementCounterService);
+        verify(postEmotionRedisRepository).unlockPersist("token");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 반영 중이면 큐를 읽지 않는다")
+    void should_skip_when_lockNotAcquired() {
+        // given
+        when(postEmotionRedisRepository.tryLockPersist(any())).thenReturn(null);
+
+        // when
+        emotionPersistService.persist();
+
+        // then
+        verify(postEmotionRedisRepository, never()).claimChanges(any(), anyInt());
+        assertThat(mockingDetails(emotionBatchRepository).getInvocations()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영 중 잠금이 만료되어 확인에 실패하면 카운터에 넘기지 않는다")
+    void should_skipCounterDeltas_when_ackFails() {
+        // given
+        when(postEmotionRedisRepository.tryLockPersist(any())).thenReturn("token");
+        when(postEmotionRedisRepository.claimChanges(eq("token"), anyInt())).thenReturn(Optional.of(List.of(
+                new EmotionChange(1L, 7L, "NONE", "LIKE"))));
+        when(postEmotionRedisRepository.ackChanges("token")).thenReturn(false);
+
+        // when
+        emotionPersistService.persist();
+
+        // then
+        verify(emotionBatchRepository).applyEmotionStates(any());
+        verifyNoInteractions(engagementCounterService);
+        verify(postEmotionRedisRepository).unlockPersist("token");
+    }
+
+    @Test
+    @DisplayName("배치를 가져오기 전에 잠금이 만료되면 반영하지 않는다")
+    void should_skip_when_lockLostBeforeClaim() {
+        // given
+        when(postEmotionRedisRepository.tryLockPersist(any())).thenReturn("token");
+        when(postEmotionRedisRepository.claimChanges(eq("token"), anyInt())).thenReturn(Optional.empty());
+
+        // when
+        emotionPersistService.persist();
+
+        // then
+        verifyNoInteractions(emotionBatchRepository, engagementCounterService);
+        verify(postEmotionRedisRepository, never()).ackChanges(any());
+    }
+}
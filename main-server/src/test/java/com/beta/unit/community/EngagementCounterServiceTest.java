@@ -0,0 +1,181 @@
+package com.beta.unit.community;
+
+import com.beta.application.community.service.EngagementCounterService;
+import com.beta.infra.community.cache.PostDetailCache;
+import com.beta.infra.community.entity.EmotionEntity;
+import com.beta.infra.community.repository.CounterBatchRepository;
+import com.beta.infra.community.repository.dao.PostCounterDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EngagementCounterService 단위 테스트")
+class EngagementCounterServiceTest {
+
+    @Mock
+    private CounterBatchRepository counterBatchRepository;
+
+    @Mock
+    private PostDetailCache postDetailCache;
+
+    @InjectMocks
+    private EngagementCounterService engagementCounterService;
+
+    @Test
+    @DisplayName("같은 게시글의 변화량을 합산해 flush 시 게시글당 한 번만 반영하고 상세 캐시를 비운다")
+    void should_mergeDeltasPerPost_when_flush() {
+        // given
+        engagementCounterService.addEmotion(1L, EmotionEntity.EmotionType.LIKE, 1);
+        engagementCounterService.addEmotion(1L, EmotionEntity.EmotionType.LIKE, 1);
+        engagementCounterService.addEmotion(1L, EmotionEntity.EmotionType.SAD, -1);
+        engagementCounterService.addComment(1L, 1);
+        engagementCounterService.addComment(2L, 1);
+        engagementCounterService.addCommentLike(10L, 1);
+
+        // when
+        engagementCounterService.flush();
+
+        // then
+        verify(counterBatchRepository).updatePostCounters(Map.of(
+                1L, new PostCounterDelta(1, 2, -1, 0, 0),
+                2L, new PostCounterDelta(1, 0, 0, 0, 0)
+        ));
+        verify(counterBatchRepository).updateCommentLikeCounts(Map.of(10L, 1));
+        verify(postDetailCache).evict(1L);
+        verify(postDetailCache).evict(2L);
+        assertThat(engagementCounterService.getPendingPostDeltas(List.of(1L, 2L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영 전 변화량은 조회 시 합산되고, 서로 상쇄된 변화량은 반영하지 않는다")
+    void should_exposePendingDeltasAndSkipZero_when_notFlushed() {
+        // given
+        engagementCounterService.addEmotion(1L, EmotionEntity.EmotionType.FUN, 1);
+        engagementCounterService.addEmotion(2L, EmotionEntity.EmotionType.HYPE, 1);
+        engagementCounterService.addEmotion(2L, EmotionEntity.EmotionType.HYPE, -1);
+        engagementCounterService.addCommentLike(10L, -1);
+
+        // when
+        Map<Long, PostCounterDelta> pending = engagementCounterService.getPendingPostDeltas(List.of(1L, 2L));
+        int pendingLikeDelta = engagementCounterService.getPendingCommentLikeDelta(10L);
+        engagementCounterService.flush();
+
+        // then
+        assertThat(pending).containsOnlyKeys(1L);
+        assertThat(pending.get(1L).emotionCount()).isEqualTo(1);
+        assertThat(pendingLikeDelta).isEqualTo(-1);
+        verify(counterBatchRepository).updatePostCounters(Map.of(1L, new PostCounterDelta(0, 0, 0, 1, 0)));
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 변화량을 되돌려 다음 flush에서 다시 반영한다")
+    void should_retryDeltas_when_flushFails() {
+        // given
+        engagementCounterService.addComment(1L, 1);
+        doThrow(new QueryTimeoutException("timeout"))
+                .doNothing()
+                .when(counterBatchRepository).updatePostCounters(anyMap());
+
+        // when
+        engagementCounterService.flush();
+        engagementCounterService.addComment(1L, 1);
+        engagementCounterService.flush();
+
+        // then
+        verify(counterBatchRepository).updatePostCounters(Map.of(1L, new PostCounterDelta(2, 0, 0, 0, 0)));
+        verify(postDetailCache, times(1)).evict(1L);
+    }
+
+    @Test
+    @DisplayName("한 주기 동안 갱신이 임계치 이상 몰린 게시글은 이후 변화량을 분산 카운터에 기록한다")
+    void should_writeToShards_when_postBecomesHot() {
+        // given
+        for (int i = 0; i < 20; i++) {
+            engagementCounterService.addEmotion(1L, EmotionEntity.EmotionType.HYPE, 1);
+        }
+        engagementCounterService.addComment(2L, 1);
+
+        // when
+        engagementCounterService.flush();
+        engagementCounterService.addEmotion(1L, EmotionEntity.EmotionType.HYPE, 1);
+        engagementCounterService.flush();
+
+        // then
+        verify(counterBatchRepository).incrementPostCounterShards(eq(Map.of(1L, new PostCounterDelta(0, 0, 0, 0, 20))), anyInt());
+        verify(counterBatchRepository).incrementPostCounterShards(eq(Map.of(1L, new PostCounterDelta(0, 0, 0, 0, 1))), anyInt());
+        verify(counterBatchRepository).updatePostCounters(Map.of(2L, new PostCounterDelta(1, 0, 0, 0, 0)));
+        verify(postDetailCache, never()).evict(1L);
+    }
+
+    @Test
+    @DisplayName("분산 카운터를 합산하면 합산된 게시글의 상세 캐시를 비운다")
+    void should_evictDetailCache_when_compactShards() {
+        // given
+        when(counterBatchRepository.compactPostCounterShards(anyInt())).thenReturn(List.of(1L, 2L));
+
+        // when
+        engagementCounterService.compactShards();
+
+        // then
+        verify(postDetailCache).evict(1L);
+        verify(postDetailCache).evict(2L);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 슬롯에 기록했지만 아직 합산되지 않은 값도 조회 시 더한다")
+    void should_includeShardSums_when_getPendingPostDeltas() {
+        // given
+        when(counterBatchRepository.findShardedPostIds(anyInt())).thenReturn(List.of(1L, 2L));
+        engagementCounterService.compactShards();
+        engagementCounterService.addEmotion(1L, EmotionEntity.EmotionType.LIKE, 1);
+        when(counterBatchRepository.sumPostCounterShards(List.of(1L, 2L))).thenReturn(Map.of(
+                1L, new PostCounterDelta(0, 3, 0, 0, 0),
+                2L, new PostCounterDelta(2, 0, 0, 0, 0)
+        ));
+
+        // when
+        Map<Long, PostCounterDelta> pending = engagementCounterService.getPendingPostDeltas(List.of(1L, 2L));
+
+        // then
+        assertThat(pending).containsEntry(1L, new PostCounterDelta(0, 4, 0, 0, 0))
+                .containsEntry(2L, new PostCounterDelta(2, 0, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("슬롯에 기록된 적이 없는 게시글은 조회 시 슬롯 합계를 읽지 않는다")
+    void should_skipShardSums_when_postNotSharded() {
+        // given
+        engagementCounterService.addComment(1L, 1);
+
+        // when
+        Map<Long, PostCounterDelta> pending = engagementCounterService.getPendingPostDeltas(List.of(1L, 2L));
+
+        // then
+        assertThat(pending).containsOnlyKeys(1L);
+        verifyNoInteractions(counterBatchRepository);
+    }
+
+    @Test
+    @DisplayName("반영할 변화량이 없으면 DB를 호출하지 않는다")
+    void should_skipDatabase_when_nothingPending() {
+        // when
+        engagementCounterService.flush();
+
+        // then
+        verifyNoInteractions(counterBatchRepository, postDetailCache);
+    }
+}
@@ -0,0 +1,93 @@
+package com.beta.unit.community;
+
+import com.beta.infra.community.cache.HashtagPrefixIndex;
+import com.beta.infra.community.entity.HashtagEntity;
+import com.beta.infra.community.repository.HashtagJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HashtagPrefixIndex 단위 테스트")
+class HashtagPrefixIndexTest {
+
+    @Mock
+    private HashtagJpaRepository hashtagJpaRepository;
+
+    @InjectMocks
+    private HashtagPrefixIndex hashtagPrefixIndex;
+
+    @Test
+    @DisplayName("접두어가 일치하는 태그를 사용 횟수 내림차순으로 반환한다")
+    void should_returnMatchesOrderedByUsage_when_search() {
+        // given
+        when(hashtagJpaRepository.findAll()).thenReturn(List.of(
+                hashtag(1L, "야구", 30L),
+                hashtag(2L, "야구장", 50L),
+                hashtag(3L, "야간경기", 5L),
+                hashtag(4L, "응원", 100L)
+        ));
+        hashtagPrefixIndex.reload();
+
+        // when
+        List<HashtagPrefixIndex.Entry> result = hashtagPrefixIndex.search("야", 2);
+
+        // then
+        assertThat(result).extracting(HashtagPrefixIndex.Entry::tagName)
+                .containsExactly("야구장", "야구");
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자(받침이 다음 초성이 되는 경우)와 초성만으로도 검색된다")
+    void should_matchByJamoPrefix_when_searchWithIncompleteSyllable() {
+        // given
+        when(hashtagJpaRepository.findAll()).thenReturn(List.of(
+                hashtag(1L, "야구", 30L),
+                hashtag(2L, "두산", 10L)
+        ));
+        hashtagPrefixIndex.reload();
+
+        // when & then
+        assertThat(hashtagPrefixIndex.search("약", 10))
+                .extracting(HashtagPrefixIndex.Entry::tagName).containsExactly("야구");
+        assertThat(hashtagPrefixIndex.search("ㄷ", 10))
+                .extracting(HashtagPrefixIndex.Entry::tagName).containsExactly("두산");
+    }
+
+    @Test
+    @DisplayName("새로 생성되거나 사용량이 바뀐 태그는 전체 재적재 없이 반영된다")
+    void should_reflectUpsertedHashtags_when_upsert() {
+        // given
+        when(hashtagJpaRepository.findAll()).thenReturn(List.of(hashtag(1L, "야구", 30L)));
+        hashtagPrefixIndex.reload();
+
+        // when
+        hashtagPrefixIndex.upsert(List.of(hashtag(1L, "야구", 31L), hashtag(2L, "야구장", 40L)));
+
+        // then
+        assertThat(hashtagPrefixIndex.search("야구", 10))
+                .extracting(HashtagPrefixIndex.Entry::tagName, HashtagPrefixIndex.Entry::usageCount)
+                .containsExactly(
+                        tuple("야구장", 40L),
+                        tuple("야구", 31L)
+                );
+        verify(hashtagJpaRepository, times(1)).findAll();
+    }
+
+    private HashtagEntity hashtag(Long id, String name, Long usageCount) {
+        HashtagEntity hashtag = mock(HashtagEntity.class);
+        when(hashtag.getId()).thenReturn(id);
+        when(hashtag.getTagName()).thenReturn(name);
+        when(hashtag.getUsageCount()).thenReturn(usageCount);
+        return hashtag;
+    }
+}
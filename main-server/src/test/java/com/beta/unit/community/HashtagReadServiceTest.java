@@ -3,6 +3,7 @@ package com.beta.unit.community;
 import com.beta.application.community.dto.HashtagDto;
 import com.beta.application.community.service.HashtagReadService;
 import com.beta.common.fixture.PostFixture;
+import com.beta.infra.community.cache.HashtagPrefixIndex;
 import com.beta.infra.community.entity.HashtagEntity;
 import com.beta.infra.community.repository.HashtagJpaRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +25,9 @@ class HashtagReadServiceTest {
     @Mock
     private HashtagJpaRepository hashtagJpaRepository;
 
+    @Mock
+    private HashtagPrefixIndex hashtagPrefixIndex;
+
     @InjectMocks
     private HashtagReadService hashtagReadService;
 
@@ -57,4 +61,29 @@ class HashtagReadServiceTest {
         assertThat(result).isEmpty();
         verify(hashtagJpaRepository).findAll();
     }
+
+    @Test
+    @DisplayName("자동완성 조회 시 # 접두사를 제거하고 인덱스 검색 결과를 반환한다")
+    void should_stripHashPrefix_when_autocomplete() {
+        // given
+        when(hashtagPrefixIndex.search("야", 10))
+                .thenReturn(List.of(new HashtagPrefixIndex.Entry("ㅇㅑㄱㅜ", 1L, "야구", 30L)));
+
+        // when
+        List<HashtagDto> result = hashtagReadService.autocomplete(" #야", 10);
+
+        // then
+        assertThat(result).extracting(HashtagDto::getName).containsExactly("야구");
+    }
+
+    @Test
+    @DisplayName("자동완성 키워드가 비어 있으면 인덱스를 조회하지 않는다")
+    void should_returnEmptyList_when_autocompleteWithBlankKeyword() {
+        // when
+        List<HashtagDto> result = hashtagReadService.autocomplete("#", 10);
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(hashtagPrefixIndex);
+    }
 }
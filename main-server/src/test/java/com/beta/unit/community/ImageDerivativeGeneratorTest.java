@@ -0,0 +1,88 @@
+package com.beta.unit.community;
+
+import com.beta.domain.community.service.ImageDerivativeGenerator;
+import com.beta.domain.community.service.ImageDerivativeGenerator.Derivatives;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ImageDerivativeGenerator 단위 테스트")
+class ImageDerivativeGeneratorTest {
+
+    private ImageDerivativeGenerator imageDerivativeGenerator;
+
+    @BeforeEach
+    void setUp() {
+        imageDerivativeGenerator = new ImageDerivativeGenerator();
+    }
+
+    @Test
+    @DisplayName("큰 JPEG는 긴 변 기준으로 피드/상세 크기에 맞춰 줄인 JPEG를 만든다")
+    void should_resizeToFeedAndDetail_when_jpegIsLarge() throws IOException {
+        // given
+        byte[] source = encode(2000, 1000, BufferedImage.TYPE_INT_RGB, "jpeg");
+
+        // when
+        Derivatives derivatives = imageDerivativeGenerator.generate(new ByteArrayInputStream(source), "image/jpeg");
+
+        // then
+        assertThat(derivatives.feed().width()).isEqualTo(640);
+        assertThat(derivatives.feed().height()).isEqualTo(320);
+        assertThat(derivatives.detail().width()).isEqualTo(1440);
+        assertThat(derivatives.detail().height()).isEqualTo(720);
+
+        BufferedImage feed = ImageIO.read(new ByteArrayInputStream(derivatives.feed().bytes()));
+        assertThat(feed.getWidth()).isEqualTo(640);
+        assertThat(feed.getHeight()).isEqualTo(320);
+    }
+
+    @Test
+    @DisplayName("상세 크기보다 작은 PNG는 상세용은 원본을 쓰고 피드용만 PNG로 만든다")
+    void should_useOriginalForDetail_when_pngFitsDetail() throws IOException {
+        // given
+        byte[] source = encode(800, 1000, BufferedImage.TYPE_INT_ARGB, "png");
+
+        // when
+        Derivatives derivatives = imageDerivativeGenerator.generate(new ByteArrayInputStream(source), "image/png");
+
+        // then
+        assertThat(derivatives.detail().usesOriginal()).isTrue();
+        assertThat(derivatives.detail().width()).isEqualTo(800);
+        assertThat(derivatives.detail().height()).isEqualTo(1000);
+
+        BufferedImage feed = ImageIO.read(new ByteArrayInputStream(derivatives.feed().bytes()));
+        assertThat(feed.getWidth()).isEqualTo(512);
+        assertThat(feed.getHeight()).isEqualTo(640);
+        assertThat(feed.getColorModel().hasAlpha()).isTrue();
+    }
+
+    @Test
+    @DisplayName("피드 크기 이하인 이미지는 파생 이미지를 만들지 않고 원본을 쓴다")
+    void should_useOriginal_when_imageIsSmall() throws IOException {
+        // given
+        byte[] source = encode(300, 200, BufferedImage.TYPE_INT_RGB, "jpeg");
+
+        // when
+        Derivatives derivatives = imageDerivativeGenerator.generate(new ByteArrayInputStream(source), "image/jpeg");
+
+        // then
+        assertThat(derivatives.feed().usesOriginal()).isTrue();
+        assertThat(derivatives.detail().usesOriginal()).isTrue();
+        assertThat(derivatives.feed().width()).isEqualTo(300);
+        assertThat(derivatives.feed().height()).isEqualTo(200);
+    }
+
+    private static byte[] encode(int width, int height, int type, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), format, output);
+        return output.toByteArray();
+    }
+}
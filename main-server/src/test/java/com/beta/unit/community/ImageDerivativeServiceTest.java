@@ -0,0 +1,140 @@
+package com.beta.unit.community;
+
+import com.beta.application.community.dto.ImageDto;
+import com.beta.application.community.service.ImageDerivativeService;
+import com.beta.application.community.service.PostImageWriteService;
+import com.beta.domain.community.service.ImageDerivativeGenerator;
+import com.beta.domain.community.service.ImageDerivativeGenerator.Derivatives;
+import com.beta.domain.community.service.ImageDerivativeGenerator.Rendition;
+import com.beta.infra.community.gcs.ImageObjectStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImageDerivativeService 단위 테스트")
+class ImageDerivativeServiceTest {
+
+    private static final byte[] FEED_BYTES = {1, 2, 3};
+
+    @Mock
+    private ImageDerivativeGenerator imageDerivativeGenerator;
+    @Mock
+    private ImageObjectStorage imageObjectStorage;
+    @Mock
+    private PostImageWriteService postImageWriteService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ImageDerivativeService imageDerivativeService;
+
+    @BeforeEach
+    void setUp() {
+        imageDerivativeService = new ImageDerivativeService(
+                imageDerivativeGenerator, imageObjectStorage, postImageWriteService, meterRegistry);
+        ReflectionTestUtils.setField(imageDerivativeService, "retryDelayMillis", 10L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(imageDerivativeService, "shutdownDerivativeExecutor");
+    }
+
+    @Test
+    @DisplayName("파생 이미지를 원본 옆에 저장하고, 원본을 그대로 쓰는 크기는 원본 URL로 기록한다")
+    void should_storeDerivativesNextToOriginal() throws Exception {
+        // given
+        ImageDto image = image();
+        when(imageObjectStorage.openStream("2025-01-01/a.jpg")).thenReturn(new ByteArrayInputStream(new byte[0]));
+        when(imageDerivativeGenerator.generate(any(), anyString())).thenReturn(new Derivatives(
+                new Rendition(FEED_BYTES, 640, 320), new Rendition(null, 1200, 600)));
+        when(imageObjectStorage.write("2025-01-01/a_feed.jpg", "image/jpeg", FEED_BYTES))
+                .thenReturn("https://cdn/2025-01-01/a_feed.jpg");
+
+        // when
+        imageDerivativeService.generate(image);
+
+        // then
+        verify(imageObjectStorage, times(1)).write(anyString(), anyString(), any());
+        verify(postImageWriteService).saveDerivatives(1L,
+                "https://cdn/2025-01-01/a_feed.jpg", 640, 320,
+                "https://cdn/2025-01-01/a.jpg", 1200, 600);
+    }
+
+    @Test
+    @DisplayName("원본을 읽지 못하면 예외를 던지고 기록하지 않는다")
+    void should_throw_when_originalUnreadable() throws Exception {
+        // given
+        when(imageObjectStorage.openStream(anyString())).thenThrow(new IOException("not found"));
+
+        // when & then
+        assertThatThrownBy(() -> imageDerivativeService.generate(image())).isInstanceOf(IOException.class);
+        verify(postImageWriteService, never()).saveDerivatives(anyLong(), any(), anyInt(), anyInt(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("비동기 생성이 실패하면 다시 시도해 기록하고 결과를 메트릭으로 남긴다")
+    void should_retry_when_generationFails() throws Exception {
+        // given
+        when(imageObjectStorage.openStream(anyString()))
+                .thenThrow(new IOException("temporary"))
+                .thenReturn(new ByteArrayInputStream(new byte[0]));
+        when(imageDerivativeGenerator.generate(any(), anyString())).thenReturn(new Derivatives(
+                new Rendition(null, 300, 200), new Rendition(null, 300, 200)));
+
+        // when
+        imageDerivativeService.generateAsync(image());
+
+        // then
+        verify(postImageWriteService, timeout(5_000)).saveDerivatives(1L,
+                "https://cdn/2025-01-01/a.jpg", 300, 200, "https://cdn/2025-01-01/a.jpg", 300, 200);
+        Thread.sleep(100); // 기록 뒤에 메트릭이 올라감
+        assertThat(meterRegistry.counter("community.image.derivative", "result", "failed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("community.image.derivative", "result", "success").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 횟수까지 실패하면 포기하고 abandoned 메트릭을 남긴다")
+    void should_giveUp_when_generationKeepsFailing() throws Exception {
+        // given
+        when(imageObjectStorage.openStream(anyString())).thenThrow(new IOException("broken"));
+
+        // when
+        imageDerivativeService.generateAsync(image());
+
+        // then
+        verify(imageObjectStorage, timeout(5_000).times(3)).openStream(anyString());
+        Thread.sleep(100); // 마지막 실패 처리 대기
+        assertThat(meterRegistry.counter("community.image.derivative", "result", "abandoned").count()).isEqualTo(1);
+        verify(imageObjectStorage, times(3)).openStream(anyString());
+    }
+
+    private ImageDto image() {
+        return ImageDto.builder()
+                .postImageId(1L)
+                .imgUrl("https://cdn/2025-01-01/a.jpg")
+                .newName("2025-01-01/a.jpg")
+                .mimeType("image/jpeg")
+                .build();
+    }
+}
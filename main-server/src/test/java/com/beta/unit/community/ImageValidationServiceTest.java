@@ -14,11 +14,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ImageValidationService 단위 테스트")
@@ -151,6 +155,25 @@ class ImageValidationServiceTest {
             assertThatThrownBy(() -> imageValidationService.validateImages(images))
                     .isInstanceOf(InvalidImageTypeException.class);
         }
+
+        @Test
+        @DisplayName("파일 전체를 읽지 않고 앞부분 매직 바이트만 스트림으로 읽어 검증한다")
+        void should_readOnlyHeader_when_validatingMimeType() throws Exception {
+            // given
+            byte[] jpegHeader = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 0x10, 0x4A, 0x46};
+            InputStream inputStream = spy(new SequenceInputStream(
+                    new ByteArrayInputStream(jpegHeader), new ByteArrayInputStream(new byte[1024 * 1024])));
+            MultipartFile image = mock(MultipartFile.class);
+            when(image.getSize()).thenReturn(1024L * 1024 + jpegHeader.length);
+            when(image.getInputStream()).thenReturn(inputStream);
+
+            // when
+            imageValidationService.validateImages(List.of(image));
+
+            // then
+            verify(image, never()).getBytes();
+            verify(inputStream).close();
+        }
     }
 
     @Nested
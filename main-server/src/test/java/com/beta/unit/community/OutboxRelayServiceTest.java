@@ -0,0 +1,110 @@
+package com.beta.unit.community;
+
+import com.beta.application.community.event.OutboxEventCodec;
+import com.beta.application.community.event.PostChangedEvent;
+import com.beta.application.community.event.RelayedEvent;
+import com.beta.application.community.service.OutboxRelayService;
+import com.beta.infra.community.redis.CommunityEventStreamRedisRepository;
+import com.beta.infra.community.repository.OutboxEventRepository;
+import com.beta.infra.community.repository.dao.OutboxEventRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelayService 단위 테스트")
+class OutboxRelayServiceTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private CommunityEventStreamRedisRepository communityEventStreamRedisRepository;
+
+    @Mock
+    private OutboxEventCodec outboxEventCodec;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private OutboxRelayService outboxRelayService;
+
+    private final OutboxEventRow row = new OutboxEventRow(100L, "PostChangedEvent", 1L, "{\"postId\":1}");
+
+    @Test
+    @DisplayName("아웃박스 이벤트를 Stream에 적재하고 로컬 리스너에 전달한 뒤 삭제한다")
+    void should_appendDeliverAndDelete_when_outboxHasEvents() {
+        // given
+        when(communityEventStreamRedisRepository.tryLockRelay(any())).thenReturn("token");
+        when(outboxEventRepository.findOldest(200)).thenReturn(List.of(row));
+        when(outboxEventCodec.decode(row)).thenReturn(new PostChangedEvent(1L));
+
+        // when
+        outboxRelayService.relay();
+
+        // then
+        verify(communityEventStreamRedisRepository).appendAll(List.of(row));
+        verify(eventPublisher).publishEvent(new RelayedEvent<>(100L, new PostChangedEvent(1L)));
+        verify(outboxEventRepository).deleteAllByIds(List.of(100L));
+        verify(communityEventStreamRedisRepository).unlockRelay("token");
+    }
+
+    @Test
+    @DisplayName("Stream 적재에 실패하면 전달/삭제하지 않고 다음 주기에 재시도한다")
+    void should_keepEvents_when_streamAppendFails() {
+        // given
+        when(communityEventStreamRedisRepository.tryLockRelay(any())).thenReturn("token");
+        when(outboxEventRepository.findOldest(200)).thenReturn(List.of(row));
+        doThrow(new RedisConnectionFailureException("down")).when(communityEventStreamRedisRepository).appendAll(anyList());
+
+        // when
+        outboxRelayService.relay();
+
+        // then
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        verify(outboxEventRepository, never()).deleteAllByIds(anyList());
+        verify(communityEventStreamRedisRepository).unlockRelay("token");
+    }
+
+    @Test
+    @DisplayName("로컬 전달에 실패한 이벤트가 있어도 배치는 삭제한다")
+    void should_deleteBatch_when_localDeliveryFails() {
+        // given
+        when(communityEventStreamRedisRepository.tryLockRelay(any())).thenReturn("token");
+        when(outboxEventRepository.findOldest(200)).thenReturn(List.of(row));
+        when(outboxEventCodec.decode(row)).thenThrow(new IllegalArgumentException("unknown"));
+
+        // when
+        outboxRelayService.relay();
+
+        // then
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        verify(outboxEventRepository).deleteAllByIds(List.of(100L));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 릴레이 중이면 아웃박스를 읽지 않는다")
+    void should_skip_when_lockNotAcquired() {
+        // given
+        when(communityEventStreamRedisRepository.tryLockRelay(any())).thenReturn(null);
+
+        // when
+        outboxRelayService.relay();
+
+        // then
+        verifyNoInteractions(outboxEventRepository, eventPublisher);
+        verify(communityEventStreamRedisRepository, never()).unlockRelay(any());
+    }
+}
@@ -1,13 +1,16 @@
 package com.beta.unit.community;
 
 import com.beta.application.community.dto.ImageDto;
+import com.beta.application.community.event.PostChangedEvent;
 import com.beta.application.community.service.PostImageWriteService;
+import com.beta.common.exception.image.ImageOrderMismatchException;
 import com.beta.common.exception.image.ImageUploadFailedException;
 import com.beta.domain.community.service.ImageValidationService;
 import com.beta.infra.community.entity.PostImageEntity;
 import com.beta.infra.community.entity.Status;
 import com.beta.infra.community.gcs.GcsStorageClient;
 import com.beta.infra.community.repository.ImageErrorJpaRepository;
+import com.beta.infra.community.repository.PostImageBatchRepository;
 import com.beta.infra.community.repository.PostImageJpaRepository;
 import com.beta.infra.community.repository.PostJpaRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -16,10 +19,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,9 +44,13 @@ class PostImageWriteServiceTest {
     @Mock
     private PostImageJpaRepository postImageJpaRepository;
     @Mock
+    private PostImageBatchRepository postImageBatchRepository;
+    @Mock
     private ImageErrorJpaRepository imageErrorJpaRepository;
     @Mock
     private PostJpaRepository postJpaRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private PostImageWriteService postImageWriteService;
@@ -90,6 +102,32 @@ class PostImageWriteServiceTest {
         verify(gcsStorageClient).delete("uploaded.jpg");
     }
 
+    @Test
+    @DisplayName("이미지 업로드 - 여러 이미지를 동시에 업로드하고 요청한 순서대로 반환")
+    void uploadImages_uploadsConcurrently_and_keepsOrder() throws Exception {
+        // given
+        MultipartFile file1 = new MockMultipartFile("test1", "test1.jpg", "image/jpeg", "test1".getBytes());
+        MultipartFile file2 = new MockMultipartFile("test2", "test2.jpg", "image/jpeg", "test2".getBytes());
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        doNothing().when(imageValidationService).validateImages(any());
+        when(gcsStorageClient.upload(any(), anyLong())).thenAnswer(invocation -> {
+            MultipartFile file = invocation.getArgument(0);
+            bothStarted.countDown();
+            if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("uploads did not run concurrently");
+            }
+            return ImageDto.builder().newName(file.getOriginalFilename()).build();
+        });
+
+        // when
+        List<ImageDto> result = postImageWriteService.uploadImages(List.of(file1, file2), 1L);
+
+        // then
+        assertThat(result).extracting(ImageDto::getNewName).containsExactly("test1.jpg", "test2.jpg");
+        verify(gcsStorageClient, never()).delete(anyString());
+    }
+
     @Test
     @DisplayName("이미지 메타데이터 저장 - 정상 동작")
     void saveImagesMetadata_success() {
@@ -130,4 +168,93 @@ class PostImageWriteServiceTest {
         assertThat(result).hasSize(1);
         verify(image).markForDeletion();
     }
+
+    @Test
+    @DisplayName("이미지 순서 변경 - 요청 순서대로 1부터 정렬값을 매겨 한 번에 반영")
+    void reorderImages_success() {
+        // given
+        PostImageEntity image1 = mock(PostImageEntity.class);
+        PostImageEntity image2 = mock(PostImageEntity.class);
+        when(image1.getId()).thenReturn(10L);
+        when(image2.getId()).thenReturn(20L);
+        when(postImageJpaRepository.findAllByPostIdAndStatusIn(1L, List.of(Status.ACTIVE)))
+                .thenReturn(List.of(image1, image2));
+        when(postImageBatchRepository.reorderImages(1L, Map.of(20L, 1, 10L, 2))).thenReturn(2);
+
+        // when
+        List<ImageDto> result = postImageWriteService.reorderImages(1L, List.of(20L, 10L));
+
+        // then
+        assertThat(result).extracting(ImageDto::getPostImageId).containsExactly(20L, 10L);
+        assertThat(result).extracting(ImageDto::getSort).containsExactly(1, 2);
+        verify(eventPublisher).publishEvent(any(PostChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("이미지 순서 변경 - 중복된 id로 ACTIVE 이미지를 모두 채우지 못하면 예외")
+    void reorderImages_throwsException_when_imageIdsDuplicated() {
+        // given
+        PostImageEntity image1 = mock(PostImageEntity.class);
+        PostImageEntity image2 = mock(PostImageEntity.class);
+        when(image1.getId()).thenReturn(10L);
+        when(image2.getId()).thenReturn(20L);
+        when(postImageJpaRepository.findAllByPostIdAndStatusIn(1L, List.of(Status.ACTIVE)))
+                .thenReturn(List.of(image1, image2));
+
+        // when & then
+        assertThatThrownBy(() -> postImageWriteService.reorderImages(1L, List.of(10L, 10L)))
+                .isInstanceOf(ImageOrderMismatchException.class);
+        verifyNoInteractions(postImageBatchRepository);
+    }
+
+    @Test
+    @DisplayName("이미지 삭제 - 원본과 함께 파생 이미지 객체도 삭제")
+    void deleteImages_deletesDerivatives() throws Exception {
+        // given
+        ImageDto image = ImageDto.builder()
+                .imgUrl("https://test.com/2025-01-01/a.jpg")
+                .newName("2025-01-01/a.jpg")
+                .build();
+        when(gcsStorageClient.delete(anyString())).thenReturn(true);
+
+        // when
+        postImageWriteService.deleteImages(List.of(image), 1L);
+
+        // then
+        verify(gcsStorageClient).delete("2025-01-01/a.jpg");
+        verify(gcsStorageClient).delete("2025-01-01/a_feed.jpg");
+        verify(gcsStorageClient).delete("2025-01-01/a_detail.jpg");
+        verifyNoInteractions(imageErrorJpaRepository);
+    }
+
+    @Test
+    @DisplayName("파생 이미지 기록 - 파생 컬럼만 UPDATE하고 게시글 캐시 무효화 이벤트 발행")
+    void saveDerivatives_updatesOnlyDerivativeColumns() {
+        // given
+        PostImageEntity image = mock(PostImageEntity.class);
+        when(image.getPostId()).thenReturn(5L);
+        when(postImageBatchRepository.updateDerivatives(1L, "feed.jpg", 640, 320, "detail.jpg", 1440, 720)).thenReturn(1);
+        when(postImageJpaRepository.findById(1L)).thenReturn(Optional.of(image));
+
+        // when
+        postImageWriteService.saveDerivatives(1L, "feed.jpg", 640, 320, "detail.jpg", 1440, 720);
+
+        // then
+        verify(postImageJpaRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(new PostChangedEvent(5L));
+    }
+
+    @Test
+    @DisplayName("파생 이미지 기록 - 그 사이 삭제된 이미지면 아무것도 하지 않음")
+    void saveDerivatives_skips_when_imageDeleted() {
+        // given
+        when(postImageBatchRepository.updateDerivatives(1L, "feed.jpg", 640, 320, "detail.jpg", 1440, 720)).thenReturn(0);
+
+        // when
+        postImageWriteService.saveDerivatives(1L, "feed.jpg", 640, 320, "detail.jpg", 1440, 720);
+
+        // then
+        verify(postImageJpaRepository, never()).findById(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
 }
@@ -1,10 +1,28 @@
 package com.beta.unit.community;
 
+import com.beta.application.community.dto.PostSearchResultDto;
+import com.beta.application.community.dto.PostWithImagesDto;
+import com.beta.application.community.service.EngagementCounterService;
 import com.beta.application.community.service.PostReadService;
+import com.beta.common.datasource.DataSourceRoutingContext;
+import com.beta.common.exception.post.InvalidPostFeedRequestException;
 import com.beta.common.exception.post.PostAccessDeniedException;
 import com.beta.common.exception.post.PostNotFoundException;
+import com.beta.infra.community.cache.PostDetailCache;
+import com.beta.infra.community.entity.HashtagEntity;
 import com.beta.infra.community.entity.PostEntity;
+import com.beta.infra.community.entity.Status;
+import com.beta.infra.community.redis.PostRankingRedisRepository;
+import com.beta.infra.community.redis.PostTimelineRedisRepository;
+import com.beta.infra.community.repository.HashtagJpaRepository;
+import com.beta.infra.community.repository.HashtagMatchType;
+import com.beta.infra.community.repository.PostHashtagRepository;
 import com.beta.infra.community.repository.PostJpaRepository;
+import com.beta.infra.community.repository.PostSortType;
+import com.beta.infra.community.repository.dao.PostCounterDelta;
+import com.beta.infra.community.repository.dao.PostRow;
+import com.beta.infra.community.repository.dao.PostSearchRow;
+import com.beta.infra.community.repository.dao.PostWithImages;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,9 +30,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +50,24 @@ class PostReadServiceTest {
     @Mock
     private PostJpaRepository postJpaRepository;
 
+    @Mock
+    private PostTimelineRedisRepository postTimelineRedisRepository;
+
+    @Mock
+    private PostDetailCache postDetailCache;
+
+    @Mock
+    private PostRankingRedisRepository postRankingRedisRepository;
+
+    @Mock
+    private HashtagJpaRepository hashtagJpaRepository;
+
+    @Mock
+    private PostHashtagRepository postHashtagRepository;
+
+    @Mock
+    private EngagementCounterService engagementCounterService;
+
     @InjectMocks
     private PostReadService postReadService;
 
@@ -92,4 +136,289 @@ class PostReadServiceTest {
                 .isInstanceOf(PostAccessDeniedException.class)
                 .hasMessage("게시글에 대한 권한이 없습니다.");
     }
+
+    @Test
+    @DisplayName("채널 피드 조회 시 채널과 정렬 기준을 변환하여 조회한다")
+    void should_returnPosts_when_getChannelPosts() {
+        // given
+        PostWithImages post = new PostWithImages(10L, 100L, "내용", "DOOSAN", 0, 3, 0, 0, 0, 3,
+                LocalDateTime.now(), List.of(new PostWithImages.Images(1L, "https://test.com/1.jpg", 1)));
+        when(postJpaRepository.findChannelPosts(PostEntity.Channel.DOOSAN, PostSortType.EMOTION, 20L, 5, 21))
+                .thenReturn(List.of(post));
+
+        // when
+        List<PostWithImagesDto> result = postReadService.getChannelPosts("doosan", "emotion", 20L, 5, 21);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().getPostId()).isEqualTo(10L);
+        assertThat(result.getFirst().getEmotionCount()).isEqualTo(3);
+        assertThat(result.getFirst().getImages()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("최신순 피드 조회 시 Redis 타임라인의 postId로 조회하고 부족한 만큼 MySQL에서 채운다")
+    void should_fillFromDatabase_when_timelineShorterThanPage() {
+        // given
+        PostWithImages cached = new PostWithImages(30L, 100L, "캐시", "LG", 0, 0, 0, 0, 0, 0,
+                LocalDateTime.now(), List.of());
+        PostWithImages fromDb = new PostWithImages(29L, 100L, "DB", "LG", 0, 0, 0, 0, 0, 0,
+                LocalDateTime.now(), List.of());
+        when(postTimelineRedisRepository.findPostIds(PostEntity.Channel.LG, null, 3))
+                .thenReturn(Optional.of(List.of(30L)));
+        when(postJpaRepository.findPostsWithImages(List.of(30L))).thenReturn(List.of(cached));
+        when(postJpaRepository.findChannelPosts(PostEntity.Channel.LG, PostSortType.LATEST, 30L, null, 2))
+                .thenReturn(List.of(fromDb));
+
+        // when
+        List<PostWithImagesDto> result = postReadService.getChannelPosts("LG", "LATEST", null, null, 3);
+
+        // then
+        assertThat(result).extracting(PostWithImagesDto::getPostId).containsExactly(30L, 29L);
+    }
+
+    @Test
+    @DisplayName("최신순 피드의 타임라인에 삭제된 게시글이 섞여 있으면 빠진 만큼 MySQL에서 이어서 채운다")
+    void should_topUpFromDatabase_when_timelineContainsDeletedPosts() {
+        // given
+        PostWithImages active = new PostWithImages(30L, 100L, "활성", "LG", 0, 0, 0, 0, 0, 0,
+                LocalDateTime.now(), List.of());
+        PostWithImages fromDb = new PostWithImages(27L, 100L, "DB", "LG", 0, 0, 0, 0, 0, 0,
+                LocalDateTime.now(), List.of());
+        when(postTimelineRedisRepository.findPostIds(PostEntity.Channel.LG, null, 3))
+                .thenReturn(Optional.of(List.of(30L, 29L, 28L))); // 29, 28은 삭제됨
+        when(postJpaRepository.findPostsWithImages(List.of(30L, 29L, 28L))).thenReturn(List.of(active));
+        when(postJpaRepository.findChannelPosts(PostEntity.Channel.LG, PostSortType.LATEST, 28L, null, 2))
+                .thenReturn(List.of(fromDb));
+
+        // when
+        List<PostWithImagesDto> result = postReadService.getChannelPosts("LG", "LATEST", null, null, 3);
+
+        // then
+        assertThat(result).extracting(PostWithImagesDto::getPostId).containsExactly(30L, 27L);
+    }
+
+    @Test
+    @DisplayName("인기순 피드 조회 시 Redis 랭킹 순서대로 게시글을 조회한다")
+    void should_returnRankedPosts_when_getChannelPostsSortedByHot() {
+        // given
+        PostWithImages first = new PostWithImages(7L, 100L, "인기", "KIA", 10, 30, 0, 0, 0, 30,
+                LocalDateTime.now(), List.of());
+        PostWithImages second = new PostWithImages(9L, 100L, "최신", "KIA", 0, 1, 0, 0, 0, 1,
+                LocalDateTime.now(), List.of());
+        when(postRankingRedisRepository.findPostIds(PostEntity.Channel.KIA, 3L, 21))
+                .thenReturn(Optional.of(List.of(7L, 9L)));
+        when(postJpaRepository.findPostsWithImages(List.of(7L, 9L))).thenReturn(List.of(first, second));
+
+        // when
+        List<PostWithImagesDto> result = postReadService.getChannelPosts("KIA", "HOT", 3L, null, 21);
+
+        // then
+        assertThat(result).extracting(PostWithImagesDto::getPostId).containsExactly(7L, 9L);
+        verify(postJpaRepository, never()).findChannelPosts(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("인기순 랭킹에 삭제된 게시글이 섞여 있으면 다음 순위부터 이어서 채운다")
+    void should_topUpFromRanking_when_rankedPostsDeleted() {
+        // given
+        PostWithImages first = new PostWithImages(7L, 100L, "인기", "KIA", 10, 30, 0, 0, 0, 30,
+                LocalDateTime.now(), List.of());
+        PostWithImages next = new PostWithImages(5L, 100L, "다음", "KIA", 0, 5, 0, 0, 0, 5,
+                LocalDateTime.now(), List.of());
+        when(postRankingRedisRepository.findPostIds(PostEntity.Channel.KIA, null, 2))
+                .thenReturn(Optional.of(List.of(7L, 8L))); // 8은 삭제됨
+        when(postJpaRepository.findPostsWithImages(List.of(7L, 8L))).thenReturn(List.of(first));
+        when(postRankingRedisRepository.findPostIds(PostEntity.Channel.KIA, 8L, 1))
+                .thenReturn(Optional.of(List.of(5L)));
+        when(postJpaRepository.findPostsWithImages(List.of(5L))).thenReturn(List.of(next));
+
+        // when
+        List<PostWithImagesDto> result = postReadService.getChannelPosts("KIA", "HOT", null, null, 2);
+
+        // then
+        assertThat(result).extracting(PostWithImagesDto::getPostId).containsExactly(7L, 5L);
+    }
+
+    @Test
+    @DisplayName("인기순 랭킹이 비어 있으면 최근 게시글로 점수를 계산해 적재한다")
+    void should_loadRanking_when_hotRankingMissing() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        PostRow fresh = new PostRow(2L, 100L, "방금", PostEntity.Channel.KIA, 0, 0, 0, 0, 0, 0, now);
+        PostRow popular = new PostRow(1L, 100L, "인기", PostEntity.Channel.KIA, 50, 500, 0, 0, 0, 500, now.minusHours(1));
+        when(postRankingRedisRepository.findPostIds(PostEntity.Channel.KIA, null, 2)).thenReturn(Optional.empty());
+        when(postJpaRepository.findLatestPostRows(eq(PostEntity.Channel.KIA), eq(Status.ACTIVE), any()))
+                .thenReturn(List.of(fresh, popular));
+        when(postJpaRepository.findPostsWithImages(List.of(1L, 2L))).thenReturn(List.of());
+
+        // when
+        postReadService.getChannelPosts("KIA", "HOT", null, null, 2);
+
+        // then
+        verify(postRankingRedisRepository).addAll(eq(PostEntity.Channel.KIA), anyMap(), anyMap());
+        verify(postJpaRepository).findPostsWithImages(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("해시태그 피드 조회 시 사용 횟수가 적은 태그부터 태그 id로 게시글 id를 찾아 순서대로 조회한다")
+    void should_returnPosts_when_getHashtagPosts() {
+        // given
+        HashtagEntity baseball = mock(HashtagEntity.class);
+        HashtagEntity doosan = mock(HashtagEntity.class);
+        when(baseball.getId()).thenReturn(1L);
+        when(doosan.getId()).thenReturn(2L);
+        when(baseball.getUsageCount()).thenReturn(10L);
+        when(doosan.getUsageCount()).thenReturn(3L);
+        PostWithImages post = new PostWithImages(40L, 100L, "내용", "DOOSAN", 0, 0, 0, 0, 0, 0,
+                LocalDateTime.now(), List.of());
+        when(hashtagJpaRepository.findByTagNameIn(List.of("야구", "두산"))).thenReturn(List.of(baseball, doosan));
+        when(postHashtagRepository.findPostIdsByHashtags(List.of(2L, 1L), HashtagMatchType.AND, 50L, 21))
+                .thenReturn(List.of(40L));
+        when(postJpaRepository.findPostsWithImages(List.of(40L))).thenReturn(List.of(post));
+
+        // when
+        List<PostWithImagesDto> result = postReadService.getHashtagPosts(List.of("#야구", "두산"), "and", 50L, 21);
+
+        // then
+        assertThat(result).extracting(PostWithImagesDto::getPostId).containsExactly(40L);
+    }
+
+    @Test
+    @DisplayName("AND 조건에 존재하지 않는 해시태그가 포함되면 게시글을 조회하지 않는다")
+    void should_returnEmptyList_when_getHashtagPostsWithUnknownTagInAnd() {
+        // given
+        HashtagEntity baseball = mock(HashtagEntity.class);
+        when(hashtagJpaRepository.findByTagNameIn(List.of("야구", "없는태그"))).thenReturn(List.of(baseball));
+
+        // when
+        List<PostWithImagesDto> result = postReadService.getHashtagPosts(List.of("야구", "없는태그"), "AND", null, 21);
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(postHashtagRepository);
+    }
+
+    @Test
+    @DisplayName("해시태그를 5개 초과로 지정하면 InvalidPostFeedRequestException을 발생시킨다")
+    void should_throwInvalidPostFeedRequestException_when_getHashtagPostsWithTooManyTags() {
+        // when & then
+        assertThatThrownBy(() -> postReadService.getHashtagPosts(List.of("a", "b", "c", "d", "e", "f"), "OR", null, 21))
+                .isInstanceOf(InvalidPostFeedRequestException.class);
+        verifyNoInteractions(hashtagJpaRepository);
+    }
+
+    @Test
+    @DisplayName("검색 시 검색어를 BOOLEAN MODE 구문으로 변환하고 관련도 순서를 유지한다")
+    void should_returnPostsInRelevanceOrder_when_searchPosts() {
+        // given
+        PostWithImages first = new PostWithImages(5L, 100L, "두산 끝내기 홈런", "DOOSAN", 0, 0, 0, 0, 0, 0,
+                LocalDateTime.now(), List.of());
+        PostWithImages second = new PostWithImages(8L, 100L, "두산 끝내기", "DOOSAN", 0, 0, 0, 0, 0, 0,
+                LocalDateTime.now(), List.of());
+        when(postJpaRepository.searchPostIds("+\"두산\" +\"끝내기\"", PostEntity.Channel.DOOSAN, null, null, 21))
+                .thenReturn(List.of(new PostSearchRow(5L, 1.2), new PostSearchRow(8L, 0.8)));
+        when(postJpaRepository.findPostsWithImages(List.of(5L, 8L))).thenReturn(List.of(second, first));
+
+        // when
+        List<PostSearchResultDto> result = postReadService.searchPosts(" 두산  +끝내기\" 홈 ", "doosan", null, null, 21);
+
+        // then
+        assertThat(result).extracting(dto -> dto.getPost().getPostId()).containsExactly(5L, 8L);
+        assertThat(result).extracting(PostSearchResultDto::getScore).containsExactly(1.2, 0.8);
+    }
+
+    @Test
+    @DisplayName("검색어가 모두 2글자 미만이면 InvalidPostFeedRequestException을 발생시킨다")
+    void should_throwInvalidPostFeedRequestException_when_searchPostsWithShortKeyword() {
+        // when & then
+        assertThatThrownBy(() -> postReadService.searchPosts("홈 +", null, null, null, 21))
+                .isInstanceOf(InvalidPostFeedRequestException.class);
+        verifyNoInteractions(postJpaRepository);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 채널로 피드 조회 시 InvalidPostFeedRequestException을 발생시킨다")
+    void should_throwInvalidPostFeedRequestException_when_getChannelPostsWithUnknownChannel() {
+        // when & then
+        assertThatThrownBy(() -> postReadService.getChannelPosts("UNKNOWN", "LATEST", null, null, 21))
+                .isInstanceOf(InvalidPostFeedRequestException.class);
+        verifyNoInteractions(postJpaRepository);
+    }
+
+    @Test
+    @DisplayName("반응순 조회 시 cursorEmotionCount 없이 cursorId만 전달하면 예외를 발생시킨다")
+    void should_throwInvalidPostFeedRequestException_when_emotionCursorIncomplete() {
+        // when & then
+        assertThatThrownBy(() -> postReadService.getChannelPosts("DOOSAN", "EMOTION", 20L, null, 21))
+                .isInstanceOf(InvalidPostFeedRequestException.class);
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회 시 캐시를 거쳐 조회한다")
+    void should_returnPost_when_getPostWithImagesFromCache() {
+        // given
+        PostWithImages post = new PostWithImages(1L, 100L, "내용", "ALL", 0, 0, 0, 0, 0, 0,
+                LocalDateTime.now(), List.of());
+        when(postDetailCache.get(eq(1L), any())).thenReturn(Optional.of(post));
+
+        // when
+        PostWithImagesDto result = postReadService.getPostWithImages(1L);
+
+        // then
+        assertThat(result.getPostId()).isEqualTo(1L);
+        verify(postJpaRepository, never()).findPostWithImages(any());
+    }
+
+    @Test
+    @DisplayName("게시글 상세 캐시 미스는 읽기 전용 트랜잭션이어도 원본에서 읽는다")
+    void should_loadFromPrimary_when_detailCacheMiss() {
+        // given
+        PostWithImages post = new PostWithImages(1L, 100L, "내용", "ALL", 0, 0, 0, 0, 0, 0,
+                LocalDateTime.now(), List.of());
+        when(postDetailCache.get(eq(1L), any())).thenAnswer(invocation ->
+                invocation.<Function<Long, Optional<PostWithImages>>>getArgument(1).apply(1L));
+        when(postJpaRepository.findPostWithImages(1L)).thenAnswer(invocation -> {
+            assertThat(DataSourceRoutingContext.isPinnedToPrimary()).isTrue();
+            return Optional.of(post);
+        });
+
+        // when
+        PostWithImagesDto result = postReadService.getPostWithImages(1L);
+
+        // then
+        assertThat(result.getPostId()).isEqualTo(1L);
+        assertThat(DataSourceRoutingContext.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회 시 아직 DB에 반영되지 않은 반응/댓글 수를 더해 반환한다")
+    void should_addPendingCounts_when_getPostWithImages() {
+        // given
+        PostWithImages post = new PostWithImages(1L, 100L, "내용", "ALL", 2, 5, 0, 0, 1, 6,
+                LocalDateTime.now(), List.of());
+        when(postDetailCache.get(eq(1L), any())).thenReturn(Optional.of(post));
+        when(engagementCounterService.getPendingPostDeltas(List.of(1L)))
+                .thenReturn(Map.of(1L, new PostCounterDelta(1, 3, 0, 0, -1)));
+
+        // when
+        PostWithImagesDto result = postReadService.getPostWithImages(1L);
+
+        // then
+        assertThat(result.getCommentCount()).isEqualTo(3);
+        assertThat(result.getLikeCount()).isEqualTo(8);
+        assertThat(result.getHypeCount()).isZero();
+        assertThat(result.getEmotionCount()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("캐시에 존재하지 않는 게시글로 기록된 경우 PostNotFoundException을 발생시킨다")
+    void should_throwPostNotFoundException_when_getPostWithImagesCachedAsMissing() {
+        // given
+        when(postDetailCache.get(eq(999L), any())).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> postReadService.getPostWithImages(999L))
+                .isInstanceOf(PostNotFoundException.class);
+    }
 }
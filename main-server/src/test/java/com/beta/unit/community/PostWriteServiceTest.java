@@ -1,25 +1,44 @@
 package com.beta.unit.community;
 
+import com.beta.application.community.dto.EmotionToggleDto;
+import com.beta.application.community.event.EmotionChangedEvent;
+import com.beta.application.community.event.HashtagsUpsertedEvent;
+import com.beta.application.community.event.PostCreatedEvent;
+import com.beta.application.community.event.PostDeletedEvent;
+import com.beta.application.community.event.PostEngagementChangedEvent;
 import com.beta.application.community.service.PostWriteService;
+import com.beta.common.exception.post.EmotionUnavailableException;
 import com.beta.common.exception.post.HashtagCountExceededException;
 import com.beta.common.exception.post.PostAccessDeniedException;
 import com.beta.common.exception.post.PostNotFoundException;
+import com.beta.infra.community.cache.HashtagIdCache;
+import com.beta.infra.community.entity.EmotionEntity;
 import com.beta.infra.community.entity.HashtagEntity;
 import com.beta.infra.community.entity.PostEntity;
+import com.beta.infra.community.entity.Status;
+import com.beta.infra.community.redis.PostEmotionRedisRepository;
+import com.beta.infra.community.repository.EmotionJpaRepository;
+import com.beta.infra.community.repository.HashtagBatchRepository;
 import com.beta.infra.community.repository.HashtagJpaRepository;
 import com.beta.infra.community.repository.PostHashtagRepository;
+import com.beta.infra.community.repository.PostImageBatchRepository;
 import com.beta.infra.community.repository.PostImageJpaRepository;
 import com.beta.infra.community.repository.PostJpaRepository;
+import com.beta.presentation.community.request.Image;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -35,7 +54,19 @@ class PostWriteServiceTest {
     @Mock
     private PostImageJpaRepository postImageJpaRepository;
     @Mock
+    private PostImageBatchRepository postImageBatchRepository;
+    @Mock
     private HashtagJpaRepository hashtagJpaRepository;
+    @Mock
+    private HashtagBatchRepository hashtagBatchRepository;
+    @Mock
+    private HashtagIdCache hashtagIdCache;
+    @Mock
+    private EmotionJpaRepository emotionJpaRepository;
+    @Mock
+    private PostEmotionRedisRepository postEmotionRedisRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private PostWriteService postWriteService;
@@ -54,6 +85,7 @@ class PostWriteServiceTest {
 
         // then
         verify(postJpaRepository).save(any(PostEntity.class));
+        verify(eventPublisher).publishEvent(new PostCreatedEvent(1L, PostEntity.Channel.DOOSAN, null)); // 단위 테스트는 JPA Auditing이 없어 작성 시각이 비어 있음
     }
 
     @Test
@@ -72,7 +104,7 @@ class PostWriteServiceTest {
     }
 
     @Test
-    @DisplayName("게시글 저장 - 해시태그 있으면 upsert 호출됨")
+    @DisplayName("게시글 저장 - 해시태그를 정렬해 한 번에 upsert하고 연결 행도 한 번에 저장")
     void savePost_callsUpsert_when_hashtagsProvided() {
         // given
         PostEntity savedPost = mock(PostEntity.class);
@@ -82,7 +114,7 @@ class PostWriteServiceTest {
         HashtagEntity hashtag = mock(HashtagEntity.class);
         when(hashtag.getId()).thenReturn(10L);
         when(hashtag.getTagName()).thenReturn("야구");
-        when(hashtagJpaRepository.findByTagNameIn(any())).thenReturn(List.of(hashtag));
+        when(hashtagJpaRepository.findByTagNameIn(List.of("야구"))).thenReturn(List.of(hashtag));
 
         List<String> hashtags = List.of("야구");
 
@@ -90,10 +122,72 @@ class PostWriteServiceTest {
         postWriteService.savePost(1L, false, "내용", "DOOSAN", hashtags, null);
 
         // then
-        verify(hashtagJpaRepository).upsertHashTags("야구");
-        verify(postHashtagRepository).saveAll(any());
+        verify(hashtagBatchRepository).upsertHashtags(List.of("야구"));
+        verify(hashtagBatchRepository).insertPostHashtags(1L, List.of(10L));
+        verify(eventPublisher).publishEvent(new HashtagsUpsertedEvent(List.of(hashtag)));
+    }
+
+    @Test
+    @DisplayName("게시글 저장 - id가 캐시된 해시태그는 조회하지 않고 처음 보는 태그만 조회")
+    void savePost_looksUpOnlyUnknownHashtags_when_someHashtagsCached() {
+        // given
+        PostEntity savedPost = mock(PostEntity.class);
+        when(savedPost.getId()).thenReturn(1L);
+        when(postJpaRepository.save(any())).thenReturn(savedPost);
+        when(hashtagIdCache.getAll(List.of("두산", "야구", "응원"))).thenReturn(Map.of("두산", 20L, "응원", 30L));
+
+        HashtagEntity hashtag = mock(HashtagEntity.class);
+        when(hashtag.getId()).thenReturn(10L);
+        when(hashtag.getTagName()).thenReturn("야구");
+        when(hashtagJpaRepository.findByTagNameIn(List.of("야구"))).thenReturn(List.of(hashtag));
+
+        // when
+        postWriteService.savePost(1L, false, "내용", "DOOSAN", List.of("응원", "야구", "두산", "야구"), null);
+
+        // then
+        verify(hashtagBatchRepository).upsertHashtags(List.of("두산", "야구", "응원"));
+        verify(hashtagJpaRepository, times(1)).findByTagNameIn(any());
+        verify(hashtagBatchRepository).insertPostHashtags(1L, List.of(20L, 10L, 30L));
+        verify(postHashtagRepository, never()).saveAll(any());
     }
 
+    @Test
+    @DisplayName("게시글 저장 - 모든 해시태그 id가 캐시되어 있으면 해시태그를 조회하지 않음")
+    void savePost_skipsLookup_when_allHashtagsCached() {
+        // given
+        PostEntity savedPost = mock(PostEntity.class);
+        when(savedPost.getId()).thenReturn(1L);
+        when(postJpaRepository.save(any())).thenReturn(savedPost);
+        when(hashtagIdCache.getAll(List.of("야구"))).thenReturn(Map.of("야구", 10L));
+
+        // when
+        postWriteService.savePost(1L, false, "내용", "DOOSAN", List.of("야구"), null);
+
+        // then
+        verify(hashtagBatchRepository).insertPostHashtags(1L, List.of(10L));
+        verifyNoInteractions(hashtagJpaRepository);
+        verify(eventPublisher, never()).publishEvent(any(HashtagsUpsertedEvent.class));
+    }
+
+    @Test
+    @DisplayName("게시글 저장 - 이미지가 있으면 연결/활성화/정렬을 한 번에 반영")
+    void savePost_publishesImagesAtOnce_when_imagesProvided() {
+        // given
+        PostEntity savedPost = mock(PostEntity.class);
+        when(savedPost.getId()).thenReturn(1L);
+        when(postJpaRepository.save(any())).thenReturn(savedPost);
+
+        List<Image> images = List.of(
+                Image.builder().imageId(100L).sort(2).build(),
+                Image.builder().imageId(200L).sort(1).build()
+        );
+
+        // when
+        postWriteService.savePost(1L, false, "내용", "DOOSAN", null, images);
+
+        // then
+        verify(postImageBatchRepository).publishImages(1L, Map.of(100L, 2, 200L, 1));
+    }
 
     @Test
     @DisplayName("게시글 수정 - 존재하지 않는 게시글이면 예외")
@@ -192,5 +286,97 @@ class PostWriteServiceTest {
         // then
         verify(post).softDelete();
         verify(postJpaRepository).save(post);
+        verify(eventPublisher).publishEvent(any(PostDeletedEvent.class));
+    }
+
+    @Test
+    @DisplayName("반응 토글 - Redis에서 처리하고 DB는 조회하지 않으며 인기 랭킹/내 반응 이벤트를 발행한다")
+    void toggleEmotion_usesRedisOnly_when_stateLoaded() {
+        // given
+        PostEmotionRedisRepository.ToggleResult toggled = new PostEmotionRedisRepository.ToggleResult(
+                "NONE", "HYPE", 3, 0, 0, 5, PostEntity.Channel.LG, 1_700_000_000L, 2);
+        when(postEmotionRedisRepository.toggle(1L, 7L, EmotionEntity.EmotionType.HYPE)).thenReturn(Optional.of(toggled));
+
+        // when
+        EmotionToggleDto result = postWriteService.toggleEmotion(1L, "hype", 7L);
+
+        // then
+        assertThat(result.getEmotionType()).isEqualTo("HYPE");
+        assertThat(result.getLikeCount()).isEqualTo(3);
+        assertThat(result.getHypeCount()).isEqualTo(5);
+        verifyNoInteractions(postJpaRepository, emotionJpaRepository);
+        verify(eventPublisher).publishEvent(new EmotionChangedEvent(7L, 1L, "HYPE"));
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof PostEngagementChangedEvent e && e.delta() == 1 && e.baseEngagement() == 9));
+    }
+
+    @Test
+    @DisplayName("반응 토글 - Redis에 상태가 없으면 DB에서 적재한 뒤 다시 토글한다")
+    void toggleEmotion_loadsState_when_notLoaded() {
+        // given
+        PostEntity post = mock(PostEntity.class);
+        EmotionEntity existing = EmotionEntity.builder()
+                .postId(1L)
+                .userId(8L)
+                .emotionType(EmotionEntity.EmotionType.SAD)
+                .build();
+        PostEmotionRedisRepository.ToggleResult toggled = new PostEmotionRedisRepository.ToggleResult(
+                "LIKE", "NONE", 0, 1, 0, 0, PostEntity.Channel.LG, 1_700_000_000L, 0);
+        when(postEmotionRedisRepository.toggle(1L, 7L, EmotionEntity.EmotionType.LIKE))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(toggled));
+        when(post.getStatus()).thenReturn(Status.ACTIVE);
+        when(postJpaRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(emotionJpaRepository.findAllByPostId(1L)).thenReturn(List.of(existing));
+
+        // when
+        EmotionToggleDto result = postWriteService.toggleEmotion(1L, "LIKE", 7L);
+
+        // then
+        assertThat(result.getEmotionType()).isNull();
+        assertThat(result.getSadCount()).isEqualTo(1);
+        verify(postEmotionRedisRepository).load(post, Map.of(8L, EmotionEntity.EmotionType.SAD));
+        verify(eventPublisher).publishEvent(new EmotionChangedEvent(7L, 1L, null));
+    }
+
+    @Test
+    @DisplayName("반응 토글 - Redis 장애 시 DB에 직접 쓰지 않고 EmotionUnavailableException을 발생시킨다")
+    void toggleEmotion_throwsException_when_redisFails() {
+        // given
+        when(postEmotionRedisRepository.toggle(1L, 7L, EmotionEntity.EmotionType.FUN))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // when & then
+        assertThatThrownBy(() -> postWriteService.toggleEmotion(1L, "FUN", 7L))
+                .isInstanceOf(EmotionUnavailableException.class);
+        verifyNoInteractions(emotionJpaRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("반응 토글 - 게시글이 없으면 예외")
+    void toggleEmotion_throwsException_when_postNotFound() {
+        // given
+        when(postEmotionRedisRepository.toggle(999L, 1L, EmotionEntity.EmotionType.LIKE)).thenReturn(Optional.empty());
+        when(postJpaRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> postWriteService.toggleEmotion(999L, "LIKE", 1L))
+                .isInstanceOf(PostNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("반응 토글 - 삭제된 게시글은 반응 상태를 적재하지 않고 예외")
+    void toggleEmotion_throwsException_when_postDeleted() {
+        // given
+        PostEntity post = mock(PostEntity.class);
+        when(post.getStatus()).thenReturn(Status.DELETED);
+        when(postEmotionRedisRepository.toggle(1L, 7L, EmotionEntity.EmotionType.LIKE)).thenReturn(Optional.empty());
+        when(postJpaRepository.findById(1L)).thenReturn(Optional.of(post));
+
+        // when & then
+        assertThatThrownBy(() -> postWriteService.toggleEmotion(1L, "LIKE", 7L))
+                .isInstanceOf(PostNotFoundException.class);
+        verify(postEmotionRedisRepository, never()).load(any(), any());
+        verifyNoInteractions(eventPublisher);
     }
 }
@@ -0,0 +1,110 @@
+package com.beta.unit.community;
+
+import com.beta.application.community.service.ReactionReadService;
+import com.beta.infra.community.entity.EmotionEntity;
+import com.beta.infra.community.redis.UserReactionRedisRepository;
+import com.beta.infra.community.repository.CommentLikeJpaRepository;
+import com.beta.infra.community.repository.EmotionJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactionReadService 단위 테스트")
+class ReactionReadServiceTest {
+
+    @Mock
+    private UserReactionRedisRepository userReactionRedisRepository;
+
+    @Mock
+    private EmotionJpaRepository emotionJpaRepository;
+
+    @Mock
+    private CommentLikeJpaRepository commentLikeJpaRepository;
+
+    @InjectMocks
+    private ReactionReadService reactionReadService;
+
+    @Test
+    @DisplayName("캐시에 없는 게시글만 DB에서 한 번에 조회하고 반응 없음까지 캐시에 채운다")
+    void should_loadOnlyMissedPostsOnce_when_getMyEmotions() {
+        // given
+        when(userReactionRedisRepository.findEmotions(1L, List.of(10L, 20L, 30L)))
+                .thenReturn(Map.of(10L, "LIKE", 20L, UserReactionRedisRepository.NONE));
+        EmotionEntity emotion = EmotionEntity.builder()
+                .userId(1L)
+                .postId(30L)
+                .emotionType(EmotionEntity.EmotionType.HYPE)
+                .build();
+        when(emotionJpaRepository.findAllByUserIdAndPostIdIn(1L, List.of(30L))).thenReturn(List.of(emotion));
+
+        // when
+        Map<Long, String> result = reactionReadService.getMyEmotions(1L, List.of(10L, 20L, 30L, 10L));
+
+        // then
+        assertThat(result).containsExactly(Map.entry(10L, "LIKE"), Map.entry(30L, "HYPE"));
+        verify(emotionJpaRepository, times(1)).findAllByUserIdAndPostIdIn(anyLong(), any());
+        verify(userReactionRedisRepository).fillEmotions(1L, Map.of(30L, "HYPE"));
+    }
+
+    @Test
+    @DisplayName("모든 게시글이 캐시에 있으면 DB를 조회하지 않는다")
+    void should_skipDatabase_when_allEmotionsCached() {
+        // given
+        when(userReactionRedisRepository.findEmotions(1L, List.of(10L)))
+                .thenReturn(Map.of(10L, UserReactionRedisRepository.NONE));
+
+        // when
+        Map<Long, String> result = reactionReadService.getMyEmotions(1L, List.of(10L));
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(emotionJpaRepository);
+        verify(userReactionRedisRepository, never()).fillEmotions(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("좋아요하지 않은 댓글은 false로 캐시에 채우고 좋아요한 댓글만 반환한다")
+    void should_returnLikedCommentsAndFillMisses_when_getMyLikedCommentIds() {
+        // given
+        when(userReactionRedisRepository.findCommentLikes(1L, List.of(1L, 2L, 3L)))
+                .thenReturn(Map.of(1L, true));
+        when(commentLikeJpaRepository.findLikedCommentIds(1L, List.of(2L, 3L))).thenReturn(List.of(3L));
+
+        // when
+        Set<Long> result = reactionReadService.getMyLikedCommentIds(1L, List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(result).containsExactly(1L, 3L);
+        Map<Long, Boolean> filled = new HashMap<>();
+        filled.put(2L, false);
+        filled.put(3L, true);
+        verify(userReactionRedisRepository).fillCommentLikes(1L, filled);
+    }
+
+    @Test
+    @DisplayName("빈 id 목록이면 Redis와 DB를 조회하지 않는다")
+    void should_returnEmpty_when_noIds() {
+        // when
+        Map<Long, String> emotions = reactionReadService.getMyEmotions(1L, List.of());
+        Set<Long> likedCommentIds = reactionReadService.getMyLikedCommentIds(1L, List.of());
+
+        // then
+        assertThat(emotions).isEmpty();
+        assertThat(likedCommentIds).isEmpty();
+        verifyNoInteractions(userReactionRedisRepository, emotionJpaRepository, commentLikeJpaRepository);
+    }
+}